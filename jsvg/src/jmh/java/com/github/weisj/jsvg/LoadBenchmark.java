@@ -31,13 +31,18 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.infra.Blackhole;
 
+import com.github.weisj.jsvg.parser.LoaderContext;
 import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.parser.XMLReaderMode;
 import com.kitfox.svg.SVGDiagram;
 import com.kitfox.svg.SVGUniverse;
 
 public final class LoadBenchmark {
 
     private static final String SVG_IMAGE = "benchmark_image.svg";
+    private static final LoaderContext CURSOR_LOADER_CONTEXT = LoaderContext.builder()
+            .xmlReaderMode(XMLReaderMode.CURSOR)
+            .build();
 
     @Benchmark
     @Fork(value = 1)
@@ -48,6 +53,16 @@ public final class LoadBenchmark {
         blackhole.consume(document);
     }
 
+    @Benchmark
+    @Fork(value = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    public void jsvgCursorLoading(@NotNull Blackhole blackhole) {
+        SVGDocument document = new SVGLoader()
+                .load(Objects.requireNonNull(LoadBenchmark.class.getResourceAsStream(SVG_IMAGE)), null,
+                        CURSOR_LOADER_CONTEXT);
+        blackhole.consume(document);
+    }
+
     @Benchmark
     @Fork(value = 1)
     @BenchmarkMode(Mode.AverageTime)
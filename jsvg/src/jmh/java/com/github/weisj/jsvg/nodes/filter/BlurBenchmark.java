@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.WritableRaster;
+import java.util.Random;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the serial three pass box blur with {@link ParallelBoxBlurFilter} for a large blur on a
+ * 4K image.
+ */
+@State(Scope.Benchmark)
+public class BlurBenchmark {
+    private static final int WIDTH = 3840;
+    private static final int HEIGHT = 2160;
+
+    @Param({"20", "50"})
+    public double sigma;
+
+    private int[] source;
+    private BufferedImage image;
+    private int diameter;
+
+    @Setup(Level.Trial)
+    public void createImage() {
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
+        Random random = new Random(0);
+        source = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < source.length; i++) {
+            int a = random.nextInt(256);
+            int c = random.nextInt(a + 1);
+            source[i] = (a << 24) | (c << 16) | (c << 8) | c;
+        }
+        diameter = FeGaussianBlur.kernelDiameterForStandardDeviation(sigma);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetImage() {
+        int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        System.arraycopy(source, 0, data, 0, source.length);
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    public void serialBoxBlur(@NotNull Blackhole blackhole) {
+        WritableRaster raster = image.getRaster();
+        serialPasses(raster, diameter, true);
+        serialPasses(raster, diameter, false);
+        blackhole.consume(image);
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    public void parallelBoxBlur(@NotNull Blackhole blackhole) {
+        WritableRaster raster = image.getRaster();
+        ParallelBoxBlurFilter.horizontalBlur(raster, diameter);
+        ParallelBoxBlurFilter.verticalBlur(raster, diameter);
+        blackhole.consume(image);
+    }
+
+    private static void serialPasses(@NotNull WritableRaster raster, int d, boolean horizontal) {
+        int[] boxSizes = (d & 0x01) == 0 ? new int[] {d, d, d + 1} : new int[] {d, d, d};
+        int[] locations = (d & 0x01) == 0 ? new int[] {d / 2, d / 2 - 1, d / 2} : new int[] {d / 2, d / 2, d / 2};
+        for (int i = 0; i < boxSizes.length; i++) {
+            if (horizontal) {
+                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, boxSizes[i], locations[i]);
+            } else {
+                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, boxSizes[i], locations[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import java.awt.*;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.ViewBox;
+import com.github.weisj.jsvg.renderer.AnimationState;
+import com.github.weisj.jsvg.renderer.RecordedDrawing;
+import com.github.weisj.jsvg.renderer.awt.NullPlatformSupport;
+
+/**
+ * The recorded draw operations of a {@link SVGDocument}. A display list is immutable and can be
+ * rendered concurrently.
+ * <p>
+ * Rendering a display list is equivalent to rendering the document with the same bounds, where the
+ * current transform of the {@link Graphics2D} is used as the base transform. Content which has to
+ * be rasterized (e.g. masks and filters) is recorded with the identity transform. If the display
+ * list contains such content and is rendered with a different transform, the document is rendered
+ * normally instead.
+ *
+ * @see SVGDocument#compile(ViewBox, RenderingHints, AnimationState)
+ */
+@ApiStatus.Experimental
+public final class DisplayList {
+    private final @NotNull SVGDocument document;
+    private final @Nullable ViewBox bounds;
+    private final @Nullable RenderingHints hints;
+    private final @Nullable AnimationState animationState;
+    private final @NotNull RecordedDrawing drawing;
+
+    DisplayList(@NotNull SVGDocument document, @Nullable ViewBox bounds, @Nullable RenderingHints hints,
+            @Nullable AnimationState animationState, @NotNull RecordedDrawing drawing) {
+        this.document = document;
+        this.bounds = bounds;
+        this.hints = hints != null ? (RenderingHints) hints.clone() : null;
+        this.animationState = animationState;
+        this.drawing = drawing;
+    }
+
+    /**
+     * @return true if the display list can be rendered with an arbitrary transform without falling
+     *         back to rendering the document.
+     */
+    public boolean isTransformIndependent() {
+        return !drawing.isDeviceDependent();
+    }
+
+    public void render(@NotNull Graphics2D graphics2D) {
+        Graphics2D g = (Graphics2D) graphics2D.create();
+        if (hints != null) g.addRenderingHints(hints);
+        if (drawing.isDeviceDependent() && !g.getTransform().isIdentity()) {
+            document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, bounds, animationState);
+        } else {
+            SVGDocument.setupSVGRenderingHints(g);
+            drawing.paint(g);
+        }
+        g.dispose();
+    }
+}
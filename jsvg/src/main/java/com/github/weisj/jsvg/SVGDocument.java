@@ -24,9 +24,16 @@ package com.github.weisj.jsvg;
 import java.awt.*;
 import java.awt.geom.Area;
 import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 import javax.swing.*;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -36,15 +43,32 @@ import com.github.weisj.jsvg.attributes.font.SVGFont;
 import com.github.weisj.jsvg.geometry.size.FloatSize;
 import com.github.weisj.jsvg.geometry.size.MeasureContext;
 import com.github.weisj.jsvg.nodes.SVG;
+import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.nodes.filter.TurbulenceTileCache;
 import com.github.weisj.jsvg.renderer.*;
 import com.github.weisj.jsvg.renderer.awt.AwtComponentPlatformSupport;
 import com.github.weisj.jsvg.renderer.awt.NullPlatformSupport;
 import com.github.weisj.jsvg.renderer.awt.PlatformSupport;
+import com.github.weisj.jsvg.util.LazyProvider;
+import com.github.weisj.jsvg.util.SpatialIndex;
 
+/**
+ * A loaded svg document. Once loaded a document is immutable and may be rendered concurrently from
+ * multiple threads, as long as each thread uses its own {@link Graphics2D} or {@link Output}.
+ */
 public final class SVGDocument {
     private static final boolean DEBUG = false;
     private final @NotNull SVG root;
     private final @NotNull FloatSize size;
+    private volatile @Nullable SpatialIndex<SVGNode> elementIndex;
+    private final @NotNull LazyProvider<FilterResultCache> filterResultCache =
+            new LazyProvider<>(() -> new FilterResultCache(FilterResultCache.DEFAULT_MAXIMUM_BYTES));
+    private final @NotNull LazyProvider<MaskRasterCache> maskRasterCache =
+            new LazyProvider<>(() -> new MaskRasterCache(MaskRasterCache.DEFAULT_MAXIMUM_BYTES));
+    private final @NotNull LazyProvider<PatternTileCache> patternTileCache =
+            new LazyProvider<>(() -> new PatternTileCache(PatternTileCache.DEFAULT_MAXIMUM_BYTES));
+    private final @NotNull LazyProvider<TurbulenceTileCache> turbulenceTileCache =
+            new LazyProvider<>(() -> new TurbulenceTileCache(TurbulenceTileCache.DEFAULT_MAXIMUM_BYTES));
 
     public SVGDocument(@NotNull SVG root) {
         this.root = root;
@@ -70,6 +94,111 @@ public final class SVGDocument {
         return accumulator;
     }
 
+    /**
+     * Find all elements whose bounds contain the given point. The bounds include the stroke of the
+     * element. Coordinates are given in the coordinate system of the document rendered at its
+     * natural size. Animations aren't taken into account.
+     *
+     * @param point the point to test.
+     * @return the elements at the given point. Elements painted last come first.
+     */
+    @ApiStatus.Experimental
+    public @NotNull List<@NotNull SVGNode> elementsAt(@NotNull Point2D point) {
+        return reversed(elementIndex().containing(point));
+    }
+
+    /**
+     * Find all elements whose bounds intersect the given area. The bounds include the stroke of the
+     * element. Coordinates are given in the coordinate system of the document rendered at its
+     * natural size. Animations aren't taken into account.
+     *
+     * @param area the area to test.
+     * @return the elements intersecting the area. Elements painted last come first.
+     */
+    @ApiStatus.Experimental
+    public @NotNull List<@NotNull SVGNode> elementsIntersecting(@NotNull Rectangle2D area) {
+        return reversed(elementIndex().intersecting(area));
+    }
+
+    private static @NotNull List<@NotNull SVGNode> reversed(@NotNull List<@NotNull SVGNode> nodes) {
+        Collections.reverse(nodes);
+        return nodes;
+    }
+
+    private @NotNull SpatialIndex<SVGNode> elementIndex() {
+        SpatialIndex<SVGNode> index = elementIndex;
+        if (index == null) {
+            // Note: Building the index concurrently is harmless, as the result is always the same.
+            ElementBoundsOutput output = new ElementBoundsOutput();
+            renderWithPlatform(NullPlatformSupport.INSTANCE, output, null);
+            index = output.createIndex();
+            elementIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Release all filter results cached while rendering with
+     * {@link SVGRenderingHints#KEY_FILTER_RESULT_CACHE} enabled.
+     */
+    @ApiStatus.Experimental
+    public void clearFilterResultCache() {
+        FilterResultCache cache = filterResultCache.getIfPresent();
+        if (cache != null) cache.clear();
+    }
+
+    @NotNull
+    FilterResultCache filterResultCache() {
+        return filterResultCache.get();
+    }
+
+    /**
+     * Release all mask and clip path contents cached while rendering with
+     * {@link SVGRenderingHints#KEY_MASK_RASTER_CACHE} enabled. This has to be called if a mask
+     * should be rendered again although none of the parameters it is cached by changed.
+     */
+    @ApiStatus.Experimental
+    public void clearMaskRasterCache() {
+        MaskRasterCache cache = maskRasterCache.getIfPresent();
+        if (cache != null) cache.clear();
+    }
+
+    @NotNull
+    MaskRasterCache maskRasterCache() {
+        return maskRasterCache.get();
+    }
+
+    /**
+     * Release all pattern tiles cached while rendering with
+     * {@link SVGRenderingHints#KEY_PATTERN_TILE_CACHE} enabled. This has to be called if a pattern
+     * should be rendered again although none of the parameters it is cached by changed.
+     */
+    @ApiStatus.Experimental
+    public void clearPatternTileCache() {
+        PatternTileCache cache = patternTileCache.getIfPresent();
+        if (cache != null) cache.clear();
+    }
+
+    @NotNull
+    PatternTileCache patternTileCache() {
+        return patternTileCache.get();
+    }
+
+    /**
+     * Release all turbulence cached while rendering with
+     * {@link SVGRenderingHints#KEY_TURBULENCE_TILE_CACHE} enabled.
+     */
+    @ApiStatus.Experimental
+    public void clearTurbulenceTileCache() {
+        TurbulenceTileCache cache = turbulenceTileCache.getIfPresent();
+        if (cache != null) cache.clear();
+    }
+
+    @NotNull
+    TurbulenceTileCache turbulenceTileCache() {
+        return turbulenceTileCache.get();
+    }
+
     public boolean isAnimated() {
         return root.animationPeriod().duration() > 0;
     }
@@ -100,13 +229,66 @@ public final class SVGDocument {
 
     public void renderWithPlatform(@NotNull PlatformSupport platformSupport, @NotNull Graphics2D graphics2D,
             @Nullable ViewBox bounds) {
+        renderWithPlatform(platformSupport, graphics2D, bounds, null);
+    }
+
+    public void renderWithPlatform(@NotNull PlatformSupport platformSupport, @NotNull Graphics2D graphics2D,
+            @Nullable ViewBox bounds, @Nullable AnimationState animationState) {
         Graphics2D g = (Graphics2D) graphics2D.create();
         setupSVGRenderingHints(g);
         Output output = new Graphics2DOutput(g);
-        renderWithPlatform(platformSupport, output, bounds);
+        renderWithPlatform(platformSupport, output, bounds, animationState);
         output.dispose();
     }
 
+    /**
+     * Render the document scaled to the given size. The image is split into tiles, which are
+     * rendered in parallel using the common {@link java.util.concurrent.ForkJoinPool}.
+     * Use {@link TiledRenderer} directly for more control.
+     *
+     * @param width the width of the resulting image.
+     * @param height the height of the resulting image.
+     * @return the rendered image.
+     */
+    @ApiStatus.Experimental
+    public @NotNull BufferedImage renderTiled(int width, int height) {
+        return new TiledRenderer(this).render(width, height);
+    }
+
+    /**
+     * Record the draw operations of the document into a {@link DisplayList}, which can be rendered
+     * repeatedly without traversing the document again.
+     *
+     * @param bounds the bounds the document is rendered in. If null the size of the document is
+     *        used.
+     * @return the compiled display list.
+     * @see #compile(ViewBox, RenderingHints, AnimationState)
+     */
+    @ApiStatus.Experimental
+    public @NotNull DisplayList compile(@Nullable ViewBox bounds) {
+        return compile(bounds, null, null);
+    }
+
+    /**
+     * Record the draw operations of the document into a {@link DisplayList}, which can be rendered
+     * repeatedly without traversing the document again. Font relative sizes are resolved against
+     * the default font size.
+     *
+     * @param bounds the bounds the document is rendered in. If null the size of the document is
+     *        used.
+     * @param hints rendering hints which should be used during recording and replaying e.g.
+     *        {@link SVGRenderingHints#KEY_SOFT_CLIPPING}.
+     * @param animationState the animation state to record. If null no animation is applied.
+     * @return the compiled display list.
+     */
+    @ApiStatus.Experimental
+    public @NotNull DisplayList compile(@Nullable ViewBox bounds, @Nullable RenderingHints hints,
+            @Nullable AnimationState animationState) {
+        DisplayListOutput output = new DisplayListOutput(hints);
+        renderWithPlatform(NullPlatformSupport.INSTANCE, output, bounds, animationState);
+        return new DisplayList(this, bounds, hints, animationState, output.toRecordedDrawing());
+    }
+
     public void renderWithPlatform(@NotNull PlatformSupport platformSupport, @NotNull Output output,
             @Nullable ViewBox bounds) {
         renderWithPlatform(platformSupport, output, bounds, null);
@@ -115,6 +297,14 @@ public final class SVGDocument {
     public void renderWithPlatform(@NotNull PlatformSupport platformSupport, @NotNull Output output,
             @Nullable ViewBox bounds, @Nullable AnimationState animationState) {
         RenderContext context = prepareRenderContext(platformSupport, output, bounds, animationState);
+        installCacheIfEnabled(context, output, SVGRenderingHints.KEY_FILTER_RESULT_CACHE,
+                SVGRenderingHints.VALUE_FILTER_RESULT_CACHE_ON, filterResultCache, FilterResultCache::install);
+        installCacheIfEnabled(context, output, SVGRenderingHints.KEY_MASK_RASTER_CACHE,
+                SVGRenderingHints.VALUE_MASK_RASTER_CACHE_ON, maskRasterCache, MaskRasterCache::install);
+        installCacheIfEnabled(context, output, SVGRenderingHints.KEY_PATTERN_TILE_CACHE,
+                SVGRenderingHints.VALUE_PATTERN_TILE_CACHE_ON, patternTileCache, PatternTileCache::install);
+        installCacheIfEnabled(context, output, SVGRenderingHints.KEY_TURBULENCE_TILE_CACHE,
+                SVGRenderingHints.VALUE_TURBULENCE_TILE_CACHE_ON, turbulenceTileCache, TurbulenceTileCache::install);
 
         if (bounds == null) bounds = new ViewBox(root.size(context));
 
@@ -151,7 +341,16 @@ public final class SVGDocument {
         return context;
     }
 
-    private void setupSVGRenderingHints(@NotNull Graphics2D g) {
+    private static <T> void installCacheIfEnabled(@NotNull RenderContext context, @NotNull Output output,
+            @NotNull RenderingHints.Key key, @NotNull Object enabledValue, @NotNull LazyProvider<T> cache,
+            @NotNull BiConsumer<T, RenderContext> install) {
+        // Note: The cache is only created once a render actually asks for it.
+        if (output.renderingHint(key) == enabledValue) {
+            install.accept(cache.get(), context);
+        }
+    }
+
+    static void setupSVGRenderingHints(@NotNull Graphics2D g) {
         Object aaHint = g.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
         if (aaHint != RenderingHints.VALUE_ANTIALIAS_DEFAULT) {
             setSVGRenderingHint(g,
@@ -170,7 +369,7 @@ public final class SVGDocument {
                 SVGRenderingHints.VALUE_MASK_CLIP_RENDERING_DEFAULT);
     }
 
-    private void setSVGRenderingHint(@NotNull Graphics2D g, @NotNull RenderingHints.Key key, @NotNull Object o) {
+    private static void setSVGRenderingHint(@NotNull Graphics2D g, @NotNull RenderingHints.Key key, @NotNull Object o) {
         if (g.getRenderingHint(key) == null) {
             g.setRenderingHint(key, o);
         }
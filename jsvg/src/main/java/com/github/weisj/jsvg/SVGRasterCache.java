@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.ViewBox;
+import com.github.weisj.jsvg.renderer.AnimationState;
+import com.github.weisj.jsvg.renderer.awt.NullPlatformSupport;
+import com.github.weisj.jsvg.util.BoundedImageCache;
+
+/**
+ * A cache for rasterized {@link SVGDocument}s. Images are keyed by the identity of the document,
+ * the rendered bounds, the device scale, the animation state and the rendering hints.
+ * <p>
+ * The size of the cache is bounded by the number of bytes occupied by the pixels of the cached
+ * images. If the bound is exceeded the least recently used images are evicted. The cache is safe to
+ * use from multiple threads. Images returned by the cache are shared and must not be modified.
+ */
+@ApiStatus.Experimental
+public final class SVGRasterCache {
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final @NotNull BoundedImageCache<Key> cache;
+
+    /**
+     * @param maximumBytes the maximum number of bytes the pixels of the cached images may occupy.
+     */
+    public SVGRasterCache(long maximumBytes) {
+        this.cache = new BoundedImageCache<>(maximumBytes, BYTES_PER_PIXEL);
+    }
+
+    public long maximumBytes() {
+        return cache.maximumBytes();
+    }
+
+    public long currentBytes() {
+        return cache.currentBytes();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public @NotNull BufferedImage getImage(@NotNull SVGDocument document, @Nullable ViewBox bounds, double scale) {
+        return getImage(document, bounds, scale, null, null);
+    }
+
+    /**
+     * Get the rasterized image of the document. If no matching image is cached the document is
+     * rendered and the result is added to the cache.
+     *
+     * @param document the document to render.
+     * @param bounds the bounds the document is rendered in. If null the size of the document is
+     *        used.
+     * @param scale the device scale. The resulting image has the size of the bounds multiplied by
+     *        the scale.
+     * @param hints the rendering hints to render the document with.
+     * @param animationState the animation state to render. If null no animation is applied.
+     * @return the rendered image. The image must not be modified.
+     */
+    public @NotNull BufferedImage getImage(@NotNull SVGDocument document, @Nullable ViewBox bounds, double scale,
+            @Nullable RenderingHints hints, @Nullable AnimationState animationState) {
+        if (!(scale > 0)) throw new IllegalArgumentException("Scale must be positive: " + scale);
+        ViewBox viewBox = bounds != null ? bounds : new ViewBox(document.size());
+        AnimationState animState = animationState != null ? animationState : AnimationState.NO_ANIMATION;
+        Key key = new Key(document, viewBox, scale, animState, hints);
+
+        BufferedImage image = cache.get(key);
+        if (image != null) return image;
+        // If another thread rendered the same image concurrently its result is used.
+        return cache.putIfAbsent(key, render(document, viewBox, scale, hints, animState));
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, @NotNull ViewBox bounds,
+            double scale, @Nullable RenderingHints hints, @NotNull AnimationState animationState) {
+        int width = Math.max(1, (int) Math.ceil(bounds.width * scale));
+        int height = Math.max(1, (int) Math.ceil(bounds.height * scale));
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        if (hints != null) g.addRenderingHints(hints);
+        g.scale(scale, scale);
+        g.translate(-bounds.x, -bounds.y);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, bounds, animationState);
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * Remove all images of the given document from the cache.
+     *
+     * @param document the document.
+     */
+    public void invalidate(@NotNull SVGDocument document) {
+        cache.removeIf(key -> key.document == document);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public @NotNull Statistics statistics() {
+        return new Statistics(cache.hitCount(), cache.missCount(), cache.evictionCount(), cache.currentBytes(),
+                cache.size());
+    }
+
+    public static final class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long currentBytes;
+        private final int size;
+
+        private Statistics(long hitCount, long missCount, long evictionCount, long currentBytes, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.currentBytes = currentBytes;
+            this.size = size;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        public long currentBytes() {
+            return currentBytes;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", evictionCount=" + evictionCount +
+                    ", currentBytes=" + currentBytes +
+                    ", size=" + size +
+                    '}';
+        }
+    }
+
+    private static final class Key {
+        private final @NotNull SVGDocument document;
+        private final float x;
+        private final float y;
+        private final float width;
+        private final float height;
+        private final double scale;
+        private final @NotNull AnimationState animationState;
+        private final @Nullable RenderingHints hints;
+        private final int hashCode;
+
+        private Key(@NotNull SVGDocument document, @NotNull ViewBox bounds, double scale,
+                @NotNull AnimationState animationState, @Nullable RenderingHints hints) {
+            this.document = document;
+            this.x = bounds.x;
+            this.y = bounds.y;
+            this.width = bounds.width;
+            this.height = bounds.height;
+            this.scale = scale;
+            this.animationState = animationState;
+            this.hints = hints != null && !hints.isEmpty() ? (RenderingHints) hints.clone() : null;
+            this.hashCode = Objects.hash(System.identityHashCode(document), x, y, width, height, scale,
+                    animationState, this.hints);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return document == key.document
+                    && Float.compare(x, key.x) == 0
+                    && Float.compare(y, key.y) == 0
+                    && Float.compare(width, key.width) == 0
+                    && Float.compare(height, key.height) == 0
+                    && Double.compare(scale, key.scale) == 0
+                    && animationState.equals(key.animationState)
+                    && Objects.equals(hints, key.hints);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
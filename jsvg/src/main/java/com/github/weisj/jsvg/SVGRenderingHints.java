@@ -32,6 +32,10 @@ public final class SVGRenderingHints {
     private static final int P_KEY_SOFT_CLIPPING = 2;
     private static final int P_KEY_CACHE_OFFSCREEN_IMAGE = 3;
     private static final int P_KEY_MASK_CLIP_RENDERING = 4;
+    private static final int P_KEY_FILTER_RESULT_CACHE = 5;
+    private static final int P_KEY_MASK_RASTER_CACHE = 6;
+    private static final int P_KEY_PATTERN_TILE_CACHE = 7;
+    private static final int P_KEY_TURBULENCE_TILE_CACHE = 8;
 
     public static final RenderingHints.Key KEY_IMAGE_ANTIALIASING = new Key(P_KEY_IMAGE_ANTIALIASING);
     public static final Object VALUE_IMAGE_ANTIALIASING_ON = Value.ON;
@@ -50,6 +54,52 @@ public final class SVGRenderingHints {
     public static final Object VALUE_USE_CACHE = Value.ON;
     public static final Object VALUE_NO_CACHE = Value.OFF;
 
+    /**
+     * Whether the results of filters are cached across render passes of a document. If enabled an
+     * unchanged filtered element is painted by blitting the result of a previous pass, as long as
+     * it is rendered with the same transform (up to a translation by whole pixels), clip, animation
+     * state and rendering hints. The memory used by the cache is bounded and may be released using
+     * {@link SVGDocument#clearFilterResultCache()}.
+     */
+    public static final RenderingHints.Key KEY_FILTER_RESULT_CACHE = new Key(P_KEY_FILTER_RESULT_CACHE);
+    public static final Object VALUE_FILTER_RESULT_CACHE_ON = Value.ON;
+    public static final Object VALUE_FILTER_RESULT_CACHE_OFF = Value.OFF;
+    public static final Object VALUE_FILTER_RESULT_CACHE_DEFAULT = VALUE_FILTER_RESULT_CACHE_OFF;
+
+    /**
+     * Whether the rendered content of masks and soft clip paths is cached across render passes of
+     * a document. If enabled a mask is only rendered again if the masked element, the transform (up
+     * to a translation by whole pixels), clip, animation state or rendering hints change. The
+     * memory used by the cache is bounded and may be released using
+     * {@link SVGDocument#clearMaskRasterCache()}.
+     */
+    public static final RenderingHints.Key KEY_MASK_RASTER_CACHE = new Key(P_KEY_MASK_RASTER_CACHE);
+    public static final Object VALUE_MASK_RASTER_CACHE_ON = Value.ON;
+    public static final Object VALUE_MASK_RASTER_CACHE_OFF = Value.OFF;
+    public static final Object VALUE_MASK_RASTER_CACHE_DEFAULT = VALUE_MASK_RASTER_CACHE_OFF;
+
+    /**
+     * Whether the rendered tiles of patterns are cached. If enabled a pattern used by many elements
+     * is only rendered once and only again if the transform (up to a translation by whole pixels),
+     * tile bounds, animation state or rendering hints change. The memory used by the cache is
+     * bounded and may be released using {@link SVGDocument#clearPatternTileCache()}.
+     */
+    public static final RenderingHints.Key KEY_PATTERN_TILE_CACHE = new Key(P_KEY_PATTERN_TILE_CACHE);
+    public static final Object VALUE_PATTERN_TILE_CACHE_ON = Value.ON;
+    public static final Object VALUE_PATTERN_TILE_CACHE_OFF = Value.OFF;
+    public static final Object VALUE_PATTERN_TILE_CACHE_DEFAULT = VALUE_PATTERN_TILE_CACHE_OFF;
+
+    /**
+     * Whether the noise generated by feTurbulence primitives is cached across render passes of a
+     * document. If enabled the noise is only generated again if its parameters or the pixel grid it
+     * is evaluated on change. The memory used by the cache is bounded and may be released using
+     * {@link SVGDocument#clearTurbulenceTileCache()}.
+     */
+    public static final RenderingHints.Key KEY_TURBULENCE_TILE_CACHE = new Key(P_KEY_TURBULENCE_TILE_CACHE);
+    public static final Object VALUE_TURBULENCE_TILE_CACHE_ON = Value.ON;
+    public static final Object VALUE_TURBULENCE_TILE_CACHE_OFF = Value.OFF;
+    public static final Object VALUE_TURBULENCE_TILE_CACHE_DEFAULT = VALUE_TURBULENCE_TILE_CACHE_OFF;
+
     private static final class Key extends RenderingHints.Key {
         /**
          * Construct a key using the indicated private key.  Each
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.ViewBox;
+import com.github.weisj.jsvg.renderer.AnimationState;
+import com.github.weisj.jsvg.renderer.awt.NullPlatformSupport;
+
+/**
+ * Renders a {@link SVGDocument} into an image by splitting the target area into tiles, which are
+ * rendered in parallel and stitched together afterwards. Each tile is rendered with its own clip,
+ * hence elements outside the tile can be skipped.
+ * <p>
+ * Effects which sample their surroundings (e.g. blurs or offsets of filters) only see the
+ * content of the tile they are rendered in. To reduce seams each tile is rendered with an
+ * additional overlap on each side, which is discarded when stitching.
+ */
+@ApiStatus.Experimental
+public final class TiledRenderer {
+    public static final int DEFAULT_TILE_SIZE = 256;
+    public static final int DEFAULT_TILE_OVERLAP = 32;
+
+    private final @NotNull SVGDocument document;
+    private final int tileSize;
+    private final int tileOverlap;
+    private final @NotNull Executor executor;
+
+    public TiledRenderer(@NotNull SVGDocument document) {
+        this(document, DEFAULT_TILE_SIZE, DEFAULT_TILE_OVERLAP, null);
+    }
+
+    public TiledRenderer(@NotNull SVGDocument document, int tileSize, @Nullable Executor executor) {
+        this(document, tileSize, DEFAULT_TILE_OVERLAP, executor);
+    }
+
+    /**
+     * @param document the document to render.
+     * @param tileSize the width and height of a single tile in pixels.
+     * @param tileOverlap the number of pixels each tile is extended by on every side while
+     *        rendering.
+     * @param executor the executor used to render the tiles. If null the common
+     *        {@link ForkJoinPool} is used.
+     */
+    public TiledRenderer(@NotNull SVGDocument document, int tileSize, int tileOverlap,
+            @Nullable Executor executor) {
+        if (tileSize <= 0) throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        if (tileOverlap < 0) throw new IllegalArgumentException("Tile overlap must not be negative: " + tileOverlap);
+        this.document = document;
+        this.tileSize = tileSize;
+        this.tileOverlap = tileOverlap;
+        this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
+    public @NotNull BufferedImage render(int width, int height) {
+        return render(width, height, null, null);
+    }
+
+    /**
+     * Render the document scaled to the given size.
+     *
+     * @param width the width of the resulting image.
+     * @param height the height of the resulting image.
+     * @param hints additional rendering hints applied to each tile.
+     * @param animationState the animation state to render. If null no animation is applied.
+     * @return the rendered image.
+     */
+    public @NotNull BufferedImage render(int width, int height, @Nullable RenderingHints hints,
+            @Nullable AnimationState animationState) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid image size " + width + "x" + height);
+        }
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ViewBox bounds = new ViewBox(0, 0, width, height);
+
+        List<CompletableFuture<Void>> tiles = new ArrayList<>();
+        for (int y = 0; y < height; y += tileSize) {
+            for (int x = 0; x < width; x += tileSize) {
+                Rectangle tile = new Rectangle(x, y, Math.min(tileSize, width - x), Math.min(tileSize, height - y));
+                tiles.add(CompletableFuture.runAsync(
+                        () -> renderTile(result, tile, bounds, hints, animationState), executor));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(tiles.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+        return result;
+    }
+
+    private void renderTile(@NotNull BufferedImage target, @NotNull Rectangle tile, @NotNull ViewBox bounds,
+            @Nullable RenderingHints hints, @Nullable AnimationState animationState) {
+        Rectangle area = new Rectangle(tile);
+        area.grow(tileOverlap, tileOverlap);
+        area = area.intersection(new Rectangle(0, 0, target.getWidth(), target.getHeight()));
+
+        BufferedImage tileImage = new BufferedImage(area.width, area.height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = tileImage.createGraphics();
+        if (hints != null) g.addRenderingHints(hints);
+        g.translate(-area.x, -area.y);
+        g.clipRect(area.x, area.y, area.width, area.height);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, bounds, animationState);
+        g.dispose();
+
+        Raster content = tileImage.getRaster().createChild(
+                tile.x - area.x, tile.y - area.y, tile.width, tile.height, 0, 0, null);
+        // Tiles are disjoint, but the raster of the target isn't safe for concurrent modification.
+        synchronized (target) {
+            target.getRaster().setDataElements(tile.x, tile.y, content);
+        }
+    }
+}
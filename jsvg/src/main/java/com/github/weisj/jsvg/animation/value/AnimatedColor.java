@@ -42,8 +42,7 @@ public class AnimatedColor implements SVGPaint {
     private final @Nullable Color initial;
     private final Color[] values;
 
-    private Color current;
-    private long currentTimestamp = -1;
+    private volatile @Nullable TimestampedValue<Color> current;
 
     public AnimatedColor(@NotNull Track track, @Nullable Color initial, @NotNull Color[] values) {
         this.track = track;
@@ -68,10 +67,12 @@ public class AnimatedColor implements SVGPaint {
 
     private @NotNull Color current(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (currentTimestamp == timestamp) return current;
-        currentTimestamp = timestamp;
-        current = computeCurrent(timestamp);
-        return current;
+        TimestampedValue<Color> cached = current;
+        if (cached == null || !cached.isValidFor(timestamp)) {
+            cached = new TimestampedValue<>(timestamp, computeCurrent(timestamp));
+            current = cached;
+        }
+        return cached.value();
     }
 
     private @NotNull Color computeCurrent(long timestamp) {
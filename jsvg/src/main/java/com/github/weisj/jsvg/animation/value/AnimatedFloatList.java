@@ -23,6 +23,7 @@ package com.github.weisj.jsvg.animation.value;
 
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.animation.Track;
 import com.github.weisj.jsvg.attributes.value.FloatListValue;
@@ -34,10 +35,7 @@ public final class AnimatedFloatList implements FloatListValue {
 
     private final float[] initial;
     private final float[][] values;
-    private float[] cache;
-
-    private long timestamp = 0;
-    private Track.InterpolationProgress progressCacheKey = null;
+    private volatile @Nullable CachedValue cache;
 
     public AnimatedFloatList(@NotNull Track track, float @NotNull [] initial, float @NotNull [] @NotNull [] values) {
         this.track = track;
@@ -49,34 +47,43 @@ public final class AnimatedFloatList implements FloatListValue {
         return initial;
     }
 
-    public boolean isDirty(long timestamp) {
-        return this.timestamp != timestamp;
-    }
-
     @Override
     public float @NotNull [] get(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (timestamp != this.timestamp) {
-            this.timestamp = timestamp;
-            Track.InterpolationProgress progress = track.interpolationProgress(timestamp, values.length);
+        CachedValue cached = cache;
+        if (cached != null && cached.timestamp == timestamp) return cached.value;
+
+        Track.InterpolationProgress progress = track.interpolationProgress(timestamp, values.length);
+        if (cached == null || !progress.equals(cached.progress)) {
+            cached = new CachedValue(timestamp, progress, computeValue(progress));
+        } else {
+            cached = new CachedValue(timestamp, progress, cached.value);
+        }
+        cache = cached;
+        return cached.value;
+    }
 
-            if (progress.equals(progressCacheKey)) {
-                return cache;
-            }
-            progressCacheKey = progress;
+    private float @NotNull [] computeValue(@NotNull Track.InterpolationProgress progress) {
+        if (progress.isInitial()) return initial;
 
-            if (progress.isInitial()) {
-                cache = initial;
-                return cache;
-            }
+        int index = progress.iterationIndex();
+        float[] start = values[index];
+        float[] end = index == values.length - 1 ? null : values[index + 1];
 
-            int index = progress.iterationIndex();
-            float[] start = values[index];
-            float[] end = index == values.length - 1 ? null : values[index + 1];
+        float fraction = progress.indexProgress();
+        // Don't reuse the previous result. It may still be in use by a concurrent render.
+        return track.floatListInterpolator().interpolate(initial, start, end, fraction, null);
+    }
 
-            float fraction = progress.indexProgress();
-            cache = track.floatListInterpolator().interpolate(initial, start, end, fraction, cache);
+    private static final class CachedValue {
+        private final long timestamp;
+        private final @NotNull Track.InterpolationProgress progress;
+        private final float @NotNull [] value;
+
+        private CachedValue(long timestamp, @NotNull Track.InterpolationProgress progress, float @NotNull [] value) {
+            this.timestamp = timestamp;
+            this.progress = progress;
+            this.value = value;
         }
-        return cache;
     }
 }
@@ -39,8 +39,7 @@ public class AnimatedPaint implements SVGPaint {
     private final SVGPaint initial;
     private final SVGPaint[] values;
 
-    private SVGPaint current;
-    private long currentTimestamp = -1;
+    private volatile @Nullable TimestampedValue<SVGPaint> current;
 
     public AnimatedPaint(Track track, SVGPaint initial, SVGPaint[] values) {
         this.track = track;
@@ -55,10 +54,12 @@ public class AnimatedPaint implements SVGPaint {
 
     private @NotNull SVGPaint current(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (currentTimestamp == timestamp) return current;
-        currentTimestamp = timestamp;
-        current = computeCurrent(timestamp);
-        return current;
+        TimestampedValue<SVGPaint> cached = current;
+        if (cached == null || !cached.isValidFor(timestamp)) {
+            cached = new TimestampedValue<>(timestamp, computeCurrent(timestamp));
+            current = cached;
+        }
+        return cached.value();
     }
 
     private @NotNull SVGPaint computeCurrent(long timestamp) {
@@ -33,7 +33,7 @@ import com.github.weisj.jsvg.util.PathUtil;
 public final class AnimatedPath implements Value<@NotNull Path2D> {
 
     private final AnimatedFloatList list;
-    private @Nullable Path2D cache;
+    private volatile @Nullable TimestampedValue<Path2D> cache;
     private final boolean closed;
 
     public AnimatedPath(@NotNull AnimatedFloatList list, boolean closed) {
@@ -43,9 +43,13 @@ public final class AnimatedPath implements Value<@NotNull Path2D> {
 
     @Override
     public @NotNull Path2D get(@NotNull MeasureContext context) {
-        if (cache == null || list.isDirty(context.timestamp())) {
-            cache = PathUtil.setPolyLine(cache, list.get(context), closed);
+        long timestamp = context.timestamp();
+        TimestampedValue<Path2D> cached = cache;
+        if (cached == null || !cached.isValidFor(timestamp)) {
+            // Always create a new path. The previous one may still be in use by a concurrent render.
+            cached = new TimestampedValue<>(timestamp, PathUtil.setPolyLine(null, list.get(context), closed));
+            cache = cached;
         }
-        return cache;
+        return cached.value();
     }
 }
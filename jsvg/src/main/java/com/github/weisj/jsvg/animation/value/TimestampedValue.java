@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.animation.value;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable pairing of a computed animation value with the timestamp it was computed for.
+ * Used to cache animated values in a way which is safe to share between concurrent renders.
+ */
+final class TimestampedValue<T> {
+    private final long timestamp;
+    private final @NotNull T value;
+
+    TimestampedValue(long timestamp, @NotNull T value) {
+        this.timestamp = timestamp;
+        this.value = value;
+    }
+
+    boolean isValidFor(long timestamp) {
+        return this.timestamp == timestamp;
+    }
+
+    @NotNull
+    T value() {
+        return value;
+    }
+}
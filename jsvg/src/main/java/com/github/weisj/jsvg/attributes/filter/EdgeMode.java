@@ -87,7 +87,7 @@ public enum EdgeMode {
 
     private static EdgeModeImage prepareEdgeModeImage(@NotNull RenderContext context,
             @NotNull ImageProducer producer, @NotNull ConvolveOperation convolveOperation) {
-        Image img = context.platformSupport().createImage(producer);
+        Image img = ImageUtil.createImage(context, producer);
         int width = img.getWidth(null);
         int height = img.getHeight(null);
 
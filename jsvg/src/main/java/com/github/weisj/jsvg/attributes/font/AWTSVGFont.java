@@ -26,7 +26,7 @@ import java.awt.font.FontRenderContext;
 import java.awt.font.GlyphMetrics;
 import java.awt.font.GlyphVector;
 import java.awt.font.LineMetrics;
-import java.util.HashMap;
+import java.util.function.Function;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,16 +39,17 @@ public final class AWTSVGFont implements SVGFont {
 
     private final @NotNull Font font;
     private final FontRenderContext frc = new FontRenderContext(null, true, true);
-    private final HashMap<String, Glyph> glyphCache;
+    private final Function<@NotNull String, @NotNull Glyph> glyphFactory = c -> createGlyph(c.toCharArray());
 
-    private @Nullable LineMetrics lineMetrics;
-    private float[] baselineOffsets;
-    private float exHeight = Length.UNSPECIFIED_RAW;
-    private float mathBaseline = Length.UNSPECIFIED_RAW;
+    // Fonts are shared between documents and render threads. The following values are computed
+    // lazily. Computing them is idempotent, hence it is fine if they are computed more than once.
+    private volatile @Nullable LineMetrics lineMetrics;
+    private volatile float[] baselineOffsets;
+    private volatile float exHeight = Length.UNSPECIFIED_RAW;
+    private volatile float mathBaseline = Length.UNSPECIFIED_RAW;
 
     public AWTSVGFont(@NotNull Font font) {
         this.font = font;
-        this.glyphCache = new HashMap<>();
     }
 
     public @NotNull Font font() {
@@ -57,11 +58,7 @@ public final class AWTSVGFont implements SVGFont {
 
     @Override
     public @NotNull Glyph codepointGlyph(@NotNull String codepoint) {
-        Glyph glyph = glyphCache.get(codepoint);
-        if (glyph != null) return glyph;
-        glyph = createGlyph(codepoint.toCharArray());
-        glyphCache.put(codepoint, glyph);
-        return glyph;
+        return GlyphCache.shared().glyph(font, codepoint, glyphFactory);
     }
 
     @Override
@@ -75,18 +72,22 @@ public final class AWTSVGFont implements SVGFont {
     }
 
     private @NotNull LineMetrics lineMetrics() {
-        if (lineMetrics == null) {
-            lineMetrics = font.getLineMetrics("Ax-", 0, 1, frc);
+        LineMetrics metrics = lineMetrics;
+        if (metrics == null) {
+            metrics = font.getLineMetrics("Ax-", 0, 1, frc);
+            lineMetrics = metrics;
         }
-        return lineMetrics;
+        return metrics;
     }
 
     @Override
     public float effectiveExHeight() {
-        if (Length.isUnspecified(exHeight)) {
-            exHeight = (float) codepointGlyph("x").glyphOutline().getBounds2D().getHeight();
+        float height = exHeight;
+        if (Length.isUnspecified(height)) {
+            height = (float) codepointGlyph("x").glyphOutline().getBounds2D().getHeight();
+            exHeight = height;
         }
-        return exHeight;
+        return height;
     }
 
     @Override
@@ -96,15 +97,21 @@ public final class AWTSVGFont implements SVGFont {
 
     @Override
     public float mathematicalBaseline() {
-        if (Length.isUnspecified(mathBaseline)) {
-            mathBaseline = -effectiveExHeight() / 2;
+        float baseline = mathBaseline;
+        if (Length.isUnspecified(baseline)) {
+            baseline = -effectiveExHeight() / 2;
+            mathBaseline = baseline;
         }
-        return mathBaseline;
+        return baseline;
     }
 
     private float[] baselineOffsets() {
-        if (baselineOffsets == null) baselineOffsets = lineMetrics().getBaselineOffsets();
-        return baselineOffsets;
+        float[] offsets = baselineOffsets;
+        if (offsets == null) {
+            offsets = lineMetrics().getBaselineOffsets();
+            baselineOffsets = offsets;
+        }
+        return offsets;
     }
 
     @Override
@@ -137,6 +144,18 @@ public final class AWTSVGFont implements SVGFont {
         return textUnderBaseline() - effectiveEmHeight();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AWTSVGFont)) return false;
+        return font.equals(((AWTSVGFont) o).font);
+    }
+
+    @Override
+    public int hashCode() {
+        return font.hashCode();
+    }
+
     @NotNull
     private Glyph createGlyph(char @NotNull [] codepoint) {
         GlyphVector glyphVector = font.createGlyphVector(frc, codepoint);
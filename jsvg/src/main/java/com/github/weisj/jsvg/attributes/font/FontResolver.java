@@ -28,35 +28,81 @@ import java.text.AttributedCharacterIterator;
 import java.util.*;
 import java.util.List;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.geometry.size.MeasureContext;
+import com.github.weisj.jsvg.nodes.text.GlyphRunCache;
+import com.github.weisj.jsvg.util.BoundedCache;
 
 public final class FontResolver {
+    private static final int MAXIMUM_FONT_CACHE_SIZE = 256;
+
     private FontResolver() {}
 
     public static void clearFontCache() {
         FontCache.INSTANCE.cache.clear();
+        FontCache.INSTANCE.cache.resetStatistics();
+        GlyphCache.shared().clear();
+        GlyphRunCache.clearShared();
+    }
+
+    /**
+     * @return the maximum number of fonts kept in the font cache.
+     */
+    @ApiStatus.Experimental
+    public static int maximumFontCacheSize() {
+        return (int) FontCache.INSTANCE.cache.maximumWeight();
+    }
+
+    /**
+     * @return the number of fonts currently kept in the font cache.
+     */
+    @ApiStatus.Experimental
+    public static int fontCacheSize() {
+        return FontCache.INSTANCE.cache.size();
+    }
+
+    /**
+     * @return the number of fonts which have been resolved from the font cache since it has last
+     *         been cleared.
+     */
+    @ApiStatus.Experimental
+    public static long fontCacheHitCount() {
+        return FontCache.INSTANCE.cache.hitCount();
+    }
+
+    /**
+     * @return the number of fonts which couldn't be resolved from the font cache since it has last
+     *         been cleared.
+     */
+    @ApiStatus.Experimental
+    public static long fontCacheMissCount() {
+        return FontCache.INSTANCE.cache.missCount();
     }
 
     public static @NotNull SVGFont resolve(@NotNull MeasurableFontSpec fontSpec,
             @NotNull MeasureContext measureContext) {
-        FontCache.CacheKey key = new FontCache.CacheKey(fontSpec, measureContext);
+        float size = fontSpec.effectiveSize(measureContext);
+        FontCache.CacheKey key = new FontCache.CacheKey(fontSpec, size);
         SVGFont cachedFont = FontCache.INSTANCE.cache.get(key);
         if (cachedFont != null) return cachedFont;
-        SVGFont resolvedFont = resolveWithoutCache(fontSpec, measureContext);
+        SVGFont resolvedFont = resolveWithoutCache(fontSpec, size);
         FontCache.INSTANCE.cache.put(key, resolvedFont);
         return resolvedFont;
     }
 
     public static @NotNull SVGFont resolveWithoutCache(@NotNull MeasurableFontSpec fontSpec,
             @NotNull MeasureContext measureContext) {
+        return resolveWithoutCache(fontSpec, fontSpec.effectiveSize(measureContext));
+    }
+
+    private static @NotNull SVGFont resolveWithoutCache(@NotNull MeasurableFontSpec fontSpec, float size) {
         String family = findSupportedFontFamily(fontSpec);
 
         FontStyle style = fontSpec.style();
 
         float weight = cssWeightToAwtWeight(fontSpec.currentWeight());
-        float size = fontSpec.effectiveSize(measureContext);
         float stretch = fontSpec.stretch().orElseIfUnspecified(1).value();
 
         Map<AttributedCharacterIterator.Attribute, Object> attributes = new HashMap<>(5, 1f);
@@ -123,26 +169,43 @@ public final class FontResolver {
         }
     }
 
+    /**
+     * Caches resolved fonts. Only the computed font size depends on the {@link MeasureContext},
+     * hence fonts are keyed by it instead of the whole context. Otherwise, every distinct viewport
+     * or animation timestamp would produce a new entry for the same font.
+     * <p>
+     * The cache is bounded by the number of fonts and evicts the least recently used fonts first.
+     */
     @SuppressWarnings("ImmutableEnumChecker")
     private enum FontCache {
         INSTANCE;
 
-        private final HashMap<CacheKey, SVGFont> cache = new HashMap<>();
+        private final @NotNull BoundedCache<CacheKey, SVGFont> cache =
+                BoundedCache.countBounded(MAXIMUM_FONT_CACHE_SIZE);
 
         private static final class CacheKey {
-            private final @NotNull MeasurableFontSpec spec;
-            private final @NotNull MeasureContext context;
-
-            private CacheKey(@NotNull MeasurableFontSpec spec, @NotNull MeasureContext context) {
-                this.spec = spec;
-                this.context = context;
+            private final @NotNull String[] families;
+            private final @NotNull FontStyle style;
+            private final int weight;
+            private final float stretch;
+            private final float size;
+
+            private CacheKey(@NotNull MeasurableFontSpec spec, float size) {
+                this.families = spec.families();
+                this.style = spec.style();
+                this.weight = spec.currentWeight();
+                this.stretch = spec.stretch().value();
+                this.size = size;
             }
 
             @Override
             public String toString() {
                 return "CacheKey{" +
-                        "spec=" + spec +
-                        ", context=" + context +
+                        "families=" + Arrays.toString(families) +
+                        ", style=" + style +
+                        ", weight=" + weight +
+                        ", stretch=" + stretch +
+                        ", size=" + size +
                         '}';
             }
 
@@ -151,12 +214,18 @@ public final class FontResolver {
                 if (this == o) return true;
                 if (!(o instanceof CacheKey)) return false;
                 CacheKey cacheKey = (CacheKey) o;
-                return spec.equals(cacheKey.spec) && context.equals(cacheKey.context);
+                return weight == cacheKey.weight
+                        && Float.compare(stretch, cacheKey.stretch) == 0
+                        && Float.compare(size, cacheKey.size) == 0
+                        && Arrays.equals(families, cacheKey.families)
+                        && style.equals(cacheKey.style);
             }
 
             @Override
             public int hashCode() {
-                return Objects.hash(spec, context);
+                int result = Objects.hash(style, weight, stretch, size);
+                result = 31 * result + Arrays.hashCode(families);
+                return result;
             }
         }
     }
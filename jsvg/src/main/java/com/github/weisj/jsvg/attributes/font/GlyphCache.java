@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.attributes.font;
+
+import java.awt.*;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.nodes.text.Glyph;
+import com.github.weisj.jsvg.util.BoundedCache;
+
+/**
+ * Shares the glyphs of {@link AWTSVGFont}s between documents and render threads. Glyphs are keyed
+ * by the underlying {@link Font} and their codepoint, hence fonts which resolve to the same
+ * {@link Font} share their glyphs even if they were resolved for different documents.
+ * <p>
+ * The cache is bounded by the number of glyphs and evicts the least recently used glyphs first.
+ */
+final class GlyphCache {
+    static final int MAXIMUM_GLYPH_COUNT = 4096;
+
+    private static final GlyphCache INSTANCE = new GlyphCache(MAXIMUM_GLYPH_COUNT);
+
+    private final @NotNull BoundedCache<Key, Glyph> glyphs;
+
+    GlyphCache(int maximumGlyphCount) {
+        this.glyphs = BoundedCache.countBounded(maximumGlyphCount);
+    }
+
+    static @NotNull GlyphCache shared() {
+        return INSTANCE;
+    }
+
+    @NotNull
+    Glyph glyph(@NotNull Font font, @NotNull String codepoint,
+            @NotNull Function<@NotNull String, @NotNull Glyph> factory) {
+        Key key = new Key(font, codepoint);
+        Glyph glyph = glyphs.get(key);
+        if (glyph != null) return glyph;
+        // If another thread creates the same glyph in the meantime the first one to finish wins, so
+        // all callers observe the same instance.
+        return glyphs.putIfAbsent(key, factory.apply(codepoint));
+    }
+
+    int size() {
+        return glyphs.size();
+    }
+
+    void clear() {
+        glyphs.clear();
+    }
+
+    private static final class Key {
+        private final @NotNull Font font;
+        private final @NotNull String codepoint;
+
+        private Key(@NotNull Font font, @NotNull String codepoint) {
+            this.font = font;
+            this.codepoint = codepoint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return codepoint.equals(key.codepoint) && font.equals(key.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(font, codepoint);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.awt.geom.Ellipse2D;
 import java.awt.geom.Rectangle2D;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.value.ConstantValue;
 import com.github.weisj.jsvg.attributes.value.Value;
@@ -35,52 +36,52 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 public class AWTSVGShape<T extends Shape> implements MeasurableShape {
     public static final Rectangle2D EMPTY_SHAPE = new Rectangle();
     protected final @NotNull Value<@NotNull T> shapeValue;
-    private Rectangle2D boundsCache;
-    private T shapeCache;
-
-    private double pathLength;
+    private volatile @Nullable CachedBounds<T> boundsCache;
+    private volatile @Nullable CachedPathLength<T> pathLengthCache;
 
     public AWTSVGShape(@NotNull T shape) {
         this(new ConstantValue<>(shape));
     }
 
     public AWTSVGShape(@NotNull Value<@NotNull T> shapeValue) {
-        this(shapeValue, Double.NaN);
-    }
-
-    private AWTSVGShape(@NotNull Value<@NotNull T> shapeValue, double pathLength) {
         this.shapeValue = shapeValue;
-        this.pathLength = pathLength;
     }
 
     @Override
     public @NotNull T shape(@NotNull RenderContext context, boolean validate) {
-        if (shapeCache == null || validate) {
-            shapeCache = shapeValue.get(context.measureContext());
-        }
-        return shapeCache;
+        return shapeValue.get(context.measureContext());
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (boundsCache == null || validate) {
-            Shape shape = shape(context, validate);
-            boundsCache = shape.getBounds2D();
+        T shape = shapeValue.get(context.measureContext());
+        CachedBounds<T> cached = boundsCache;
+        if (cached == null || cached.shape != shape) {
+            cached = new CachedBounds<>(shape, shape.getBounds2D());
+            boundsCache = cached;
         }
-        return boundsCache;
+        return cached.bounds;
     }
 
+    /**
+     * The length is integrated on the exact curves of the shape and cached for the current shape
+     * value. This length is used for {@code pathLength} and dash scaling and is deliberately not
+     * looked up in an {@link com.github.weisj.jsvg.geometry.util.ArcLengthTable}, as its flattened
+     * segments underestimate the length of curves.
+     */
     @Override
     public double pathLength(@NotNull RenderContext context) {
-        if (Double.isNaN(pathLength)) {
-            pathLength = computePathLength(context);
+        T shape = shapeValue.get(context.measureContext());
+        CachedPathLength<T> cached = pathLengthCache;
+        if (cached == null || cached.shape != shape) {
+            cached = new CachedPathLength<>(shape, computePathLength(shape));
+            pathLengthCache = cached;
         }
-        return pathLength;
+        return cached.pathLength;
     }
 
-    private double computePathLength(@NotNull RenderContext context) {
+    private static double computePathLength(@NotNull Shape shape) {
         // Optimize shapes for which the computation is simple.
-        Shape shape = shape(context, false);
         if (shape instanceof Rectangle2D) {
             Rectangle2D r = (Rectangle2D) shape;
             return 2 * (r.getWidth() + r.getHeight());
@@ -95,4 +96,24 @@ public class AWTSVGShape<T extends Shape> implements MeasurableShape {
             return GeometryUtil.pathLength(shape);
         }
     }
+
+    private static final class CachedBounds<T extends Shape> {
+        private final @NotNull T shape;
+        private final @NotNull Rectangle2D bounds;
+
+        private CachedBounds(@NotNull T shape, @NotNull Rectangle2D bounds) {
+            this.shape = shape;
+            this.bounds = bounds;
+        }
+    }
+
+    private static final class CachedPathLength<T extends Shape> {
+        private final @NotNull T shape;
+        private final double pathLength;
+
+        private CachedPathLength(@NotNull T shape, double pathLength) {
+            this.shape = shape;
+            this.pathLength = pathLength;
+        }
+    }
 }
@@ -24,12 +24,15 @@ package com.github.weisj.jsvg.geometry;
 import java.awt.geom.Path2D;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.value.Value;
 import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class FillRuleAwareAWTSVGShape extends AWTSVGShape<Path2D> {
 
+    private volatile @Nullable WindingVariant windingVariant;
+
     public FillRuleAwareAWTSVGShape(@NotNull Value<Path2D> shape) {
         super(shape);
     }
@@ -37,7 +40,28 @@ public final class FillRuleAwareAWTSVGShape extends AWTSVGShape<Path2D> {
     @Override
     public @NotNull Path2D shape(@NotNull RenderContext context, boolean validate) {
         Path2D shape = super.shape(context, validate);
-        shape.setWindingRule(context.fillRule().awtWindingRule);
-        return shape;
+        int windingRule = context.fillRule().awtWindingRule;
+        if (shape.getWindingRule() == windingRule) return shape;
+
+        // The path may be shared between concurrent renders, hence it mustn't be modified.
+        // Instead, use a copy with the requested winding rule.
+        WindingVariant variant = windingVariant;
+        if (variant == null || variant.source != shape || variant.path.getWindingRule() != windingRule) {
+            Path2D path = new Path2D.Float(shape);
+            path.setWindingRule(windingRule);
+            variant = new WindingVariant(shape, path);
+            windingVariant = variant;
+        }
+        return variant.path;
+    }
+
+    private static final class WindingVariant {
+        private final @NotNull Path2D source;
+        private final @NotNull Path2D path;
+
+        private WindingVariant(@NotNull Path2D source, @NotNull Path2D path) {
+            this.source = source;
+            this.path = path;
+        }
     }
 }
@@ -33,7 +33,6 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGCircle implements MeasurableShape {
 
-    private final @NotNull Ellipse2D.Float circle = new Ellipse2D.Float();
     private final @NotNull LengthValue cx;
     private final @NotNull LengthValue cy;
     private final @NotNull LengthValue r;
@@ -44,23 +43,21 @@ public final class SVGCircle implements MeasurableShape {
         this.r = r;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
+    private @NotNull Ellipse2D.Float createShape(@NotNull MeasureContext measureContext) {
         float x = cx.resolve(measureContext);
         float y = cy.resolve(measureContext);
         float rr = r.resolve(measureContext);
-        circle.setFrame(x - rr, y - rr, 2 * rr, 2 * rr);
+        return new Ellipse2D.Float(x - rr, y - rr, 2 * rr, 2 * rr);
     }
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return circle;
+        return createShape(context.measureContext());
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return circle.getBounds2D();
+        return createShape(context.measureContext()).getBounds2D();
     }
 
     @Override
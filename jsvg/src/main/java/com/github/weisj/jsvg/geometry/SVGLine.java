@@ -34,7 +34,6 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGLine implements MeasurableShape {
 
-    private final @NotNull Line2D.Float line = new Line2D.Float();
     private final LengthValue x1;
     private final LengthValue y1;
     private final LengthValue x2;
@@ -52,22 +51,20 @@ public final class SVGLine implements MeasurableShape {
         return false;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
-        line.setLine(
+    private @NotNull Line2D.Float createShape(@NotNull MeasureContext measureContext) {
+        return new Line2D.Float(
                 x1.resolve(measureContext), y1.resolve(measureContext),
                 x2.resolve(measureContext), y2.resolve(measureContext));
     }
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return line;
+        return createShape(context.measureContext());
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return line.getBounds2D();
+        return createShape(context.measureContext()).getBounds2D();
     }
 
     @Override
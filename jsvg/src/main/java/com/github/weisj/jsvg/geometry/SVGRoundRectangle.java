@@ -33,7 +33,6 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGRoundRectangle implements MeasurableShape {
 
-    private final @NotNull RoundRectangle2D.Float rect = new RoundRectangle2D.Float();
     private final @NotNull LengthValue x;
     private final @NotNull LengthValue y;
     private final @NotNull LengthValue w;
@@ -52,8 +51,8 @@ public final class SVGRoundRectangle implements MeasurableShape {
         this.ry = ry;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
-        rect.setRoundRect(
+    private @NotNull RoundRectangle2D.Float createShape(@NotNull MeasureContext measureContext) {
+        return new RoundRectangle2D.Float(
                 x.resolve(measureContext),
                 y.resolve(measureContext),
                 w.resolve(measureContext),
@@ -64,14 +63,12 @@ public final class SVGRoundRectangle implements MeasurableShape {
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return rect;
+        return createShape(context.measureContext());
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return rect.getBounds2D();
+        return createShape(context.measureContext()).getBounds2D();
     }
 
     @Override
@@ -23,6 +23,7 @@ package com.github.weisj.jsvg.geometry.noise;
 
 import java.awt.geom.Rectangle2D;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /*
@@ -187,8 +188,58 @@ public final class PerlinTurbulence {
         }
     }
 
+    /**
+     * Computes the turbulence at the given point without stitching. Doesn't allocate, hence it is
+     * suitable for evaluating the noise of many points. An instance may be used by multiple threads
+     * concurrently as long as each of them passes its own channel array.
+     *
+     * @param turbulenceChannels array of length 4 receiving the values of the four channels.
+     * @param pointX the x coordinate of the point.
+     * @param pointY the y coordinate of the point.
+     * @param fractalSum whether fractal noise or turbulence should be computed.
+     */
+    public void turbulence(double @NotNull [] turbulenceChannels, double pointX, double pointY, boolean fractalSum) {
+        double sum0;
+        double sum1;
+        double sum2;
+        double sum3;
+        sum0 = sum1 = sum2 = sum3 = fractalSum ? 127.5 : 0;
+
+        double vec0 = pointX * xFrequency;
+        double vec1 = pointY * yFrequency;
+
+        double ratio = fractalSum ? 127.5 : 255;
+
+        for (int nOctave = 0; nOctave < numOctaves; nOctave++) {
+            noise2(turbulenceChannels, vec0, vec1, null);
+            if (fractalSum) {
+                sum0 += turbulenceChannels[0] * ratio;
+                sum1 += turbulenceChannels[1] * ratio;
+                sum2 += turbulenceChannels[2] * ratio;
+                sum3 += turbulenceChannels[3] * ratio;
+            } else {
+                sum0 += Math.abs(turbulenceChannels[0]) * ratio;
+                sum1 += Math.abs(turbulenceChannels[1]) * ratio;
+                sum2 += Math.abs(turbulenceChannels[2]) * ratio;
+                sum3 += Math.abs(turbulenceChannels[3]) * ratio;
+            }
+            vec0 *= 2;
+            vec1 *= 2;
+            ratio *= 0.5;
+        }
+
+        turbulenceChannels[0] = sum0;
+        turbulenceChannels[1] = sum1;
+        turbulenceChannels[2] = sum2;
+        turbulenceChannels[3] = sum3;
+    }
+
     public void turbulence(double[] turbulenceChannels, double pointX, double pointY,
             boolean fractalSum, @Nullable StitchInfo stitchInfo, @Nullable Rectangle2D.Double tile) {
+        if (stitchInfo == null && turbulenceChannels.length == 4) {
+            turbulence(turbulenceChannels, pointX, pointY, fractalSum);
+            return;
+        }
         double baseFrequencyX = xFrequency;
         double baseFrequencyY = yFrequency;
         if (stitchInfo != null) {
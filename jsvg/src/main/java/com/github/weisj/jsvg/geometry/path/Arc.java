@@ -101,7 +101,7 @@ final class Arc extends PathCommand {
      * @param x0 - The absolute x coordinate of the initial point of the arc.
      * @param y0 - The absolute y coordinate of the initial point of the arc.
      */
-    private void arcTo(@NotNull Path2D path, float rx, float ry,
+    static void arcTo(@NotNull Path2D path, float rx, float ry,
             float angle,
             boolean largeArcFlag,
             boolean sweepFlag,
@@ -21,6 +21,8 @@
  */
 package com.github.weisj.jsvg.geometry.path;
 
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
@@ -101,6 +103,152 @@ public final class PathParser extends ParserBase {
         return commands.toArray(new PathCommand[0]);
     }
 
+    /**
+     * Parses the path data and appends the segments directly to the given path. This produces
+     * the same path as appending the commands returned by {@link #parsePathCommand()} but
+     * doesn't create any intermediate objects.
+     * <p>
+     * If the path data contains an error, the path is rendered up to the erroneous segment.
+     *
+     * @param path the path to append the segments to.
+     */
+    public void appendPath(@NotNull Path2D path) {
+        if ("none".equals(input)) return;
+        try {
+            appendPathSegments(path);
+        } catch (Exception e) {
+            LOGGER.info("Error parsing path command: " + e.getMessage());
+        }
+    }
+
+    private void appendPathSegments(@NotNull Path2D path) {
+        // The arithmetic is done in single precision to match the behaviour of the PathCommand
+        // implementations.
+        float startX = 0;
+        float startY = 0;
+        float lastX = 0;
+        float lastY = 0;
+        float cubicKnotX = 0;
+        float cubicKnotY = 0;
+        float quadraticKnotX = 0;
+        float quadraticKnotY = 0;
+        boolean empty = true;
+
+        currentCommand = 'Z';
+        while (hasNext()) {
+            char peekChar = peek();
+            if (isCommandChar(peekChar)) {
+                consume();
+                currentCommand = peekChar;
+            }
+            consumeWhiteSpaceOrSeparator();
+
+            if (currentCommand != 'M' && currentCommand != 'm' && empty) {
+                throw new IllegalArgumentException("Path must start with a move command " + currentLocation());
+            }
+            empty = false;
+
+            boolean relative = Character.isLowerCase(currentCommand);
+            float offsetX = relative ? lastX : 0;
+            float offsetY = relative ? lastY : 0;
+            switch (currentCommand) {
+                case 'M':
+                case 'm': {
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.moveTo(x, y);
+                    startX = cubicKnotX = quadraticKnotX = lastX = x;
+                    startY = cubicKnotY = quadraticKnotY = lastY = y;
+                    currentCommand = relative ? 'l' : 'L';
+                    break;
+                }
+                case 'L':
+                case 'l':
+                case 'H':
+                case 'h':
+                case 'V':
+                case 'v': {
+                    char type = Character.toUpperCase(currentCommand);
+                    float x = type == 'V' ? lastX : nextFloat() + offsetX;
+                    float y = type == 'H' ? lastY : nextFloat() + offsetY;
+                    path.lineTo(x, y);
+                    cubicKnotX = quadraticKnotX = lastX = x;
+                    cubicKnotY = quadraticKnotY = lastY = y;
+                    break;
+                }
+                case 'A':
+                case 'a': {
+                    float rx = nextFloat();
+                    float ry = nextFloat();
+                    float xAxisRot = nextFloat();
+                    boolean largeArc = nextFlag();
+                    boolean sweep = nextFlag();
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    Arc.arcTo(path, rx, ry, xAxisRot, largeArc, sweep, x, y, lastX, lastY);
+                    Point2D current = path.getCurrentPoint();
+                    cubicKnotX = quadraticKnotX = lastX = (float) current.getX();
+                    cubicKnotY = quadraticKnotY = lastY = (float) current.getY();
+                    break;
+                }
+                case 'Q':
+                case 'q':
+                case 'T':
+                case 't': {
+                    float kx;
+                    float ky;
+                    if (currentCommand == 'Q' || currentCommand == 'q') {
+                        kx = nextFloat() + offsetX;
+                        ky = nextFloat() + offsetY;
+                    } else {
+                        kx = lastX * 2f - quadraticKnotX;
+                        ky = lastY * 2f - quadraticKnotY;
+                    }
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.quadTo(kx, ky, x, y);
+                    quadraticKnotX = kx;
+                    quadraticKnotY = ky;
+                    cubicKnotX = lastX = x;
+                    cubicKnotY = lastY = y;
+                    break;
+                }
+                case 'C':
+                case 'c':
+                case 'S':
+                case 's': {
+                    float k1x;
+                    float k1y;
+                    if (currentCommand == 'C' || currentCommand == 'c') {
+                        k1x = nextFloat() + offsetX;
+                        k1y = nextFloat() + offsetY;
+                    } else {
+                        k1x = lastX * 2f - cubicKnotX;
+                        k1y = lastY * 2f - cubicKnotY;
+                    }
+                    float k2x = nextFloat() + offsetX;
+                    float k2y = nextFloat() + offsetY;
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.curveTo(k1x, k1y, k2x, k2y, x, y);
+                    cubicKnotX = k2x;
+                    cubicKnotY = k2y;
+                    quadraticKnotX = lastX = x;
+                    quadraticKnotY = lastY = y;
+                    break;
+                }
+                case 'Z':
+                case 'z':
+                    path.closePath();
+                    cubicKnotX = quadraticKnotX = lastX = startX;
+                    cubicKnotY = quadraticKnotY = lastY = startY;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid path element " + currentCommand + currentLocation());
+            }
+        }
+    }
+
     private void parsePathCommandInto(List<PathCommand> commands) {
         currentCommand = 'Z';
         while (hasNext()) {
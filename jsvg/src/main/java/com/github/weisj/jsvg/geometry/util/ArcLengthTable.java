@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.geometry.util;
+
+import java.awt.geom.PathIterator;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Arc length parametrization of a flattened path. The path is split into line segments in the same
+ * way as {@link SegmentIteratorWithLookBehind} does i.e. moves don't contribute to the length. For
+ * each segment the cumulative length up to its end is stored, hence positions on the path can be
+ * looked up in logarithmic time.
+ * <p>
+ * The table is only used to place glyphs on a text path. Path lengths used for {@code pathLength}
+ * and dashing are computed on the exact curves instead.
+ * <p>
+ * Instances are immutable and can be shared.
+ */
+public final class ArcLengthTable {
+    private final float @NotNull [] segments;
+    private final double @NotNull [] cumulativeLengths;
+    private final int segmentCount;
+
+    private ArcLengthTable(float @NotNull [] segments, double @NotNull [] cumulativeLengths, int segmentCount) {
+        this.segments = segments;
+        this.cumulativeLengths = cumulativeLengths;
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Create the table for a path. The path iterator should only consist of move, line and close
+     * segments e.g. it is a flattening path iterator.
+     *
+     * @param pathIterator the path iterator.
+     * @return the arc length table of the path.
+     */
+    public static @NotNull ArcLengthTable create(@NotNull PathIterator pathIterator) {
+        float[] segments = new float[4 * 16];
+        double[] cumulativeLengths = new double[16];
+        int count = 0;
+        double length = 0;
+
+        float[] coords = new float[6];
+        float x = 0;
+        float y = 0;
+        float moveToX = 0;
+        float moveToY = 0;
+        boolean hasStart = false;
+        boolean pendingMove = false;
+        while (!pathIterator.isDone()) {
+            float endX;
+            float endY;
+            switch (pathIterator.currentSegment(coords)) {
+                case PathIterator.SEG_MOVETO:
+                    x = moveToX = coords[0];
+                    y = moveToY = coords[1];
+                    hasStart = true;
+                    pendingMove = true;
+                    pathIterator.next();
+                    continue;
+                case PathIterator.SEG_LINETO:
+                    endX = coords[0];
+                    endY = coords[1];
+                    break;
+                case PathIterator.SEG_CLOSE:
+                    endX = moveToX;
+                    endY = moveToY;
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported segment type");
+            }
+            pathIterator.next();
+            if (count == cumulativeLengths.length) {
+                cumulativeLengths = Arrays.copyOf(cumulativeLengths, 2 * count);
+                segments = Arrays.copyOf(segments, 8 * count);
+            }
+            segments[4 * count] = x;
+            segments[4 * count + 1] = y;
+            segments[4 * count + 2] = endX;
+            segments[4 * count + 3] = endY;
+            length += GeometryUtil.lineLength(x, y, endX, endY);
+            cumulativeLengths[count] = length;
+            count++;
+            x = endX;
+            y = endY;
+            pendingMove = false;
+        }
+        if (count == 0 || pendingMove) {
+            // A trailing move (or a path consisting only of a move) produces an empty segment.
+            if (count == cumulativeLengths.length) {
+                cumulativeLengths = Arrays.copyOf(cumulativeLengths, count + 1);
+                segments = Arrays.copyOf(segments, 4 * (count + 1));
+            }
+            float px = hasStart ? x : 0;
+            float py = hasStart ? y : 0;
+            segments[4 * count] = px;
+            segments[4 * count + 1] = py;
+            segments[4 * count + 2] = px;
+            segments[4 * count + 3] = py;
+            cumulativeLengths[count] = length;
+            count++;
+        }
+        return new ArcLengthTable(segments, cumulativeLengths, count);
+    }
+
+    public double length() {
+        return cumulativeLengths[segmentCount - 1];
+    }
+
+    public int segmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Find the segment containing the point at the given distance from the start of the path. If
+     * the point lies on the boundary of two segments the earlier segment is returned. Distances
+     * outside the path map to the first respectively last segment.
+     *
+     * @param distance the distance along the path.
+     * @return the index of the segment.
+     */
+    public int segmentAt(double distance) {
+        int index = Arrays.binarySearch(cumulativeLengths, 0, segmentCount, distance);
+        if (index < 0) {
+            index = -index - 1;
+        } else {
+            // Move to the first segment ending at the exact distance.
+            while (index > 0 && cumulativeLengths[index - 1] == distance) index--;
+        }
+        return Math.min(index, segmentCount - 1);
+    }
+
+    public double segmentStart(int segment) {
+        return segment == 0 ? 0 : cumulativeLengths[segment - 1];
+    }
+
+    public double segmentLength(int segment) {
+        return cumulativeLengths[segment] - segmentStart(segment);
+    }
+
+    public float xStart(int segment) {
+        return segments[4 * segment];
+    }
+
+    public float yStart(int segment) {
+        return segments[4 * segment + 1];
+    }
+
+    public float xEnd(int segment) {
+        return segments[4 * segment + 2];
+    }
+
+    public float yEnd(int segment) {
+        return segments[4 * segment + 3];
+    }
+
+    /**
+     * The x coordinate of the point at the given distance. Distances outside the path are
+     * extrapolated along the first respectively last segment.
+     *
+     * @param segment the segment containing the point as returned by {@link #segmentAt(double)}.
+     * @param distance the distance along the path.
+     * @return the x coordinate.
+     */
+    public float xAt(int segment, double distance) {
+        return (float) (xStart(segment) + (xEnd(segment) - xStart(segment)) * fraction(segment, distance));
+    }
+
+    /**
+     * The y coordinate of the point at the given distance.
+     *
+     * @param segment the segment containing the point as returned by {@link #segmentAt(double)}.
+     * @param distance the distance along the path.
+     * @return the y coordinate.
+     * @see #xAt(int, double)
+     */
+    public float yAt(int segment, double distance) {
+        return (float) (yStart(segment) + (yEnd(segment) - yStart(segment)) * fraction(segment, distance));
+    }
+
+    private double fraction(int segment, double distance) {
+        double segmentLength = segmentLength(segment);
+        if (segmentLength == 0) return 0;
+        return (distance - segmentStart(segment)) / segmentLength;
+    }
+
+    /**
+     * The angle of the tangent of the path in the given segment. Empty segments use the direction
+     * of the closest following (or preceding) non-empty segment.
+     *
+     * @param segment the segment.
+     * @return the angle of the tangent in radians.
+     */
+    public double tangentAngle(int segment) {
+        int s = segment;
+        while (s < segmentCount - 1 && segmentLength(s) == 0) s++;
+        if (segmentLength(s) == 0) {
+            s = segment;
+            while (s > 0 && segmentLength(s) == 0) s--;
+        }
+        return Math.atan2(yEnd(s) - yStart(s), xEnd(s) - xStart(s));
+    }
+}
@@ -41,9 +41,13 @@ import com.github.weisj.jsvg.parser.AttributeNode;
 import com.github.weisj.jsvg.parser.AttributeNode.ElementRelation;
 import com.github.weisj.jsvg.renderer.Output;
 import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.jdk.GradientLookupTable;
 
 @SuppressWarnings("java:S119") // Generic name Self is intentional
 abstract class AbstractGradient<Self extends AbstractGradient<Self>> extends ContainerNode implements SVGPaint {
+    protected static final MultipleGradientPaint.ColorSpaceType COLOR_SPACE =
+            MultipleGradientPaint.ColorSpaceType.SRGB;
+
     protected AffineTransform gradientTransform;
     protected UnitType gradientUnits;
     protected SpreadMethod spreadMethod;
@@ -51,7 +55,8 @@ abstract class AbstractGradient<Self extends AbstractGradient<Self>> extends Con
     private @NotNull Color[] colors;
     private Percentage[] offsets;
 
-    private float[] tmpFractions;
+    private volatile float[] tmpFractions;
+    private volatile @Nullable GradientLookupTable lookupTable;
 
     public final Percentage[] offsets() {
         return offsets;
@@ -213,13 +218,29 @@ abstract class AbstractGradient<Self extends AbstractGradient<Self>> extends Con
 
     protected float[] offsetsToFractions(Percentage[] gradOffsets) {
         // NOTE: We need to recompute the fractions if a stop is animated.
-        if (tmpFractions == null || tmpFractions.length != gradOffsets.length) {
-            tmpFractions = new float[gradOffsets.length];
-            for (int i = 0; i < tmpFractions.length; i++) {
-                tmpFractions[i] = gradOffsets[i].value();
+        float[] fractions = tmpFractions;
+        if (fractions == null || fractions.length != gradOffsets.length) {
+            fractions = new float[gradOffsets.length];
+            for (int i = 0; i < fractions.length; i++) {
+                fractions[i] = gradOffsets[i].value();
             }
+            tmpFractions = fractions;
+        }
+        return fractions;
+    }
+
+    /**
+     * Returns the interpolated colors of the gradient. They only depend on the stops of the
+     * gradient, hence they are computed once and shared by all paints created for this element.
+     */
+    protected final @NotNull GradientLookupTable lookupTable(float @NotNull [] fractions,
+            @NotNull Color @NotNull [] gradColors) {
+        GradientLookupTable table = lookupTable;
+        if (table == null || !table.isFor(fractions, gradColors, COLOR_SPACE)) {
+            table = GradientLookupTable.create(fractions, gradColors, COLOR_SPACE);
+            lookupTable = table;
         }
-        return tmpFractions;
+        return table;
     }
 
     protected abstract @NotNull Paint gradientForBounds(@NotNull MeasureContext measure, @NotNull Rectangle2D bounds,
@@ -23,13 +23,22 @@ package com.github.weisj.jsvg.nodes;
 
 import java.awt.*;
 import java.awt.geom.*;
+import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.UnitType;
 import com.github.weisj.jsvg.attributes.paint.PaintParser;
+import com.github.weisj.jsvg.geometry.MeasurableShape;
+import com.github.weisj.jsvg.geometry.SVGCircle;
+import com.github.weisj.jsvg.geometry.SVGEllipse;
+import com.github.weisj.jsvg.geometry.SVGRectangle;
+import com.github.weisj.jsvg.geometry.SVGRoundRectangle;
+import com.github.weisj.jsvg.geometry.size.MeasureContext;
 import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.container.ContainerNode;
+import com.github.weisj.jsvg.nodes.prototype.HasShape;
 import com.github.weisj.jsvg.nodes.prototype.ShapedContainer;
 import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
@@ -37,7 +46,9 @@ import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.nodes.text.Text;
 import com.github.weisj.jsvg.parser.AttributeNode;
 import com.github.weisj.jsvg.renderer.ElementBounds;
+import com.github.weisj.jsvg.renderer.MaskRasterCache;
 import com.github.weisj.jsvg.renderer.MaskedPaint;
+import com.github.weisj.jsvg.renderer.NodeRenderer;
 import com.github.weisj.jsvg.renderer.Output;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.util.BlittableImage;
@@ -58,6 +69,9 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
     private boolean isValid;
 
     private UnitType clipPathUnits;
+    // The only child contributing to the clip shape if it is a rect, circle or ellipse.
+    private @Nullable ShapeNode simpleClipNode;
+    private volatile @Nullable CachedClipShape cachedClipShape;
 
     @Override
     public @NotNull String tagName() {
@@ -73,6 +87,21 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
         super.build(attributeNode);
         isValid = checkIsValid();
         clipPathUnits = attributeNode.getEnum("clipPathUnits", UnitType.UserSpaceOnUse);
+        simpleClipNode = findSimpleClipNode();
+    }
+
+    private @Nullable ShapeNode findSimpleClipNode() {
+        ShapeNode candidate = null;
+        for (SVGNode child : children()) {
+            if (!(child instanceof HasShape)) continue;
+            if (candidate != null || !(child instanceof ShapeNode)) return null;
+            candidate = (ShapeNode) child;
+        }
+        if (candidate == null) return null;
+        MeasurableShape shape = candidate.shape();
+        boolean isSimple = shape instanceof SVGRectangle || shape instanceof SVGRoundRectangle
+                || shape instanceof SVGCircle || shape instanceof SVGEllipse;
+        return isSimple ? candidate : null;
     }
 
     private boolean checkIsValid() {
@@ -89,11 +118,17 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
 
     public @NotNull Shape clipShape(@NotNull RenderContext context, @NotNull ElementBounds elementBounds,
             boolean useSoftClip) {
+        ShapeNode simpleNode = simpleClipNode;
+        if (simpleNode != null) return simpleClipShape(simpleNode, context, elementBounds, useSoftClip);
         // Todo: Handle bounding-box stuff as well (i.e. combined stroke etc.)
         Shape shape = ShapedContainer.super.elementShape(context);
         if (!useSoftClip && clipPathUnits == UnitType.ObjectBoundingBox) {
             shape = clipPathUnits.viewTransform(elementBounds.boundingBox()).createTransformedShape(shape);
         }
+        return generalClipShape(shape);
+    }
+
+    private static @NotNull Shape generalClipShape(@NotNull Shape shape) {
         Area areaShape = new Area(shape);
         if (areaShape.isRectangular()) {
             return areaShape.getBounds2D();
@@ -101,19 +136,117 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
         return areaShape;
     }
 
+    /**
+     * Computes the clip shape of a clip path consisting of a single rect, circle or ellipse. The
+     * shape is transformed analytically if the transform preserves its kind, hence no {@link Area}
+     * has to be constructed. The result is reused as long as the parameters it depends on don't
+     * change.
+     */
+    private @NotNull Shape simpleClipShape(@NotNull ShapeNode node, @NotNull RenderContext context,
+            @NotNull ElementBounds elementBounds, boolean useSoftClip) {
+        boolean useBoundingBox = !useSoftClip && clipPathUnits == UnitType.ObjectBoundingBox;
+        Rectangle2D boundingBox = useBoundingBox ? elementBounds.boundingBox() : null;
+        CachedClipShape cached = cachedClipShape;
+        if (cached != null && cached.matches(context.measureContext(), boundingBox)) return cached.shape;
+
+        RenderContext childContext = NodeRenderer.setupRenderContext(node, context);
+        AffineTransform at = boundingBox != null
+                ? clipPathUnits.viewTransform(boundingBox)
+                : new AffineTransform();
+        AffineTransform nodeTransform = node.transform();
+        if (nodeTransform != null) {
+            Point2D origin = node.transformOrigin(childContext.measureContext());
+            at.translate(origin.getX(), origin.getY());
+            at.concatenate(nodeTransform);
+            at.translate(-origin.getX(), -origin.getY());
+        }
+        Shape shape = transformSimpleShape(node.untransformedElementShape(childContext), at);
+
+        cachedClipShape = new CachedClipShape(context.measureContext(),
+                boundingBox != null ? boundingBox.getBounds2D() : null, shape);
+        return shape;
+    }
+
+    private static @NotNull Shape transformSimpleShape(@NotNull Shape shape, @NotNull AffineTransform at) {
+        if (shape instanceof RoundRectangle2D) {
+            RoundRectangle2D roundRect = (RoundRectangle2D) shape;
+            if (roundRect.getArcWidth() <= 0 || roundRect.getArcHeight() <= 0) {
+                shape = roundRect.getFrame();
+            }
+        }
+        int axisAlignedTypes = AffineTransform.TYPE_TRANSLATION
+                | AffineTransform.TYPE_UNIFORM_SCALE | AffineTransform.TYPE_GENERAL_SCALE;
+        if ((at.getType() & ~axisAlignedTypes) != 0 || !(shape instanceof RectangularShape)) {
+            return generalClipShape(new Path2D.Float(shape, at));
+        }
+        RectangularShape rectShape = (RectangularShape) shape;
+        double x = at.getScaleX() * rectShape.getX() + at.getTranslateX();
+        double y = at.getScaleY() * rectShape.getY() + at.getTranslateY();
+        double w = at.getScaleX() * rectShape.getWidth();
+        double h = at.getScaleY() * rectShape.getHeight();
+        if (shape instanceof Rectangle2D) return new Rectangle2D.Double(x, y, w, h);
+        if (shape instanceof Ellipse2D) return new Ellipse2D.Double(x, y, w, h);
+        if (shape instanceof RoundRectangle2D) {
+            RoundRectangle2D roundRect = (RoundRectangle2D) shape;
+            return new RoundRectangle2D.Double(x, y, w, h,
+                    at.getScaleX() * roundRect.getArcWidth(), at.getScaleY() * roundRect.getArcHeight());
+        }
+        return generalClipShape(new Path2D.Float(shape, at));
+    }
+
+    /**
+     * Checks whether soft clipping to the given shape is equivalent to a hard clip i.e. whether it
+     * is a rectangle which lies on pixel boundaries. Additionally, the shape has to lie inside the
+     * area covered by the luminance buffer used for soft clipping.
+     */
+    private static boolean isPixelAlignedRectangle(@NotNull Shape clipShape, @NotNull Output output,
+            @NotNull ElementBounds elementBounds) {
+        if (!(clipShape instanceof Rectangle2D)) return false;
+        Rectangle2D rect = (Rectangle2D) clipShape;
+        if (!elementBounds.geometryBox().contains(rect)) return false;
+        AffineTransform at = output.transform();
+        int axisAlignedTypes = AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_FLIP
+                | AffineTransform.TYPE_UNIFORM_SCALE | AffineTransform.TYPE_GENERAL_SCALE;
+        if ((at.getType() & ~axisAlignedTypes) != 0) return false;
+        Rectangle2D deviceRect = at.createTransformedShape(rect).getBounds2D();
+        return isInteger(deviceRect.getMinX()) && isInteger(deviceRect.getMinY())
+                && isInteger(deviceRect.getMaxX()) && isInteger(deviceRect.getMaxY());
+    }
+
+    private static boolean isInteger(double value) {
+        return Math.abs(value - Math.rint(value)) < 1e-6;
+    }
+
     public @NotNull Paint createPaintForSoftClipping(@NotNull Output output, @NotNull RenderContext context,
             @NotNull ElementBounds elementBounds, @NotNull Shape clipShape) {
         Rectangle2D transformedClipBounds = GeometryUtil.containingBoundsAfterTransform(
                 clipPathUnits.viewTransform(elementBounds.boundingBox()), clipShape.getBounds2D());
 
+        Rectangle2D bounds = transformedClipBounds.createIntersection(elementBounds.geometryBox());
+
+        MaskRasterCache rasterCache = MaskRasterCache.forContext(context);
+        if (rasterCache != null) {
+            return rasterCache.createMaskedPaint(this, output, context, elementBounds, bounds, clipPathUnits,
+                    blitImage -> renderClipShape(output, blitImage, clipShape));
+        }
+
         boolean useCache = surfaceSupplier.useCache(output, context);
         BlittableImage blitImage = BlittableImage.create(
                 surfaceSupplier.surfaceSupplier(useCache), context, output.clipBounds(),
-                transformedClipBounds.createIntersection(elementBounds.geometryBox()),
-                elementBounds.boundingBox(), clipPathUnits);
+                bounds, elementBounds.boundingBox(), clipPathUnits);
+
+        // Note: If the mask isn't visible we still have to mask out the content of the element.
+        if (blitImage == null) return MaskedPaint.createEmpty(PaintParser.DEFAULT_COLOR);
 
-        if (blitImage == null) return PaintParser.DEFAULT_COLOR;
+        renderClipShape(output, blitImage, clipShape);
+
+        Point2D offset = GeometryUtil.getLocation(blitImage.imageBoundsInDeviceSpace());
+        return new MaskedPaint(PaintParser.DEFAULT_COLOR, blitImage.image().getRaster(), offset,
+                surfaceSupplier.resourceCleaner(output, useCache));
+    }
 
+    private static void renderClipShape(@NotNull Output output, @NotNull BlittableImage blitImage,
+            @NotNull Shape clipShape) {
         blitImage.clearBackground(Color.BLACK);
         blitImage.render(output, g -> {
             g.setColor(Color.WHITE);
@@ -123,10 +256,6 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
         if (DEBUG) {
             blitImage.debug(output);
         }
-
-        Point2D offset = GeometryUtil.getLocation(blitImage.imageBoundsInDeviceSpace());
-        return new MaskedPaint(PaintParser.DEFAULT_COLOR, blitImage.image().getRaster(), offset,
-                surfaceSupplier.resourceCleaner(output, useCache));
     }
 
     public void applyClip(@NotNull Output output, @NotNull RenderContext context,
@@ -134,6 +263,15 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
         if (output.isSoftClippingEnabled()) {
             Rectangle2D bounds = elementBounds.geometryBox();
             if (!bounds.isEmpty()) {
+                if (simpleClipNode != null) {
+                    Shape hardClipShape = clipShape(context, elementBounds, false);
+                    if (isPixelAlignedRectangle(hardClipShape, output, elementBounds)) {
+                        // Note: Soft clipping doesn't change any pixel here, hence no buffer is
+                        // needed.
+                        output.applyClip(hardClipShape);
+                        return;
+                    }
+                }
                 output.setPaint(() -> {
                     Shape childClipShape = clipShape(context, elementBounds, true);
                     return createPaintForSoftClipping(output, context, elementBounds, childClipShape);
@@ -151,4 +289,21 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
             output.applyClip(childClipShape);
         }
     }
+
+    private static final class CachedClipShape {
+        private final @NotNull MeasureContext measureContext;
+        private final @Nullable Rectangle2D boundingBox;
+        private final @NotNull Shape shape;
+
+        private CachedClipShape(@NotNull MeasureContext measureContext, @Nullable Rectangle2D boundingBox,
+                @NotNull Shape shape) {
+            this.measureContext = measureContext;
+            this.boundingBox = boundingBox;
+            this.shape = shape;
+        }
+
+        private boolean matches(@NotNull MeasureContext measureContext, @Nullable Rectangle2D boundingBox) {
+            return this.measureContext.equals(measureContext) && Objects.equals(this.boundingBox, boundingBox);
+        }
+    }
 }
@@ -41,6 +41,7 @@ import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.AttributeNode;
+import com.github.weisj.jsvg.renderer.jdk.SVGLinearGradientPaint;
 
 @ElementCategories(Category.Gradient)
 @PermittedContent(
@@ -79,9 +80,10 @@ public final class LinearGradient extends AbstractGradient<LinearGradient> {
         Point2D.Float pt2 = new Point2D.Float(x2.resolve(measure), y2.resolve(measure));
         if (pt1.equals(pt2)) return gradColors[0];
 
-        return new LinearGradientPaint(pt1, pt2, offsetsToFractions(gradOffsets), gradColors,
-                spreadMethod.cycleMethod(),
-                MultipleGradientPaint.ColorSpaceType.SRGB, computeViewTransform(bounds));
+        float[] fractions = offsetsToFractions(gradOffsets);
+        return new SVGLinearGradientPaint(pt1, pt2, fractions, gradColors,
+                spreadMethod.cycleMethod(), COLOR_SPACE, computeViewTransform(bounds),
+                lookupTable(fractions, gradColors));
     }
 
     @Override
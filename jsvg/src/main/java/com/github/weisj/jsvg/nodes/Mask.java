@@ -42,6 +42,7 @@ import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.nodes.text.Text;
 import com.github.weisj.jsvg.parser.AttributeNode;
 import com.github.weisj.jsvg.renderer.ElementBounds;
+import com.github.weisj.jsvg.renderer.MaskRasterCache;
 import com.github.weisj.jsvg.renderer.MaskedPaint;
 import com.github.weisj.jsvg.renderer.Output;
 import com.github.weisj.jsvg.renderer.RenderContext;
@@ -99,24 +100,36 @@ public final class Mask extends CommonRenderableContainerNode implements Instant
         Rectangle2D.Double maskBounds = maskUnits.computeViewBounds(
                 context.measureContext(), elementBounds.boundingBox(), x, y, width, height);
 
+        Rectangle2D bounds = maskBounds.createIntersection(elementBounds.geometryBox());
+
+        MaskRasterCache rasterCache = MaskRasterCache.forContext(context);
+        if (rasterCache != null) {
+            return rasterCache.createMaskedPaint(this, output, context, elementBounds, bounds, maskContentUnits,
+                    blitImage -> renderMask(output, blitImage));
+        }
+
         boolean useCache = surfaceSupplier.useCache(output, context);
         BlittableImage blitImage = BlittableImage.create(
                 surfaceSupplier.surfaceSupplier(useCache), context, output.clipBounds(),
-                maskBounds.createIntersection(elementBounds.geometryBox()), elementBounds.boundingBox(),
-                maskContentUnits);
+                bounds, elementBounds.boundingBox(), maskContentUnits);
+
+        // Note: If the mask isn't visible we still have to mask out the content of the element.
+        if (blitImage == null) return MaskedPaint.createEmpty(PaintParser.DEFAULT_COLOR);
 
-        if (blitImage == null) return PaintParser.DEFAULT_COLOR;
+        renderMask(output, blitImage);
 
+        Point2D offset = GeometryUtil.getLocation(blitImage.imageBoundsInDeviceSpace());
+        return new MaskedPaint(PaintParser.DEFAULT_COLOR, blitImage.image().getRaster(), offset,
+                surfaceSupplier.resourceCleaner(output, useCache));
+    }
+
+    private void renderMask(@NotNull Output output, @NotNull BlittableImage blitImage) {
         blitImage.clearBackground(Color.BLACK);
         blitImage.renderNode(output, this, this);
 
         if (DEBUG) {
             blitImage.debug(output);
         }
-
-        Point2D offset = GeometryUtil.getLocation(blitImage.imageBoundsInDeviceSpace());
-        return new MaskedPaint(PaintParser.DEFAULT_COLOR, blitImage.image().getRaster(), offset,
-                surfaceSupplier.resourceCleaner(output, useCache));
     }
 
     @Override
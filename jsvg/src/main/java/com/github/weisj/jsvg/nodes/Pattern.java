@@ -25,6 +25,7 @@ import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -168,23 +169,39 @@ public final class Pattern extends BaseInnerViewContainer implements SVGPaint, S
         Rectangle2D.Double patternBounds = patternUnits.computeViewBounds(measure, bounds, x, y, width, height);
 
         // TODO: With overflow = visible this does not result in the correct behaviour
-        BlittableImage blittableImage = BlittableImage.create(
-                ImageUtil::createCompatibleTransparentImage, context, null,
-                patternBounds, bounds, patternContentUnits);
+        BufferedImage tile;
+        PatternTileCache tileCache = PatternTileCache.forContext(context);
+        if (tileCache != null) {
+            tile = tileCache.tile(this, output, context, patternBounds, bounds, patternContentUnits,
+                    blitImage -> renderTile(output, blitImage, patternBounds));
+        } else {
+            BlittableImage blittableImage = BlittableImage.create(
+                    ImageUtil::createCompatibleTransparentImage, context, null,
+                    patternBounds, bounds, patternContentUnits);
+            tile = null;
+            if (blittableImage != null) {
+                renderTile(output, blittableImage, patternBounds);
+                tile = blittableImage.image();
+            }
+        }
+
+        if (tile == null) return PaintParser.DEFAULT_COLOR;
+        output.markDeviceDependent();
 
-        if (blittableImage == null) return PaintParser.DEFAULT_COLOR;
+        // Fixme: When patternTransform != null antialiasing is broken
+        return patternTransform != null
+                ? new TransformedPaint(new TexturePaint(tile, patternBounds), patternTransform)
+                : new TexturePaint(tile, patternBounds);
+    }
 
+    private void renderTile(@NotNull Output output, @NotNull BlittableImage blittableImage,
+            @NotNull Rectangle2D patternBounds) {
         blittableImage.render(output, (out, ctx) -> {
             if (patternContentUnits == UnitType.UserSpaceOnUse) {
                 ctx.translate(out, patternBounds.getX(), patternBounds.getY());
             }
             renderWithSize(new FloatSize(patternBounds), viewBox, ctx, out);
         });
-
-        // Fixme: When patternTransform != null antialiasing is broken
-        return patternTransform != null
-                ? new TransformedPaint(new TexturePaint(blittableImage.image(), patternBounds), patternTransform)
-                : new TexturePaint(blittableImage.image(), patternBounds);
     }
 
     @Override
@@ -88,9 +88,10 @@ public final class RadialGradient extends AbstractGradient<RadialGradient> {
         float radius = r.resolve(measure);
         float focusRadius = fr.resolve(measure);
 
+        float[] fractions = offsetsToFractions(gradOffsets);
         return new SVGRadialGradientPaint(center, radius, focusCenter, focusRadius,
-                offsetsToFractions(gradOffsets), gradColors, spreadMethod.cycleMethod(),
-                MultipleGradientPaint.ColorSpaceType.SRGB, computeViewTransform(bounds));
+                fractions, gradColors, spreadMethod.cycleMethod(), COLOR_SPACE, computeViewTransform(bounds),
+                lookupTable(fractions, gradColors));
     }
 
     @Override
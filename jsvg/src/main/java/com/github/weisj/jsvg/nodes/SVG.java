@@ -63,8 +63,11 @@ public final class SVG extends CommonInnerViewContainer {
     private static final float FALLBACK_WIDTH = 300;
     private static final float FALLBACK_HEIGHT = 150;
 
+    // The top level svg currently rendered as a child node to apply its isolation effects.
+    // The methods querying it have no access to the RenderContext, hence it is tracked per thread.
+    private static final ThreadLocal<SVG> NON_ROOT_MODE_NODE = new ThreadLocal<>();
+
     private boolean isTopLevel;
-    private boolean inNonRootMode;
     private AnimationPeriod animationPeriod;
 
     @Override
@@ -73,7 +76,11 @@ public final class SVG extends CommonInnerViewContainer {
     }
 
     public boolean isTopLevel() {
-        return isTopLevel && !inNonRootMode;
+        return isTopLevel && !inNonRootMode();
+    }
+
+    private boolean inNonRootMode() {
+        return NON_ROOT_MODE_NODE.get() == this;
     }
 
     public @NotNull AnimationPeriod animationPeriod() {
@@ -141,7 +148,7 @@ public final class SVG extends CommonInnerViewContainer {
     @Override
     public boolean shouldEstablishChildContext() {
         // If we redispatch we can skip creating a new child context. All values have already been resolved.
-        return !isTopLevel || !inNonRootMode;
+        return !isTopLevel || !inNonRootMode();
     }
 
     @Override
@@ -151,9 +158,17 @@ public final class SVG extends CommonInnerViewContainer {
                 || super.clipPath() != null;
         if (needsHandlingAsChildNode) {
             // TODO: Handle this more elegantly
-            inNonRootMode = true;
-            NodeRenderer.renderNode(this, context, output);
-            inNonRootMode = false;
+            SVG previous = NON_ROOT_MODE_NODE.get();
+            NON_ROOT_MODE_NODE.set(this);
+            try {
+                NodeRenderer.renderNode(this, context, output);
+            } finally {
+                if (previous != null) {
+                    NON_ROOT_MODE_NODE.set(previous);
+                } else {
+                    NON_ROOT_MODE_NODE.remove();
+                }
+            }
         } else {
             super.renderWithCurrentViewBox(context, output);
         }
@@ -161,7 +176,7 @@ public final class SVG extends CommonInnerViewContainer {
 
     @Override
     public void render(@NotNull RenderContext context, @NotNull Output output) {
-        if (inNonRootMode) {
+        if (isTopLevel && inNonRootMode()) {
             super.renderWithCurrentViewBox(context, output);
         } else {
             renderWithSize(size(context), viewBox(context), null, context, output);
@@ -32,6 +32,7 @@ import com.github.weisj.jsvg.attributes.VectorEffect;
 import com.github.weisj.jsvg.attributes.font.FontParser;
 import com.github.weisj.jsvg.attributes.font.FontSize;
 import com.github.weisj.jsvg.attributes.font.MeasurableFontSpec;
+import com.github.weisj.jsvg.attributes.stroke.LineJoin;
 import com.github.weisj.jsvg.attributes.value.LengthValue;
 import com.github.weisj.jsvg.attributes.value.PercentageDimension;
 import com.github.weisj.jsvg.geometry.MeasurableShape;
@@ -41,10 +42,12 @@ import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.prototype.*;
 import com.github.weisj.jsvg.parser.AttributeNode;
 import com.github.weisj.jsvg.parser.AttributeNode.ElementRelation;
+import com.github.weisj.jsvg.renderer.ElementBounds;
 import com.github.weisj.jsvg.renderer.Output;
 import com.github.weisj.jsvg.renderer.PaintContext;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.ShapeRenderer;
+import com.github.weisj.jsvg.renderer.StrokeContext;
 
 public abstract class ShapeNode extends RenderableSVGNode
         implements HasShape, HasPaintContext, HasFontContext, HasVectorEffects, Instantiator {
@@ -132,6 +135,30 @@ public abstract class ShapeNode extends RenderableSVGNode
         return bounds;
     }
 
+    /**
+     * Computes conservative bounds of the area painted by this shape in its local coordinate
+     * system. This is used to cull shapes which lie outside the visible area.
+     *
+     * @param context the render context of the shape.
+     * @param elementBounds the bounds of the shape, whose stroke box is reused.
+     * @return the bounds or null if the painted area can't be determined cheaply.
+     */
+    public @Nullable Rectangle2D paintBounds(@NotNull RenderContext context, @NotNull ElementBounds elementBounds) {
+        if (markerStart != null || markerMid != null || markerEnd != null) return null;
+        for (VectorEffect effect : vectorEffects) {
+            if (effect != VectorEffect.None) return null;
+        }
+        Rectangle2D bounds = elementBounds.strokeBox();
+        StrokeContext strokeContext = context.strokeContext();
+        if (strokeContext.strokeWidth != null && strokeContext.lineJoin == LineJoin.Miter) {
+            // The stroke box is grown by the full stroke width, but miter joins can extend further.
+            float stroke = strokeContext.strokeWidth.resolve(context.measureContext());
+            float miterExtent = Math.max(1, strokeContext.miterLimit) * stroke / 2;
+            if (miterExtent > stroke) bounds = GeometryUtil.grow(bounds, miterExtent - stroke);
+        }
+        return bounds;
+    }
+
     @Override
     public boolean isVisible(@NotNull RenderContext context) {
         return super.isVisible(context);
@@ -85,8 +85,6 @@ public abstract class AbstractBlendComposite implements Composite {
 
     protected abstract @NotNull Blender blender();
 
-    private boolean convertToLinearRGB;
-
     private static boolean isColorModelInvalid(ColorModel cm) {
         if (cm instanceof DirectColorModel && cm.getTransferType() == DataBuffer.TYPE_INT) {
             DirectColorModel directCM = (DirectColorModel) cm;
@@ -99,12 +97,25 @@ public abstract class AbstractBlendComposite implements Composite {
         return true;
     }
 
-    public void setConvertToLinearRGB(boolean convertToLinearRGB) {
-        this.convertToLinearRGB = convertToLinearRGB;
+    /**
+     * Derive a composite which blends in the given color space. The composite itself may be shared
+     * between concurrent renders and hence is never modified.
+     *
+     * @param convertToLinearRGB whether colors should be converted to linearRGB before blending.
+     * @return a composite for the given color space.
+     */
+    public @NotNull Composite withConvertToLinearRGB(boolean convertToLinearRGB) {
+        return (srcColorModel, dstColorModel, hints) -> createContext(
+                srcColorModel, dstColorModel, convertToLinearRGB);
     }
 
     @Override
     public CompositeContext createContext(ColorModel srcColorModel, ColorModel dstColorModel, RenderingHints hints) {
+        return createContext(srcColorModel, dstColorModel, false);
+    }
+
+    private @NotNull CompositeContext createContext(ColorModel srcColorModel, ColorModel dstColorModel,
+            boolean convertToLinearRGB) {
         if (isColorModelInvalid(srcColorModel) || isColorModelInvalid(dstColorModel)) {
             throw new RasterFormatException("Incompatible color models");
         }
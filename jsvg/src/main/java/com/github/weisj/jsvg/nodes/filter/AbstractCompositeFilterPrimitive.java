@@ -22,7 +22,7 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.awt.geom.Rectangle2D;
 
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
@@ -63,25 +63,33 @@ abstract class AbstractCompositeFilterPrimitive extends AbstractFilterPrimitive
         impl().saveLayoutResult(in.union(in2), filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        Rectangle2D region = impl().takeRegionOfInterest(regionOfInterest);
+        impl().requestInput(region, regionOfInterest);
+        regionOfInterest.request(inputChannel2, region);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         FilterPrimitiveBase impl = impl();
-        BufferedImage dst = destinationChannel(impl, filterContext).toBufferedImageNonAliased(context);
+        RasterChannel dst = RasterChannel.of(destinationChannel(impl, filterContext), context).copy();
+        RasterChannel src = RasterChannel.of(sourceChannel(impl, filterContext), context);
 
-        Image other = context.platformSupport().createImage(sourceChannel(impl, filterContext).producer());
-        Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst);
+        Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst.image());
         imgGraphics.setComposite(computeComposite(filterContext));
-        imgGraphics.drawImage(other, null, context.platformSupport().imageObserver());
+        imgGraphics.drawImage(src.image(), 0, 0, null);
         imgGraphics.dispose();
 
-        impl.saveResult(new ImageProducerChannel(dst.getSource()), filterContext);
+        impl.saveResult(dst, filterContext);
     }
 
     private @NotNull Composite computeComposite(@NotNull FilterContext filterContext) {
         Composite comp = composite();
         if (comp instanceof AbstractBlendComposite) {
             ColorInterpolation colorInterpolation = colorInterpolation(filterContext);
-            ((AbstractBlendComposite) comp).setConvertToLinearRGB(colorInterpolation == ColorInterpolation.LinearRGB);
+            return ((AbstractBlendComposite) comp).withConvertToLinearRGB(
+                    colorInterpolation == ColorInterpolation.LinearRGB);
         }
         return comp;
     }
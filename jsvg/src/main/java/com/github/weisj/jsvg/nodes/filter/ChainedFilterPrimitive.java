@@ -21,6 +21,8 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.geom.Rectangle2D;
+
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
@@ -40,6 +42,16 @@ abstract class ChainedFilterPrimitive extends AbstractFilterPrimitive implements
         }
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        FilterPrimitive[] primitives = primitives();
+        for (int i = primitives.length - 1; i >= 0; i--) {
+            primitives[i].requestRegionOfInterest(context, regionOfInterest);
+        }
+        Rectangle2D region = regionOfInterest.take(outerLastResult);
+        if (region != null) impl().requestInput(region, regionOfInterest);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         filterContext.resultChannels().addResult(outerLastResult, impl().inputChannel(filterContext));
@@ -37,11 +37,13 @@ public interface Channel {
     ImageProducer producer();
 
     default @NotNull Image toImage(@NotNull RenderContext context) {
-        return context.platformSupport().createImage(producer());
+        return ImageUtil.createImage(context, producer());
     }
 
     default @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
-        return makeNonAliased(toImage(context));
+        BufferedImage img = ImageUtil.materialize(producer(), ImageUtil.Premultiplied.No);
+        if (img != null) return img;
+        return makeNonAliased(context.platformSupport().createImage(producer()));
     }
 
     static @NotNull BufferedImage makeNonAliased(@NotNull Image img) {
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An operation on the colour of a single pixel, which neither depends on the position of the pixel
+ * nor its neighbours. Operations are applied by a {@link ColorOperationChain}.
+ */
+abstract class ColorOperation {
+
+    /**
+     * Transform the colour in place. The components are unpremultiplied, in the range [0, 255]
+     * and in the colour space the operation is applied in.
+     *
+     * @param bgra the blue, green, red and alpha components of the colour.
+     */
+    abstract void apply(int @NotNull [] bgra);
+
+    /**
+     * Combine this operation with an operation applied directly afterwards in the same colour
+     * space, if the combined operation produces the exact same result.
+     *
+     * @param next the operation applied after this one.
+     * @return the combined operation or null if the operations can't be combined.
+     */
+    @Nullable
+    ColorOperation andThen(@NotNull ColorOperation next) {
+        return null;
+    }
+}
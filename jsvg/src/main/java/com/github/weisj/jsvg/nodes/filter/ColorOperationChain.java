@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.util.ColorUtil;
+
+/**
+ * Applies the operations of consecutive {@link ColorOperationPrimitive}s in a single pass over the
+ * pixels. Intermediate results aren't materialized, each pixel is only unpremultiplied once and
+ * colours are only converted between sRGB and linearRGB where the colour space of adjacent
+ * operations differs.
+ */
+final class ColorOperationChain {
+    private final @NotNull ColorOperation @NotNull [] operations;
+    private final boolean @NotNull [] linearRGB;
+
+    private ColorOperationChain(@NotNull List<ColorOperation> operations, @NotNull List<Boolean> linearRGB) {
+        this.operations = operations.toArray(new ColorOperation[0]);
+        this.linearRGB = new boolean[linearRGB.size()];
+        for (int i = 0; i < this.linearRGB.length; i++) {
+            this.linearRGB[i] = linearRGB.get(i);
+        }
+    }
+
+    /**
+     * Whether the result of the first primitive is only consumed by the second one and hence
+     * doesn't need to be materialized.
+     */
+    static boolean canChain(@NotNull ColorOperationPrimitive first, @NotNull ColorOperationPrimitive second) {
+        return first.primitiveBase().resultChannelKey() == DefaultFilterChannel.LastResult
+                && second.primitiveBase().inputChannelKey() == DefaultFilterChannel.LastResult;
+    }
+
+    /**
+     * Apply the given primitives, where each primitive consumes the result of its predecessor, and
+     * save the result of the last one.
+     */
+    static void apply(@NotNull List<? extends ColorOperationPrimitive> primitives, @NotNull RenderContext context,
+            @NotNull FilterContext filterContext) {
+        List<ColorOperation> operations = new ArrayList<>(primitives.size());
+        List<Boolean> linearRGB = new ArrayList<>(primitives.size());
+        for (ColorOperationPrimitive primitive : primitives) {
+            ColorOperation operation = primitive.colorOperation();
+            if (operation == null) continue;
+            boolean linear = primitive.colorInterpolation(filterContext) == ColorInterpolation.LinearRGB;
+            int last = operations.size() - 1;
+            if (last >= 0 && linearRGB.get(last) == linear) {
+                ColorOperation combined = operations.get(last).andThen(operation);
+                if (combined != null) {
+                    operations.set(last, combined);
+                    continue;
+                }
+            }
+            operations.add(operation);
+            linearRGB.add(linear);
+        }
+
+        FilterPrimitiveBase first = primitives.get(0).primitiveBase();
+        FilterPrimitiveBase last = primitives.get(primitives.size() - 1).primitiveBase();
+        Channel input = first.inputChannel(filterContext);
+        if (operations.isEmpty()) {
+            last.saveResult(input, filterContext);
+            return;
+        }
+        ColorOperationChain chain = new ColorOperationChain(operations, linearRGB);
+        // The region of the first primitive covers the regions of the later ones, as all operations
+        // are pointwise and the intermediate results aren't consumed elsewhere.
+        Rectangle region = filterContext.regionOfInterest(first);
+        last.saveResult(chain.filterPixels(RasterChannel.of(input, context), region), filterContext);
+    }
+
+    private @NotNull RasterChannel filterPixels(@NotNull RasterChannel input, @NotNull Rectangle region) {
+        int width = input.width();
+        RasterChannel output = RasterChannel.create(width, input.height());
+        Rectangle area = region.intersection(new Rectangle(0, 0, width, input.height()));
+        if (area.isEmpty()) return output;
+        int[] src = input.data();
+        int[] dst = output.data();
+        int[] bgra = new int[4];
+        // Filter inputs usually contain large areas of a single color e.g. transparent background.
+        int lastIn = 0;
+        int lastOut = filterPixel(0, bgra);
+        for (int y = area.y; y < area.y + area.height; y++) {
+            int start = y * width + area.x;
+            for (int i = start, end = start + area.width; i < end; i++) {
+                int pixel = src[i];
+                if (pixel != lastIn) {
+                    lastIn = pixel;
+                    lastOut = filterPixel(pixel, bgra);
+                }
+                dst[i] = lastOut;
+            }
+        }
+        return output;
+    }
+
+    private int filterPixel(int premultipliedPixel, int @NotNull [] bgra) {
+        int argb = ColorUtil.unpremultiply(premultipliedPixel);
+        bgra[3] = (argb >> 24) & 0xFF;
+        bgra[2] = (argb >> 16) & 0xFF;
+        bgra[1] = (argb >> 8) & 0xFF;
+        bgra[0] = argb & 0xFF;
+        boolean linear = false;
+        for (int i = 0; i < operations.length; i++) {
+            if (linearRGB[i] != linear) {
+                if (linearRGB[i]) {
+                    ColorUtil.sRGBtoLinearRGBinPlace(bgra);
+                } else {
+                    ColorUtil.linearRGBtoSRGBinPlace(bgra);
+                }
+                linear = linearRGB[i];
+            }
+            operations[i].apply(bgra);
+        }
+        if (linear) ColorUtil.linearRGBtoSRGBinPlace(bgra);
+        return ColorUtil.premultiply(((bgra[3] & 0xFF) << 24)
+                | ((bgra[2] & 0xFF) << 16)
+                | ((bgra[1] & 0xFF) << 8)
+                | (bgra[0] & 0xFF));
+    }
+}
@@ -52,6 +52,11 @@ public final class DummyFilterPrimitive extends AbstractFilterPrimitive {
         impl().saveLayoutResult(impl().layoutInput(filterLayoutContext), filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        impl().forwardRegionOfInterest(regionOfInterest);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         impl().noop(filterContext);
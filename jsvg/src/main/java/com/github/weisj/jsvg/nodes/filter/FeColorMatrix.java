@@ -24,12 +24,12 @@ package com.github.weisj.jsvg.nodes.filter;
 import static com.github.weisj.jsvg.util.ColorUtil.toRgbRange;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Locale;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import com.github.weisj.jsvg.attributes.ColorInterpolation;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.nodes.animation.Animate;
 import com.github.weisj.jsvg.nodes.animation.Set;
@@ -38,18 +38,17 @@ import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
-import com.github.weisj.jsvg.util.ColorSpaceAwareRGBImageFilter;
 import com.github.weisj.jsvg.util.ColorUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
     anyOf = {Animate.class, Set.class}
 )
-public final class FeColorMatrix extends AbstractFilterPrimitive {
+public final class FeColorMatrix extends AbstractFilterPrimitive implements ColorOperationPrimitive {
     public static final String TAG = "fecolormatrix";
     private static final String KEY_VALUES = "values";
 
-    private @Nullable AffineRGBImageFilter filter;
+    private @Nullable AffineColorOperation filter;
 
     @Override
     public @NotNull String tagName() {
@@ -72,13 +71,13 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
                                     0, 1, 0, 0, 0,
                                     0, 0, 1, 0, 0,
                                     0, 0, 0, 1, 0});
-                    if (!isIdentity) filter = new MatrixRGBFilter(colorTransform);
+                    if (!isIdentity) filter = new MatrixColorOperation(colorTransform);
                 }
                 break;
             case "saturate":
                 float s = attributeNode.getFloat(KEY_VALUES, 1);
                 if (s != 1) {
-                    filter = new NoAlphaMatrixRGBFilter(
+                    filter = new NoAlphaMatrixColorOperation(
                             0.213 + 0.787 * s, 0.715 - 0.715 * s, 0.072 - 0.072 * s,
                             0.213 - 0.213 * s, 0.715 + 0.285 * s, 0.072 - 0.072 * s,
                             0.213 - 0.213 * s, 0.715 - 0.715 * s, 0.072 + 0.928 * s);
@@ -91,7 +90,7 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
                     double sin = Math.sin(radians);
                     double cos = Math.cos(radians);
                     //@formatter:off
-                    filter = new NoAlphaMatrixRGBFilter(
+                    filter = new NoAlphaMatrixColorOperation(
                         0.213 + cos * 0.787 - sin * 0.2127, 0.715 - 0.715 * cos - 0.715 * sin,0.072 - 0.072 * cos + 0.982 * sin,
                         0.213 - cos * 0.213 + sin * 0.143, 0.715 + 0.285 * cos + 0.140 * sin,0.072 - 0.072 * cos - 0.283 * sin,
                         0.213 - cos * 0.213 - sin * 0.787, 0.715 - 0.715 * cos + 0.715 * sin,0.072 + 0.982 * cos + 0.072 * sin);
@@ -99,7 +98,7 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
                 }
                 break;
             case "luminancetoalpha":
-                filter = new LuminanceToAlphaFilter();
+                filter = new LuminanceToAlphaOperation();
                 break;
             default:
                 break;
@@ -117,30 +116,39 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
         impl().saveLayoutResult(bounds, filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        impl().forwardRegionOfInterest(regionOfInterest);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        @Nullable AffineRGBImageFilter f = filter;
-        if (f == null) {
-            impl().noop(filterContext);
-            return;
-        }
-        f.setConvertToLinear(colorInterpolation(filterContext) == ColorInterpolation.LinearRGB);
-        impl().saveResult(impl().inputChannel(filterContext).applyFilter(f), filterContext);
+        ColorOperationChain.apply(Collections.singletonList(this), context, filterContext);
+    }
+
+    @Override
+    public @NotNull FilterPrimitiveBase primitiveBase() {
+        return impl();
     }
 
-    private static abstract class AffineRGBImageFilter extends ColorSpaceAwareRGBImageFilter {
+    @Override
+    public @Nullable ColorOperation colorOperation() {
+        return filter;
+    }
+
+    private static abstract class AffineColorOperation extends ColorOperation {
 
         abstract boolean isLinear();
     }
 
-    private static final class MatrixRGBFilter extends AffineRGBImageFilter {
+    private static final class MatrixColorOperation extends AffineColorOperation {
 
         private final double r1, r2, r3, r4, r5;
         private final double g1, g2, g3, g4, g5;
         private final double b1, b2, b3, b4, b5;
         private final double a1, a2, a3, a4, a5;
 
-        private MatrixRGBFilter(double[] values) {
+        private MatrixColorOperation(double[] values) {
             r1 = values[0];
             r2 = values[1];
             r3 = values[2];
@@ -172,9 +180,7 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
         }
 
         @Override
-        public int filterRGB(int x, int y, int rgb) {
-            int[] argb = getRGB(rgb);
-
+        void apply(int @NotNull [] argb) {
             int a = argb[3];
             int r = argb[2];
             int g = argb[1];
@@ -184,17 +190,15 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
             argb[2] = toRgbRange(r1 * r + r2 * g + r3 * b + r4 * a + r5 * 255);
             argb[1] = toRgbRange(g1 * r + g2 * g + g3 * b + g4 * a + g5 * 255);
             argb[0] = toRgbRange(b1 * r + b2 * g + b3 * b + b4 * a + b5 * 255);
-
-            return pack(argb);
         }
     }
 
-    private static final class NoAlphaMatrixRGBFilter extends AffineRGBImageFilter {
+    private static final class NoAlphaMatrixColorOperation extends AffineColorOperation {
         private final double r1, r2, r3;
         private final double g1, g2, g3;
         private final double b1, b2, b3;
 
-        private NoAlphaMatrixRGBFilter(
+        private NoAlphaMatrixColorOperation(
                 double r1, double r2, double r3,
                 double g1, double g2, double g3,
                 double b1, double b2, double b3) {
@@ -215,9 +219,7 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
         }
 
         @Override
-        public int filterRGB(int x, int y, int rgb) {
-            int[] argb = getRGB(rgb);
-
+        void apply(int @NotNull [] argb) {
             int r = argb[2];
             int g = argb[1];
             int b = argb[0];
@@ -225,12 +227,10 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
             argb[2] = toRgbRange(r1 * r + r2 * g + r3 * b);
             argb[1] = toRgbRange(g1 * r + g2 * g + g3 * b);
             argb[0] = toRgbRange(b1 * r + b2 * g + b3 * b);
-
-            return pack(argb);
         }
     }
 
-    public static final class LuminanceToAlphaFilter extends AffineRGBImageFilter {
+    private static final class LuminanceToAlphaOperation extends AffineColorOperation {
 
         @Override
         boolean isLinear() {
@@ -238,10 +238,11 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
         }
 
         @Override
-        public int filterRGB(int x, int y, int rgb) {
-            int[] argb = getRGB(rgb);
-            int na = ColorUtil.computeLuminance(argb[2], argb[1], argb[0]);
-            return (na & 0xFF) << 24;
+        void apply(int @NotNull [] argb) {
+            argb[3] = ColorUtil.computeLuminance(argb[2], argb[1], argb[0]);
+            argb[2] = 0;
+            argb[1] = 0;
+            argb[0] = 0;
         }
     }
 }
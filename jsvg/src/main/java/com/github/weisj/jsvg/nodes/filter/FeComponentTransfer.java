@@ -21,7 +21,7 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
-import java.awt.image.*;
+import java.util.Collections;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -39,19 +39,17 @@ import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
-import com.github.weisj.jsvg.util.ColorUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
     categories = {Category.TransferFunctionElement},
     anyOf = {Animate.class, Set.class}
 )
-public class FeComponentTransfer extends ContainerNode implements FilterPrimitive {
+public class FeComponentTransfer extends ContainerNode implements ColorOperationPrimitive {
     public static final String TAG = "fecomponenttransfer";
 
     private FilterPrimitiveBase filterPrimitiveBase;
-    private ByteLookupTable sRGBlookupTable;
-    private ByteLookupTable linearRGBlookupTable;
+    private @Nullable LookupColorOperation lookupOperation;
 
     @Override
     public @NotNull String tagName() {
@@ -97,8 +95,9 @@ public class FeComponentTransfer extends ContainerNode implements FilterPrimitiv
             }
         }
 
+        lookupOperation = null;
         if (redValid || greenValid || blueValid || alphaValid) {
-            sRGBlookupTable = new ByteLookupTable(0, tables);
+            lookupOperation = new LookupColorOperation(tables[0], tables[1], tables[2], tables[3]);
         }
         children().clear();
     }
@@ -136,35 +135,66 @@ public class FeComponentTransfer extends ContainerNode implements FilterPrimitiv
         filterPrimitiveBase.saveLayoutResult(bounds, filterLayoutContext);
     }
 
-    private @Nullable LookupTable lookupTable(@NotNull FilterContext filterContext) {
-        if (sRGBlookupTable == null) return null;
-        if (filterPrimitiveBase.colorInterpolation(filterContext) != ColorInterpolation.LinearRGB) {
-            return sRGBlookupTable;
-        }
-        if (linearRGBlookupTable == null) {
-            byte[][] tables = sRGBlookupTable.getTable();
-            for (int j = 0; j < tables.length; j++) {
-                byte[] table = tables[j];
-                if (table == TransferFunctionElement.IDENTITY_LOOKUP_TABLE) continue;
-                byte[] lRGBtable = new byte[table.length];
-                for (int i = 0; i < table.length; i++) {
-                    lRGBtable[i] = (byte) ColorUtil.linearRGBtoSRGBBand(table[ColorUtil.sRGBtoLinearRGBBand(i)] & 0xff);
-                }
-                tables[j] = lRGBtable;
-            }
-            linearRGBlookupTable = new ByteLookupTable(0, tables);
-        }
-        return linearRGBlookupTable;
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        filterPrimitiveBase.forwardRegionOfInterest(regionOfInterest);
     }
 
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        LookupTable lookup = lookupTable(filterContext);
-        if (lookup == null) {
-            filterPrimitiveBase.noop(filterContext);
-            return;
+        ColorOperationChain.apply(Collections.singletonList(this), context, filterContext);
+    }
+
+    @Override
+    public @NotNull FilterPrimitiveBase primitiveBase() {
+        return filterPrimitiveBase;
+    }
+
+    @Override
+    public @Nullable ColorOperation colorOperation() {
+        return lookupOperation;
+    }
+
+    private static final class LookupColorOperation extends ColorOperation {
+        private final byte @NotNull [] red;
+        private final byte @NotNull [] green;
+        private final byte @NotNull [] blue;
+        private final byte @NotNull [] alpha;
+
+        private LookupColorOperation(byte @NotNull [] red, byte @NotNull [] green, byte @NotNull [] blue,
+                byte @NotNull [] alpha) {
+            this.red = red;
+            this.green = green;
+            this.blue = blue;
+            this.alpha = alpha;
+        }
+
+        @Override
+        void apply(int @NotNull [] argb) {
+            argb[3] = alpha[argb[3]] & 0xFF;
+            argb[2] = red[argb[2]] & 0xFF;
+            argb[1] = green[argb[1]] & 0xFF;
+            argb[0] = blue[argb[0]] & 0xFF;
+        }
+
+        @Override
+        @Nullable
+        ColorOperation andThen(@NotNull ColorOperation next) {
+            if (!(next instanceof LookupColorOperation)) return null;
+            LookupColorOperation op = (LookupColorOperation) next;
+            return new LookupColorOperation(
+                    compose(red, op.red), compose(green, op.green),
+                    compose(blue, op.blue), compose(alpha, op.alpha));
+        }
+
+        private static byte @NotNull [] compose(byte @NotNull [] first, byte @NotNull [] second) {
+            if (first == TransferFunctionElement.IDENTITY_LOOKUP_TABLE) return second;
+            if (second == TransferFunctionElement.IDENTITY_LOOKUP_TABLE) return first;
+            byte[] table = new byte[first.length];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = second[first[i] & 0xFF];
+            }
+            return table;
         }
-        ImageFilter f = new BufferedImageFilter(new LookupOp(lookup, filterContext.renderingHints()));
-        filterPrimitiveBase.saveResult(filterPrimitiveBase.inputChannel(filterContext).applyFilter(f), filterContext);
     }
 }
@@ -81,6 +81,18 @@ public final class FeDisplacementMap extends AbstractFilterPrimitive {
         impl().saveLayoutResult(layoutBounds, filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        if (scale == 0) {
+            impl().forwardRegionOfInterest(regionOfInterest);
+            return;
+        }
+        impl().takeRegionOfInterest(regionOfInterest);
+        // Both inputs are sampled at displaced or rescaled locations.
+        regionOfInterest.requestAll(impl().inputChannelKey());
+        regionOfInterest.requestAll(inputChannel2);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         if (scale == 0) {
@@ -22,7 +22,7 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.util.Arrays;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -30,6 +30,7 @@ import com.github.weisj.jsvg.attributes.Animatable;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.attributes.paint.AwtSVGPaint;
 import com.github.weisj.jsvg.attributes.paint.SVGPaint;
+import com.github.weisj.jsvg.attributes.paint.SimplePaintSVGPaint;
 import com.github.weisj.jsvg.attributes.value.PercentageValue;
 import com.github.weisj.jsvg.geometry.size.FloatInsets;
 import com.github.weisj.jsvg.geometry.size.Percentage;
@@ -42,6 +43,7 @@ import com.github.weisj.jsvg.parser.AttributeNode;
 import com.github.weisj.jsvg.renderer.Graphics2DOutput;
 import com.github.weisj.jsvg.renderer.GraphicsUtil;
 import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.util.ColorUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
@@ -73,21 +75,42 @@ public final class FeFlood extends AbstractFilterPrimitive {
         impl().saveLayoutResult(layoutBounds, filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        impl().takeRegionOfInterest(regionOfInterest);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        // Todo: We should be able to optimize this heavily by implementing a custom image producer.
-        // and even then filters like feBlend could benefit from knowing that this is a constant color.
+        // Todo: Filters like feBlend could benefit from knowing that this is a constant color.
         Filter.FilterInfo info = filterContext.info();
-        BufferedImage img = new BufferedImage(info.imageWidth, info.imageHeight, BufferedImage.TYPE_INT_ARGB);
+        RasterChannel result = RasterChannel.create(info.imageWidth, info.imageHeight);
+        Rectangle region = filterContext.regionOfInterest(impl());
         float opacity = floodOpacity.get(context.measureContext());
-        if (opacity != 0) {
-            Graphics2D graphics = GraphicsUtil.createGraphics(img);
-            graphics.setComposite(AlphaComposite.Src.derive(opacity));
-            Rectangle rect = new Rectangle(0, 0, img.getWidth(), img.getHeight());
-            floodColor.fillShape(new Graphics2DOutput(graphics), context, rect, rect);
-            graphics.dispose();
+        if (opacity != 0 && !region.isEmpty()) {
+            Paint paint = floodColor instanceof SimplePaintSVGPaint
+                    ? ((SimplePaintSVGPaint) floodColor).paint()
+                    : null;
+            if (paint instanceof Color) {
+                Color color = (Color) paint;
+                int alpha = Math.round(color.getAlpha() * Math.min(1, opacity));
+                int argb = (alpha << 24) | (color.getRGB() & 0x00FFFFFF);
+                int pixel = ColorUtil.premultiply(argb);
+                int[] data = result.data();
+                for (int y = region.y; y < region.y + region.height; y++) {
+                    int start = y * info.imageWidth + region.x;
+                    Arrays.fill(data, start, start + region.width, pixel);
+                }
+            } else {
+                Graphics2D graphics = GraphicsUtil.createGraphics(result.image());
+                graphics.setComposite(AlphaComposite.Src.derive(opacity));
+                Rectangle rect = new Rectangle(0, 0, info.imageWidth, info.imageHeight);
+                graphics.clip(region);
+                floodColor.fillShape(new Graphics2DOutput(graphics), context, rect, rect);
+                graphics.dispose();
+            }
         }
-        impl().saveResult(new ImageProducerChannel(img.getSource()), filterContext);
+        impl().saveResult(result, filterContext);
     }
 
 }
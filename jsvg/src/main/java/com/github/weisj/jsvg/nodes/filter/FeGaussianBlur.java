@@ -24,6 +24,7 @@ package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
 
 import org.jetbrains.annotations.ApiStatus;
@@ -56,10 +57,8 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
     private float[] stdDeviation;
     private EdgeMode edgeMode;
 
-    private double xCurrent;
-    private double yCurrent;
-    private Kernel xBlur;
-    private Kernel yBlur;
+    private volatile @Nullable CachedKernel xBlur;
+    private volatile @Nullable CachedKernel yBlur;
     private boolean onlyAlpha;
 
     @Override
@@ -99,6 +98,22 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
         impl().saveLayoutResult(input.grow(hExtend, vExtend, filterLayoutContext), filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        if (edgeMode == EdgeMode.Wrap) {
+            impl().takeRegionOfInterest(regionOfInterest);
+            regionOfInterest.requestAll(impl().inputChannelKey());
+            return;
+        }
+        Rectangle2D region = impl().takeRegionOfInterest(regionOfInterest);
+        double[] sigma = computeAbsoluteStdDeviation(null);
+        // The box blur approximation applies three passes, each extending by half the diameter.
+        double hExtend = sigma[0] > 0 ? 1.5 * kernelDiameterForStandardDeviation(sigma[0]) + 1 : 0;
+        double vExtend = sigma[1] > 0 ? 1.5 * kernelDiameterForStandardDeviation(sigma[1]) + 1 : 0;
+        impl().requestInput(new Rectangle2D.Double(region.getX() - hExtend, region.getY() - vExtend,
+                region.getWidth() + 2 * hExtend, region.getHeight() + 2 * vExtend), regionOfInterest);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         if (stdDeviation.length == 0) {
@@ -140,24 +155,33 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
 
 
     private @NotNull Kernel createConvolveKernel(int diameter, double sigma, boolean horizontal) {
-        if (horizontal && xBlur != null && xCurrent == sigma) return xBlur;
-        if (!horizontal && yBlur != null && yCurrent == sigma) return yBlur;
-
-        if (horizontal) {
-            xCurrent = sigma;
-        } else {
-            yCurrent = sigma;
-        }
+        CachedKernel cached = horizontal ? xBlur : yBlur;
+        if (cached != null && cached.sigma == sigma && cached.diameter == diameter) return cached.kernel;
 
         float[] data = computeGaussianKernelData(diameter, sigma);
+        Kernel kernel = horizontal
+                ? new Kernel(diameter, 1, data)
+                : new Kernel(1, diameter, data);
 
+        cached = new CachedKernel(sigma, diameter, kernel);
         if (horizontal) {
-            xBlur = new Kernel(diameter, 1, data);
+            xBlur = cached;
         } else {
-            yBlur = new Kernel(1, diameter, data);
+            yBlur = cached;
         }
+        return kernel;
+    }
 
-        return horizontal ? xBlur : yBlur;
+    private static final class CachedKernel {
+        private final double sigma;
+        private final int diameter;
+        private final @NotNull Kernel kernel;
+
+        private CachedKernel(double sigma, int diameter, @NotNull Kernel kernel) {
+            this.sigma = sigma;
+            this.diameter = diameter;
+            this.kernel = kernel;
+        }
     }
 
     private static float normalConvolve(float x, double standardDeviation) {
@@ -253,27 +277,11 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
         }
 
         private void horizontalBoxBlur(@NotNull WritableRaster raster) {
-            if ((dX & 0x01) == 0) {
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2 - 1);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX + 1, dX / 2);
-            } else {
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-            }
+            ParallelBoxBlurFilter.horizontalBlur(raster, dX);
         }
 
         private void verticalBoxBlur(@NotNull WritableRaster raster) {
-            if ((dY & 0x01) == 0) {
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2 - 1);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY + 1, dY / 2);
-            } else {
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-            }
+            ParallelBoxBlurFilter.verticalBlur(raster, dY);
         }
     }
 }
@@ -21,8 +21,7 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
-import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.awt.geom.Rectangle2D;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -37,8 +36,8 @@ import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.AttributeNode;
-import com.github.weisj.jsvg.renderer.GraphicsUtil;
 import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.util.ColorUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
@@ -110,6 +109,18 @@ public final class FeMerge extends ContainerNode implements FilterPrimitive {
         filterPrimitiveBase.saveLayoutResult(result, filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        Rectangle2D region = filterPrimitiveBase.takeRegionOfInterest(regionOfInterest);
+        if (inputChannels.length == 0) {
+            regionOfInterest.request(DefaultFilterChannel.SourceGraphic, region);
+            return;
+        }
+        for (FilterChannelKey inputChannel : inputChannels) {
+            regionOfInterest.request(inputChannel, region);
+        }
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         if (inputChannels.length == 0) {
@@ -121,18 +132,42 @@ public final class FeMerge extends ContainerNode implements FilterPrimitive {
         Channel in = filterPrimitiveBase.channel(inputChannels[0], filterContext);
         Channel result = in;
         if (inputChannels.length > 1) {
-            BufferedImage dst = in.toBufferedImageNonAliased(context);
-            Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst);
+            RasterChannel dst = RasterChannel.of(in, context).copy();
             for (int i = 1; i < inputChannels.length; i++) {
                 Channel channel = filterPrimitiveBase.channel(inputChannels[i], filterContext);
-                imgGraphics.drawImage(context.platformSupport().createImage(channel.producer()),
-                        null, context.platformSupport().imageObserver());
+                compositeSrcOver(RasterChannel.of(channel, context), dst);
             }
-            result = new ImageProducerChannel(dst.getSource());
+            result = dst;
         }
         filterPrimitiveBase.saveResult(result, filterContext);
     }
 
+    private static void compositeSrcOver(@NotNull RasterChannel src, @NotNull RasterChannel dst) {
+        int width = Math.min(src.width(), dst.width());
+        int height = Math.min(src.height(), dst.height());
+        int[] srcData = src.data();
+        int[] dstData = dst.data();
+        for (int y = 0; y < height; y++) {
+            int sp = y * src.width();
+            int dp = y * dst.width();
+            for (int end = dp + width; dp < end; dp++, sp++) {
+                int s = srcData[sp];
+                int sa = s >>> 24;
+                if (sa == 0xFF) {
+                    dstData[dp] = s;
+                } else if (sa != 0) {
+                    int d = dstData[dp];
+                    int inv = 0xFF - sa;
+                    int a = sa + ColorUtil.div255((d >>> 24) * inv);
+                    int r = ((s >> 16) & 0xFF) + ColorUtil.div255(((d >> 16) & 0xFF) * inv);
+                    int g = ((s >> 8) & 0xFF) + ColorUtil.div255(((d >> 8) & 0xFF) * inv);
+                    int b = (s & 0xFF) + ColorUtil.div255((d & 0xFF) * inv);
+                    dstData[dp] = (a << 24) | (r << 16) | (g << 8) | b;
+                }
+            }
+        }
+    }
+
     @Override
     public ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext) {
         return filterPrimitiveBase.colorInterpolation(filterContext);
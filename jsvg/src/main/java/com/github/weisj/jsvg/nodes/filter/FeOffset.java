@@ -21,11 +21,11 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.AffineTransformOp;
-import java.awt.image.BufferedImageFilter;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -87,6 +87,14 @@ public final class FeOffset extends AbstractFilterPrimitive {
         impl().saveLayoutResult(result, filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        Rectangle2D region = impl().takeRegionOfInterest(regionOfInterest);
+        Point2D.Double off = offset(null, regionOfInterest.primitiveUnits(), regionOfInterest.elementBounds());
+        impl().requestInput(new Rectangle2D.Double(region.getX() - off.x, region.getY() - off.y,
+                region.getWidth(), region.getHeight()), regionOfInterest);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         Channel in = impl().inputChannel(filterContext);
@@ -94,12 +102,40 @@ public final class FeOffset extends AbstractFilterPrimitive {
         if (dx != 0 || dy != 0) {
             AffineTransform at = filterContext.info().output().transform();
             Point2D.Double off = offset(at, filterContext.primitiveUnits(), filterContext.info().elementBounds());
+            RasterChannel input = RasterChannel.of(in, context);
             AffineTransform transform = AffineTransform.getTranslateInstance(off.x, off.y);
-
             AffineTransformOp op = new AffineTransformOp(transform, filterContext.renderingHints());
-            result = in.applyFilter(new BufferedImageFilter(op));
+            // Note: The result extends to the translated bounds of the input, as the filter region may be larger.
+            Rectangle bounds = op.getBounds2D(input.image()).getBounds();
+            RasterChannel output = RasterChannel.create(
+                    Math.max(1, bounds.x + bounds.width),
+                    Math.max(1, bounds.y + bounds.height));
+            if (off.x == Math.rint(off.x) && off.y == Math.rint(off.y)) {
+                translatePixels(input, output, (int) off.x, (int) off.y);
+            } else {
+                op.filter(input.image(), output.image());
+            }
+            result = output;
         }
 
         impl().saveResult(result, filterContext);
     }
+
+    private static void translatePixels(@NotNull RasterChannel input, @NotNull RasterChannel output,
+            int offsetX, int offsetY) {
+        int srcWidth = input.width();
+        int dstWidth = output.width();
+        int startX = Math.max(0, offsetX);
+        int endX = Math.min(dstWidth, srcWidth + offsetX);
+        int startY = Math.max(0, offsetY);
+        int endY = Math.min(output.height(), input.height() + offsetY);
+        if (startX >= endX || startY >= endY) return;
+
+        int[] src = input.data();
+        int[] dst = output.data();
+        int rowLength = endX - startX;
+        for (int y = startY; y < endY; y++) {
+            System.arraycopy(src, (y - offsetY) * srcWidth + startX - offsetX, dst, y * dstWidth + startX, rowLength);
+        }
+    }
 }
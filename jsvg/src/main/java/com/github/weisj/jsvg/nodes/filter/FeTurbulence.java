@@ -21,11 +21,20 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.*;
 import java.awt.color.ColorSpace;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.geometry.noise.PerlinTurbulence;
@@ -89,70 +98,188 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
                 filterLayoutContext);
     }
 
+    @Override
+    public void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        impl().takeRegionOfInterest(regionOfInterest);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         Filter.FilterInfo info = filterContext.info();
-        Channel turbulenceChannel =
-                new TurbulenceChannel(info.imageBounds(), info.imageWidth, info.imageHeight, seed, numOctaves,
-                        baseFrequency[0], baseFrequency.length > 1 ? baseFrequency[1] : baseFrequency[0], type);
+        Channel turbulenceChannel = new TurbulenceChannel(info.imageBounds(), info.imageWidth, info.imageHeight,
+                filterContext.regionOfInterest(impl()), seed, numOctaves,
+                baseFrequency[0], baseFrequency.length > 1 ? baseFrequency[1] : baseFrequency[0], type,
+                TurbulenceTileCache.forContext(context));
         impl().saveResult(turbulenceChannel, filterContext);
     }
 
     public static final class TurbulenceChannel implements Channel, PixelProvider {
+        // Regions smaller than this are generated on the calling thread.
+        private static final int PARALLEL_THRESHOLD = 64 * 64;
+        private static final int MIN_PIXELS_PER_TASK = 32 * 32;
+        // Maximum distance in pixels from the pixel grid up to which the generated noise is reused.
+        private static final double GRID_TOLERANCE = 1e-6;
+        // Resolution in pixels with which the origin of the image is placed on the pixel grid.
+        private static final double GRID_PHASE_STEPS = 1 << 20;
 
-        private final PerlinTurbulence perlinTurbulence;
         private final double[] channels = new double[4];
+        private final float seed;
+        private final int octaves;
+        private final double xFrequency;
+        private final double yFrequency;
         private final int imageWidth;
         private final int imageHeight;
         private final Type type;
         private final Rectangle2D tileBounds;
-        private BufferedImage bufferedImage;
-
+        private final Rectangle region;
+        private final @NotNull PixelGrid grid;
+        private final long gridX;
+        private final long gridY;
+        private final @Nullable TurbulenceTileCache cache;
+        private PerlinTurbulence perlinTurbulence;
+        private int[] noise;
+        private BufferedImage image;
+
+        /**
+         * @param tileBounds the area covered by the image.
+         * @param imageWidth the width of the image.
+         * @param imageHeight the height of the image.
+         * @param region the pixels of the image which should be computed. All other pixels are
+         *        transparent.
+         * @param seed the seed of the noise.
+         * @param octaves the number of octaves.
+         * @param xFrequency the base frequency in x direction.
+         * @param yFrequency the base frequency in y direction.
+         * @param type the type of noise.
+         * @param cache the cache to share the generated noise with. If null the noise is only
+         *        reused by this channel.
+         */
         public TurbulenceChannel(@NotNull Rectangle2D tileBounds, int imageWidth, int imageHeight,
-                float seed, int octaves, double xFrequency, double yFrequency, Type type) {
+                @NotNull Rectangle region, float seed, int octaves, double xFrequency, double yFrequency,
+                Type type, @Nullable TurbulenceTileCache cache) {
             this.tileBounds = tileBounds;
             this.imageWidth = imageWidth;
             this.imageHeight = imageHeight;
+            this.region = region.intersection(new Rectangle(0, 0, imageWidth, imageHeight));
             this.type = type;
-            this.perlinTurbulence = new PerlinTurbulence((int) seed, octaves, xFrequency, yFrequency);
+            this.seed = seed;
+            this.octaves = octaves;
+            this.xFrequency = xFrequency;
+            this.yFrequency = yFrequency;
+            this.cache = cache;
+
+            double scaleX = PixelGrid.roundOff(tileBounds.getWidth() / imageWidth);
+            double scaleY = PixelGrid.roundOff(tileBounds.getHeight() / imageHeight);
+            double originX = Math.rint(tileBounds.getX() / scaleX * GRID_PHASE_STEPS) / GRID_PHASE_STEPS;
+            double originY = Math.rint(tileBounds.getY() / scaleY * GRID_PHASE_STEPS) / GRID_PHASE_STEPS;
+            this.gridX = (long) Math.floor(originX);
+            this.gridY = (long) Math.floor(originY);
+            this.grid = new PixelGrid(scaleX, scaleY, originX - gridX, originY - gridY);
         }
 
-        private @NotNull BufferedImage ensureImageBackingStore() {
-            if (bufferedImage == null) {
-                ColorSpace cs = ColorSpace.getInstance(ColorSpace.CS_LINEAR_RGB);
-                ColorModel cm = new DirectColorModel(cs, 32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000,
-                        false, DataBuffer.TYPE_INT);
-                WritableRaster dest = cm.createCompatibleWritableRaster(imageWidth, imageHeight);
-                bufferedImage = new BufferedImage(cm, dest, false, null);
-
-                final int w = dest.getWidth();
-                final int h = dest.getHeight();
-
-                final double scaleX = tileBounds.getWidth() / (double) w;
-                final double scaleY = tileBounds.getHeight() / (double) h;
+        private @NotNull PerlinTurbulence perlinTurbulence() {
+            if (perlinTurbulence == null) {
+                perlinTurbulence = new PerlinTurbulence((int) seed, octaves, xFrequency, yFrequency);
+            }
+            return perlinTurbulence;
+        }
 
-                final double startX = tileBounds.getX();
-                final double startY = tileBounds.getY();
+        /**
+         * @return the unconverted noise values of the image in row major order. Values outside of
+         *         the region are zero.
+         */
+        private int @NotNull [] ensureNoise() {
+            if (noise != null) return noise;
+            int[] values = new int[imageWidth * imageHeight];
+            if (!region.isEmpty()) {
+                if (cache == null) {
+                    NoiseTarget target = new NoiseTarget(this, values, imageWidth, gridX, gridY,
+                            gridX + region.x, region.width);
+                    generate(Collections.singletonList(new GenerateTask(target,
+                            gridY + region.y, gridY + region.y + region.height)),
+                            (long) region.width * region.height);
+                } else {
+                    copyCachedTiles(cache, values);
+                }
+            }
+            noise = values;
+            return noise;
+        }
 
-                boolean fractalNoise = type == Type.fractalNoise;
+        private void copyCachedTiles(@NotNull TurbulenceTileCache cache, int @NotNull [] values) {
+            int size = TurbulenceTileCache.TILE_SIZE;
+            long startX = gridX + region.x;
+            long startY = gridY + region.y;
+            long endX = startX + region.width;
+            long endY = startY + region.height;
+            long firstColumn = Math.floorDiv(startX, size);
+            long firstRow = Math.floorDiv(startY, size);
+            int columns = (int) (Math.floorDiv(endX - 1, size) - firstColumn + 1);
+            int rows = (int) (Math.floorDiv(endY - 1, size) - firstRow + 1);
+
+            TurbulenceTileCache.Key[] keys = new TurbulenceTileCache.Key[columns * rows];
+            int[][] tiles = new int[columns * rows][];
+            List<GenerateTask> missing = new ArrayList<>();
+            for (int i = 0; i < tiles.length; i++) {
+                long column = firstColumn + i % columns;
+                long row = firstRow + i / columns;
+                keys[i] = new TurbulenceTileCache.Key(seed, octaves, xFrequency, yFrequency, type, grid,
+                        column, row);
+                tiles[i] = cache.get(keys[i]);
+                if (tiles[i] == null) {
+                    tiles[i] = new int[size * size];
+                    NoiseTarget target = new NoiseTarget(this, tiles[i], size, column * size, row * size,
+                            column * size, size);
+                    missing.add(new GenerateTask(target, row * size, (row + 1) * size));
+                }
+            }
+            generate(missing, (long) missing.size() * size * size);
+
+            for (int i = 0; i < tiles.length; i++) {
+                int[] tile = cache.putIfAbsent(keys[i], tiles[i]);
+                long tileX = (firstColumn + i % columns) * size;
+                long tileY = (firstRow + i / columns) * size;
+                long fromX = Math.max(startX, tileX);
+                int width = (int) (Math.min(endX, tileX + size) - fromX);
+                for (long y = Math.max(startY, tileY), toY = Math.min(endY, tileY + size); y < toY; y++) {
+                    System.arraycopy(tile, (int) ((y - tileY) * size + fromX - tileX),
+                            values, (int) ((y - gridY) * imageWidth + fromX - gridX), width);
+                }
+            }
+        }
 
-                final int[] destPixels = ImageUtil.getINT_RGBA_DataBank(dest);
-                final int dstAdjust = ImageUtil.getINT_RGBA_DataAdjust(dest);
-                int dp = ImageUtil.getINT_RGBA_DataOffset(dest);
+        private static void generate(@NotNull List<GenerateTask> tasks, long pixelCount) {
+            if (tasks.isEmpty()) return;
+            if (pixelCount < PARALLEL_THRESHOLD) {
+                for (GenerateTask task : tasks) {
+                    task.compute();
+                }
+            } else {
+                ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> {
+                    ForkJoinTask.invokeAll(tasks);
+                }));
+            }
+        }
 
-                double point_1 = startY;
-                for (int i = 0; i < h; i++) {
-                    double point_0 = startX;
-                    for (int end = dp + w; dp < end; dp++) {
-                        perlinTurbulence.turbulence(channels, point_0, point_1, fractalNoise, null, null);
-                        destPixels[dp] = cm.getRGB(channelsToRGB(channels));
-                        point_0 += scaleX;
-                    }
-                    point_1 += scaleY;
-                    dp += dstAdjust;
+        @NotNull BufferedImage ensureImageBackingStore() {
+            if (image != null) return image;
+            int[] values = ensureNoise();
+            ColorSpace cs = ColorSpace.getInstance(ColorSpace.CS_LINEAR_RGB);
+            ColorModel cm = new DirectColorModel(cs, 32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000,
+                    false, DataBuffer.TYPE_INT);
+            WritableRaster dest = cm.createCompatibleWritableRaster(imageWidth, imageHeight);
+            int[] pixels = ImageUtil.getINT_RGBA_DataBank(dest);
+            int offset = ImageUtil.getINT_RGBA_DataOffset(dest);
+            int scanlineStride = ImageUtil.getINT_RGBA_ScanlineStride(dest);
+            for (int y = region.y, endY = region.y + region.height; y < endY; y++) {
+                int dp = offset + y * scanlineStride + region.x;
+                int np = y * imageWidth + region.x;
+                for (int x = 0; x < region.width; x++) {
+                    pixels[dp + x] = cm.getRGB(values[np + x]);
                 }
             }
-            return bufferedImage;
+            image = new BufferedImage(cm, dest, false, null);
+            return image;
         }
 
         @Override
@@ -180,7 +307,15 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
 
         @Override
         public int pixelAt(double x, double y) {
-            perlinTurbulence.turbulence(channels, x, y, type == Type.fractalNoise, null, null);
+            double px = (x - tileBounds.getX()) * imageWidth / tileBounds.getWidth();
+            double py = (y - tileBounds.getY()) * imageHeight / tileBounds.getHeight();
+            int ix = (int) Math.round(px);
+            int iy = (int) Math.round(py);
+            if (Math.abs(px - ix) < GRID_TOLERANCE && Math.abs(py - iy) < GRID_TOLERANCE
+                    && region.contains(ix, iy)) {
+                return ensureNoise()[iy * imageWidth + ix];
+            }
+            perlinTurbulence().turbulence(channels, x, y, type == Type.fractalNoise);
             return channelsToRGB(channels);
         }
 
@@ -216,5 +351,119 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
 
             return j;
         }
+
+        /**
+         * A part of the pixel grid whose noise is written into an array.
+         */
+        private static final class NoiseTarget {
+            private final @NotNull PerlinTurbulence perlinTurbulence;
+            private final boolean fractalNoise;
+            private final @NotNull PixelGrid grid;
+            private final int @NotNull [] noise;
+            private final int stride;
+            // The position of the first value of the array on the grid.
+            private final long originX;
+            private final long originY;
+            private final long startX;
+            private final int width;
+
+            private NoiseTarget(@NotNull TurbulenceChannel channel, int @NotNull [] noise, int stride,
+                    long originX, long originY, long startX, int width) {
+                this.perlinTurbulence = channel.perlinTurbulence();
+                this.fractalNoise = channel.type == Type.fractalNoise;
+                this.grid = channel.grid;
+                this.noise = noise;
+                this.stride = stride;
+                this.originX = originX;
+                this.originY = originY;
+                this.startX = startX;
+                this.width = width;
+            }
+        }
+
+        @SuppressWarnings("serial")
+        private static final class GenerateTask extends RecursiveAction {
+            private final @NotNull NoiseTarget target;
+            private final long startRow;
+            private final long endRow;
+
+            private GenerateTask(@NotNull NoiseTarget target, long startRow, long endRow) {
+                this.target = target;
+                this.startRow = startRow;
+                this.endRow = endRow;
+            }
+
+            @Override
+            protected void compute() {
+                long rowCount = endRow - startRow;
+                if (rowCount > 1 && rowCount * target.width > 2L * MIN_PIXELS_PER_TASK) {
+                    long mid = startRow + rowCount / 2;
+                    invokeAll(new GenerateTask(target, startRow, mid), new GenerateTask(target, mid, endRow));
+                    return;
+                }
+                double[] channels = new double[4];
+                PixelGrid grid = target.grid;
+                for (long y = startRow; y < endRow; y++) {
+                    double pointY = grid.y(y);
+                    int np = (int) ((y - target.originY) * target.stride + target.startX - target.originX);
+                    for (long x = target.startX, end = target.startX + target.width; x < end; x++, np++) {
+                        target.perlinTurbulence.turbulence(channels, grid.x(x), pointY, target.fractalNoise);
+                        target.noise[np] = channelsToRGB(channels);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The pixel grid of a filter image in user space. Pixel {@code (x, y)} of the grid is located
+     * at {@code ((x + phaseX) * scaleX, (y + phaseY) * scaleY)}. Images which only differ by whole
+     * pixels share the same grid.
+     */
+    static final class PixelGrid {
+        private final double scaleX;
+        private final double scaleY;
+        private final double phaseX;
+        private final double phaseY;
+
+        PixelGrid(double scaleX, double scaleY, double phaseX, double phaseY) {
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.phaseX = phaseX;
+            this.phaseY = phaseY;
+        }
+
+        /**
+         * Drops the last bits of the mantissa such that values which only differ by rounding errors
+         * are equal.
+         */
+        static double roundOff(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+            return Double.longBitsToDouble((bits + (1L << 11)) & ~((1L << 12) - 1));
+        }
+
+        double x(long x) {
+            return (x + phaseX) * scaleX;
+        }
+
+        double y(long y) {
+            return (y + phaseY) * scaleY;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PixelGrid)) return false;
+            PixelGrid grid = (PixelGrid) o;
+            return Double.compare(scaleX, grid.scaleX) == 0
+                    && Double.compare(scaleY, grid.scaleY) == 0
+                    && Double.compare(phaseX, grid.phaseX) == 0
+                    && Double.compare(phaseY, grid.phaseY) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scaleX, scaleY, phaseX, phaseY);
+        }
     }
 }
@@ -23,6 +23,8 @@ package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -166,21 +168,26 @@ public final class Filter extends ContainerNode {
 
     public @NotNull BufferedImage applyFilter(@NotNull Output output, @NotNull RenderContext context,
             @NotNull FilterInfo filterInfo) {
-        ImageProducer producer = filterInfo.blittableImage.image().getSource();
+        FilterContext filterContext = new FilterContext(filterInfo, filterPrimitiveUnits, colorInterpolation,
+                output.renderingHints(), computeRegionOfInterest(output, context, filterInfo));
 
-        FilterContext filterContext =
-                new FilterContext(filterInfo, filterPrimitiveUnits, colorInterpolation, output.renderingHints());
-
-        Channel sourceChannel = new ImageProducerChannel(producer);
+        Channel sourceChannel = RasterChannel.fromImage(filterInfo.blittableImage.image());
         filterContext.resultChannels().addResult(DefaultFilterChannel.SourceGraphic, sourceChannel);
         filterContext.resultChannels().addResult(DefaultFilterChannel.LastResult, sourceChannel);
         filterContext.resultChannels().addResult(DefaultFilterChannel.SourceAlpha,
-                () -> new SourceAlphaChannel(sourceChannel.alphaChannel().producer()));
+                sourceChannel::alphaChannel);
 
-        for (SVGNode child : children()) {
+        List<? extends SVGNode> primitives = children();
+        for (int i = 0; i < primitives.size(); i++) {
             try {
-                FilterPrimitive filterPrimitive = (FilterPrimitive) child;
-                filterPrimitive.applyFilter(context, filterContext);
+                FilterPrimitive filterPrimitive = (FilterPrimitive) primitives.get(i);
+                if (filterPrimitive instanceof ColorOperationPrimitive) {
+                    List<ColorOperationPrimitive> chain = colorOperationChain(primitives, i);
+                    ColorOperationChain.apply(chain, context, filterContext);
+                    i += chain.size() - 1;
+                } else {
+                    filterPrimitive.applyFilter(context, filterContext);
+                }
             } catch (IllegalFilterStateException e) {
                 // Just carry on applying filters
                 LOGGER.log(Level.FINE, "Exception during filter", e);
@@ -189,9 +196,45 @@ public final class Filter extends ContainerNode {
         }
 
         Channel result = Objects.requireNonNull(filterContext.getChannel(DefaultFilterChannel.LastResult));
+        // The filter context is discarded afterwards, hence no primitive can observe the result anymore.
+        if (result instanceof RasterChannel) return ((RasterChannel) result).image();
         return result.toBufferedImageNonAliased(context);
     }
 
+    private @NotNull RegionOfInterest computeRegionOfInterest(@NotNull Output output, @NotNull RenderContext context,
+            @NotNull FilterInfo filterInfo) {
+        RegionOfInterest regionOfInterest =
+                new RegionOfInterest(filterPrimitiveUnits, filterInfo.elementBounds(), filterInfo.filterRegion());
+        Rectangle2D visibleRegion = filterInfo.filterRegion().createIntersection(output.clipBounds());
+        regionOfInterest.request(DefaultFilterChannel.LastResult, visibleRegion);
+
+        List<? extends SVGNode> primitives = children();
+        for (int i = primitives.size() - 1; i >= 0; i--) {
+            try {
+                ((FilterPrimitive) primitives.get(i)).requestRegionOfInterest(context, regionOfInterest);
+            } catch (IllegalFilterStateException ignored) {
+                // Primitives without a region compute their whole result
+            }
+        }
+        return regionOfInterest;
+    }
+
+    private static @NotNull List<ColorOperationPrimitive> colorOperationChain(
+            @NotNull List<? extends SVGNode> primitives, int start) {
+        List<ColorOperationPrimitive> chain = new ArrayList<>();
+        ColorOperationPrimitive current = (ColorOperationPrimitive) primitives.get(start);
+        chain.add(current);
+        for (int i = start + 1; i < primitives.size(); i++) {
+            SVGNode next = primitives.get(i);
+            if (!(next instanceof ColorOperationPrimitive)) break;
+            ColorOperationPrimitive nextPrimitive = (ColorOperationPrimitive) next;
+            if (!ColorOperationChain.canChain(current, nextPrimitive)) break;
+            chain.add(nextPrimitive);
+            current = nextPrimitive;
+        }
+        return chain;
+    }
+
     @Override
     protected boolean acceptChild(@Nullable String id, @NotNull SVGNode node) {
         return node instanceof FilterPrimitive && super.acceptChild(id, node);
@@ -266,11 +309,4 @@ public final class Filter extends ContainerNode {
                     imageBounds.getHeight());
         }
     }
-
-    private static final class SourceAlphaChannel extends ImageProducerChannel {
-        public SourceAlphaChannel(@NotNull ImageProducer producer) {
-            super(producer);
-        }
-
-    }
 }
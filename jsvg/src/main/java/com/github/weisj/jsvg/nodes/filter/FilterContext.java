@@ -22,6 +22,7 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,13 +38,21 @@ public final class FilterContext {
     private final @NotNull UnitType primitiveUnits;
     private final @Nullable ColorInterpolation colorInterpolation;
     private final @Nullable RenderingHints renderingHints;
+    private final @Nullable RegionOfInterest regionOfInterest;
 
     public FilterContext(@NotNull Filter.FilterInfo info, @NotNull UnitType primitiveUnits,
             @Nullable ColorInterpolation colorInterpolation, @Nullable RenderingHints renderingHints) {
+        this(info, primitiveUnits, colorInterpolation, renderingHints, null);
+    }
+
+    public FilterContext(@NotNull Filter.FilterInfo info, @NotNull UnitType primitiveUnits,
+            @Nullable ColorInterpolation colorInterpolation, @Nullable RenderingHints renderingHints,
+            @Nullable RegionOfInterest regionOfInterest) {
         this.info = info;
         this.primitiveUnits = primitiveUnits;
         this.colorInterpolation = colorInterpolation;
         this.renderingHints = renderingHints;
+        this.regionOfInterest = regionOfInterest;
     }
 
     public @NotNull Filter.FilterInfo info() {
@@ -58,6 +67,19 @@ public final class FilterContext {
         return renderingHints;
     }
 
+    /**
+     * The pixels of the result of the given primitive which are needed by later primitives. Pixels
+     * outside of this area may be left transparent.
+     *
+     * @param primitive the primitive.
+     * @return the area of the result image in pixels.
+     */
+    public @NotNull Rectangle regionOfInterest(@NotNull FilterPrimitiveBase primitive) {
+        if (regionOfInterest == null) return new Rectangle(0, 0, info.imageWidth, info.imageHeight);
+        AffineTransform userToImage = info.output().transform();
+        return regionOfInterest.resultPixelBounds(primitive, userToImage, info.imageWidth, info.imageHeight);
+    }
+
     public @NotNull ChannelStorage<Channel> resultChannels() {
         return resultChannels;
     }
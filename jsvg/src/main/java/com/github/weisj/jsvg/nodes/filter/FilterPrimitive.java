@@ -48,6 +48,20 @@ public interface FilterPrimitive {
 
     void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext);
 
+    /**
+     * Take the area requested from the result of this primitive and request the areas of the
+     * inputs which are needed to compute it. Primitives are visited in reverse order.
+     * <p>
+     * By default the whole result is computed from the whole filter region of all inputs.
+     * Primitives which need less should override this.
+     *
+     * @param context the render context.
+     * @param regionOfInterest the requested areas.
+     */
+    default void requestRegionOfInterest(@NotNull RenderContext context, @NotNull RegionOfInterest regionOfInterest) {
+        regionOfInterest.requestEverything();
+    }
+
     void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext);
 
     ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext);
@@ -22,6 +22,8 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 
+import java.awt.geom.Rectangle2D;
+
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.attributes.ColorInterpolation;
@@ -60,6 +62,16 @@ public final class FilterPrimitiveBase {
         return filterContext.colorInterpolation(colorInterpolation);
     }
 
+    @NotNull
+    FilterChannelKey inputChannelKey() {
+        return inputChannel;
+    }
+
+    @NotNull
+    FilterChannelKey resultChannelKey() {
+        return resultChannel;
+    }
+
     public @NotNull Channel channel(@NotNull FilterChannelKey key, @NotNull FilterContext context) {
         return context.getChannel(key);
     }
@@ -72,6 +84,24 @@ public final class FilterPrimitiveBase {
         return context.resultChannels().get(inputChannel);
     }
 
+    public @NotNull Rectangle2D takeRegionOfInterest(@NotNull RegionOfInterest regionOfInterest) {
+        return regionOfInterest.takeResult(this, resultChannel);
+    }
+
+    public void requestInput(@NotNull Rectangle2D region, @NotNull RegionOfInterest regionOfInterest) {
+        regionOfInterest.request(inputChannel, region);
+    }
+
+    /**
+     * Request the same area of the input as requested from the result. This is correct for all
+     * primitives whose result pixels only depend on the input pixels at the same location.
+     *
+     * @param regionOfInterest the requested areas.
+     */
+    public void forwardRegionOfInterest(@NotNull RegionOfInterest regionOfInterest) {
+        requestInput(takeRegionOfInterest(regionOfInterest), regionOfInterest);
+    }
+
     public void noop(@NotNull FilterContext context) {
         saveResult(inputChannel(context), context);
     }
@@ -54,9 +54,15 @@ public class ImageProducerChannel implements Channel, PixelProvider {
         return rasterBuffer(context);
     }
 
+    @Override
+    public @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
+        if (rasterBuffer != null) return Channel.makeNonAliased(rasterBuffer);
+        return Channel.super.toBufferedImageNonAliased(context);
+    }
+
     private @NotNull BufferedImage rasterBuffer(@NotNull RenderContext context) {
         if (rasterBuffer == null) {
-            rasterBuffer = Channel.makeNonAliased(context.platformSupport().createImage(producer()));
+            rasterBuffer = Channel.super.toBufferedImageNonAliased(context);
         }
         return rasterBuffer;
     }
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.image.WritableRaster;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.util.ImageUtil;
+
+/**
+ * Approximates a gaussian blur along one axis by three successive box blurs on premultiplied
+ * INT_ARGB data. The result is identical to three passes of {@link InplaceBoxBlurFilter}, but all
+ * passes are applied to a line while it is in cache, columns are blurred on contiguous scratch
+ * buffers instead of walking the raster with a stride and large images are split across the
+ * common {@link ForkJoinPool}.
+ */
+final class ParallelBoxBlurFilter {
+    // Images smaller than this are blurred on the calling thread.
+    private static final int PARALLEL_THRESHOLD = 128 * 128;
+    private static final int MIN_PIXELS_PER_TASK = 64 * 64;
+    // Number of columns which are copied to the scratch buffer at once.
+    private static final int COLUMN_BLOCK_SIZE = 16;
+
+    private ParallelBoxBlurFilter() {}
+
+    static void horizontalBlur(@NotNull WritableRaster raster, int diameter) {
+        run(raster, diameter, true);
+    }
+
+    static void verticalBlur(@NotNull WritableRaster raster, int diameter) {
+        run(raster, diameter, false);
+    }
+
+    private static void run(@NotNull WritableRaster raster, int diameter, boolean horizontal) {
+        int width = raster.getWidth();
+        int height = raster.getHeight();
+        if (width == 0 || height == 0) return;
+        BlurTask task = new BlurTask(new RasterData(raster, diameter, horizontal), 0, horizontal ? height : width);
+        if ((long) width * height < PARALLEL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    private static final class RasterData {
+        private final int[] pixels;
+        private final int offset;
+        private final int scanlineStride;
+        private final int width;
+        private final int height;
+        private final boolean horizontal;
+        private final int[] boxSizes;
+        private final int[] locations;
+
+        private RasterData(@NotNull WritableRaster raster, int diameter, boolean horizontal) {
+            this.pixels = ImageUtil.getINT_RGBA_DataBank(raster);
+            this.offset = ImageUtil.getINT_RGBA_DataOffset(raster);
+            this.scanlineStride = ImageUtil.getINT_RGBA_ScanlineStride(raster);
+            this.width = raster.getWidth();
+            this.height = raster.getHeight();
+            this.horizontal = horizontal;
+            if ((diameter & 0x01) == 0) {
+                boxSizes = new int[] {diameter, diameter, diameter + 1};
+                locations = new int[] {diameter / 2, diameter / 2 - 1, diameter / 2};
+            } else {
+                boxSizes = new int[] {diameter, diameter, diameter};
+                locations = new int[] {diameter / 2, diameter / 2, diameter / 2};
+            }
+        }
+
+        private int lineLength() {
+            return horizontal ? width : height;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class BlurTask extends RecursiveAction {
+        private final @NotNull RasterData data;
+        private final int start;
+        private final int end;
+
+        private BlurTask(@NotNull RasterData data, int start, int end) {
+            this.data = data;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            int lineCount = end - start;
+            if (lineCount > 2 * COLUMN_BLOCK_SIZE
+                    && (long) lineCount * data.lineLength() > 2L * MIN_PIXELS_PER_TASK) {
+                int mid = start + lineCount / 2;
+                invokeAll(new BlurTask(data, start, mid), new BlurTask(data, mid, end));
+                return;
+            }
+            if (data.horizontal) {
+                blurRows();
+            } else {
+                blurColumns();
+            }
+        }
+
+        private void blurRows() {
+            int[] pixels = data.pixels;
+            int[] line = new int[data.width];
+            int[] scratch = new int[data.width];
+            for (int y = start; y < end; y++) {
+                int rowOffset = data.offset + y * data.scanlineStride;
+                System.arraycopy(pixels, rowOffset, line, 0, data.width);
+                blurLine(line, 0, scratch, data.width, data.boxSizes, data.locations);
+                System.arraycopy(line, 0, pixels, rowOffset, data.width);
+            }
+        }
+
+        private void blurColumns() {
+            int[] pixels = data.pixels;
+            int height = data.height;
+            int stride = data.scanlineStride;
+            int[] columns = new int[COLUMN_BLOCK_SIZE * height];
+            int[] scratch = new int[height];
+            for (int x = start; x < end; x += COLUMN_BLOCK_SIZE) {
+                int blockWidth = Math.min(COLUMN_BLOCK_SIZE, end - x);
+                // Transpose the block such that each column is contiguous.
+                for (int y = 0; y < height; y++) {
+                    int p = data.offset + y * stride + x;
+                    for (int c = 0; c < blockWidth; c++) {
+                        columns[c * height + y] = pixels[p + c];
+                    }
+                }
+                for (int c = 0; c < blockWidth; c++) {
+                    blurLine(columns, c * height, scratch, height, data.boxSizes, data.locations);
+                }
+                for (int y = 0; y < height; y++) {
+                    int p = data.offset + y * stride + x;
+                    for (int c = 0; c < blockWidth; c++) {
+                        pixels[p + c] = columns[c * height + y];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void blurLine(int @NotNull [] line, int offset, int @NotNull [] scratch, int length,
+            int @NotNull [] boxSizes, int @NotNull [] locations) {
+        for (int i = 0; i < boxSizes.length; i++) {
+            int boxSize = boxSizes[i];
+            if (length < boxSize) continue;
+            System.arraycopy(line, offset, scratch, 0, length);
+            boxBlur(scratch, line, offset, length, boxSize, locations[i]);
+        }
+    }
+
+    /*
+     * Writes the average of src[i, i + boxSize) to dst[offset + i + loc] for every window that fits
+     * into the line. Pixels near the ends of the line are left untouched. The quantization matches
+     * InplaceBoxBlurFilter exactly.
+     */
+    private static void boxBlur(int @NotNull [] src, int @NotNull [] dst, int offset, int length,
+            int boxSize, int loc) {
+        int scale = (1 << 24) / boxSize;
+        int sumA = 0;
+        int sumR = 0;
+        int sumG = 0;
+        int sumB = 0;
+        for (int i = 0; i < boxSize; i++) {
+            int p = src[i];
+            sumA += p >>> 24;
+            sumR += (p >> 16) & 0xFF;
+            sumG += (p >> 8) & 0xFF;
+            sumB += p & 0xFF;
+        }
+        int dp = offset + loc;
+        dst[dp++] = pack(sumA, sumR, sumG, sumB, scale);
+        for (int i = boxSize; i < length; i++) {
+            int out = src[i - boxSize];
+            int in = src[i];
+            if (out != in) {
+                sumA += (in >>> 24) - (out >>> 24);
+                sumR += ((in >> 16) & 0xFF) - ((out >> 16) & 0xFF);
+                sumG += ((in >> 8) & 0xFF) - ((out >> 8) & 0xFF);
+                sumB += (in & 0xFF) - (out & 0xFF);
+            }
+            dst[dp++] = pack(sumA, sumR, sumG, sumB, scale);
+        }
+    }
+
+    private static int pack(int sumA, int sumR, int sumG, int sumB, int scale) {
+        return ((sumA * scale) & 0xFF000000)
+                | (((sumR * scale) & 0xFF000000) >>> 8)
+                | (((sumG * scale) & 0xFF000000) >>> 16)
+                | (((sumB * scale) & 0xFF000000) >>> 24);
+    }
+}
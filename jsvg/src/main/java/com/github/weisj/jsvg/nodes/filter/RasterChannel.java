@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.image.*;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.renderer.GraphicsUtil;
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+/**
+ * A channel backed directly by a premultiplied {@code int} raster.
+ * <p>
+ * Filter primitives operating on raster channels read and write the pixel data directly instead
+ * of going through an {@link ImageProducer}. The pixels of a channel are never modified once it
+ * has been saved as the result of a primitive, as it may be referenced by multiple later
+ * primitives. Primitives hence write into a channel they own, i.e. one obtained through
+ * {@link #create(int, int)} or {@link #copy()}, before publishing it.
+ */
+public final class RasterChannel implements Channel, PixelProvider {
+
+    private final @NotNull BufferedImage image;
+    private final int @NotNull [] data;
+    private final int width;
+    private final int height;
+
+    private RasterChannel(@NotNull BufferedImage image) {
+        this.image = image;
+        this.data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        this.width = image.getWidth();
+        this.height = image.getHeight();
+    }
+
+    public static @NotNull RasterChannel create(int width, int height) {
+        return new RasterChannel(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE));
+    }
+
+    public static @NotNull RasterChannel of(@NotNull Channel channel, @NotNull RenderContext context) {
+        if (channel instanceof RasterChannel) return (RasterChannel) channel;
+        return fromImage(channel.toImage(context));
+    }
+
+    public static @NotNull RasterChannel fromImage(@NotNull Image img) {
+        if (img instanceof BufferedImage) {
+            BufferedImage bufferedImage = (BufferedImage) img;
+            WritableRaster raster = bufferedImage.getRaster();
+            if (ImageUtil.is_INT_PACK_Data(raster.getSampleModel(), true)) {
+                return fromIntPackedRaster(raster, bufferedImage.isAlphaPremultiplied());
+            }
+        }
+        RasterChannel channel = create(img.getWidth(null), img.getHeight(null));
+        Graphics2D g = GraphicsUtil.createGraphics(channel.image);
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+        return channel;
+    }
+
+    private static @NotNull RasterChannel fromIntPackedRaster(@NotNull Raster raster, boolean premultiplied) {
+        int w = raster.getWidth();
+        int h = raster.getHeight();
+        RasterChannel channel = create(w, h);
+        int[] src = ImageUtil.getINT_RGBA_DataBank(raster);
+        int srcOffset = ImageUtil.getINT_RGBA_DataOffset(raster);
+        int srcStride = ImageUtil.getINT_RGBA_ScanlineStride(raster);
+        int[] dst = channel.data;
+        for (int y = 0; y < h; y++) {
+            int sp = srcOffset + y * srcStride;
+            int dp = y * w;
+            if (premultiplied) {
+                System.arraycopy(src, sp, dst, dp, w);
+            } else {
+                for (int end = dp + w; dp < end; dp++, sp++) {
+                    dst[dp] = ColorUtil.premultiply(src[sp]);
+                }
+            }
+        }
+        return channel;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /**
+     * The premultiplied pixels in row major order. The scanline stride is equal to the width.
+     * The array may only be modified by the owner of the channel.
+     *
+     * @return the backing pixel data.
+     */
+    public int @NotNull [] data() {
+        return data;
+    }
+
+    /**
+     * The image backing this channel. The image may only be modified by the owner of the channel.
+     *
+     * @return the backing image.
+     */
+    public @NotNull BufferedImage image() {
+        return image;
+    }
+
+    public @NotNull RasterChannel copy() {
+        RasterChannel copy = create(width, height);
+        System.arraycopy(data, 0, copy.data, 0, data.length);
+        return copy;
+    }
+
+    @Override
+    public @NotNull ImageProducer producer() {
+        return image.getSource();
+    }
+
+    @Override
+    public @NotNull Image toImage(@NotNull RenderContext context) {
+        return image;
+    }
+
+    @Override
+    public @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
+        return copy().image;
+    }
+
+    @Override
+    public @NotNull Channel applyFilter(@NotNull ImageFilter filter) {
+        return new ImageProducerChannel(new FilteredImageSource(producer(), filter));
+    }
+
+    @Override
+    public @NotNull Channel alphaChannel() {
+        RasterChannel alpha = create(width, height);
+        int[] dst = alpha.data;
+        for (int i = 0; i < data.length; i++) {
+            dst[i] = data[i] & 0xFF000000;
+        }
+        return alpha;
+    }
+
+    @Override
+    public @NotNull PixelProvider pixels(@NotNull RenderContext context) {
+        return this;
+    }
+
+    @Override
+    public int pixelAt(double x, double y) {
+        int px = (int) x;
+        int py = (int) y;
+        if (px < 0 || py < 0 || px >= width || py >= height) return 0;
+        return ColorUtil.unpremultiply(data[py * width + px]);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.UnitType;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
+
+/**
+ * Determines which part of its result each primitive of a filter has to compute.
+ * <p>
+ * Starting with the visible part of the filter region, which is requested from
+ * {@link DefaultFilterChannel#LastResult}, the primitives are visited in reverse order. Each
+ * primitive takes the area requested from its result and requests the areas of its inputs it needs
+ * to compute it. Results which aren't consumed by any later primitive end up with an empty region.
+ * All areas are given in user space.
+ */
+public final class RegionOfInterest {
+
+    private final @NotNull Map<@NotNull Object, @NotNull Rectangle2D> requests = new HashMap<>();
+    private final @NotNull Map<@NotNull FilterPrimitiveBase, @NotNull Rectangle2D> resultRegions =
+            new IdentityHashMap<>();
+    private final @NotNull UnitType primitiveUnits;
+    private final @NotNull Rectangle2D elementBounds;
+    private final @NotNull Rectangle2D filterRegion;
+    private boolean requestedEverything;
+
+    public RegionOfInterest(@NotNull UnitType primitiveUnits, @NotNull Rectangle2D elementBounds,
+            @NotNull Rectangle2D filterRegion) {
+        this.primitiveUnits = primitiveUnits;
+        this.elementBounds = elementBounds;
+        this.filterRegion = filterRegion;
+    }
+
+    public @NotNull UnitType primitiveUnits() {
+        return primitiveUnits;
+    }
+
+    public @NotNull Rectangle2D elementBounds() {
+        return elementBounds;
+    }
+
+    /**
+     * Request the given area of a channel. Requests for the same channel accumulate until the
+     * channel is taken by the primitive producing it.
+     *
+     * @param key the channel.
+     * @param region the needed area in user space.
+     */
+    public void request(@NotNull FilterChannelKey key, @NotNull Rectangle2D region) {
+        if (region.isEmpty()) return;
+        requests.merge(key.key(), region, Rectangle2D::createUnion);
+    }
+
+    /**
+     * Request the whole filter region of a channel. This is used by primitives whose access pattern
+     * isn't known in advance.
+     *
+     * @param key the channel.
+     */
+    public void requestAll(@NotNull FilterChannelKey key) {
+        request(key, filterRegion);
+    }
+
+    /**
+     * Request the whole filter region of every channel produced by the preceding primitives. This
+     * is used by primitives which don't know which areas of their inputs they need.
+     */
+    public void requestEverything() {
+        requestedEverything = true;
+    }
+
+    /**
+     * Remove all requests for the given channel.
+     *
+     * @param key the channel.
+     * @return the union of all requested areas or null if the channel wasn't requested.
+     */
+    public @Nullable Rectangle2D take(@NotNull FilterChannelKey key) {
+        Rectangle2D region = requests.remove(key.key());
+        return requestedEverything ? filterRegion : region;
+    }
+
+    @NotNull
+    Rectangle2D takeResult(@NotNull FilterPrimitiveBase primitive, @NotNull FilterChannelKey resultKey) {
+        Rectangle2D region = take(DefaultFilterChannel.LastResult);
+        if (resultKey != DefaultFilterChannel.LastResult) {
+            Rectangle2D named = take(resultKey);
+            if (region == null) {
+                region = named;
+            } else if (named != null) {
+                region = region.createUnion(named);
+            }
+        }
+        if (region == null) region = new Rectangle2D.Double();
+        resultRegions.put(primitive, region);
+        return region;
+    }
+
+    /**
+     * The pixels of the result of the primitive which have to be computed.
+     *
+     * @param primitive the primitive.
+     * @param userToImage the transform from user space to the pixel space of the filter images.
+     * @param imageWidth the width of the filter images.
+     * @param imageHeight the height of the filter images.
+     * @return the area of the result image which has to be computed.
+     */
+    @NotNull
+    Rectangle resultPixelBounds(@NotNull FilterPrimitiveBase primitive, @NotNull AffineTransform userToImage,
+            int imageWidth, int imageHeight) {
+        Rectangle imageBounds = new Rectangle(0, 0, imageWidth, imageHeight);
+        Rectangle2D region = resultRegions.get(primitive);
+        if (region == null) return imageBounds;
+        if (region.isEmpty()) return new Rectangle();
+        Rectangle pixels = userToImage.createTransformedShape(region).getBounds();
+        // Include the partially covered pixels used for anti-aliasing.
+        pixels.grow(1, 1);
+        Rectangle result = pixels.intersection(imageBounds);
+        if (result.isEmpty()) return new Rectangle();
+        return result;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.util.BoundedCache;
+
+/**
+ * Shares generated turbulence between render passes of a document. The noise only depends on its
+ * parameters and the pixel grid it is evaluated on, hence a tile generated once can be reused e.g.
+ * for every frame of an animation which doesn't change the turbulence itself. Turbulence is
+ * generated from scratch on every pass unless
+ * {@link com.github.weisj.jsvg.SVGRenderingHints#KEY_TURBULENCE_TILE_CACHE} is enabled.
+ * <p>
+ * The noise is cached in square tiles of {@link #TILE_SIZE} pixels, which are aligned to the
+ * pixel grid of the filter image. Moving the document by whole pixels or changing which part of
+ * the filter region is visible reuses the tiles which were generated before.
+ * <p>
+ * The cache is bounded by the number of bytes occupied by the noise of the cached tiles and evicts
+ * the least recently used tiles first. The cache is safe to use from multiple threads. Cached tiles
+ * are shared and must not be modified.
+ */
+public final class TurbulenceTileCache {
+    public static final long DEFAULT_MAXIMUM_BYTES = 16L * 1024 * 1024;
+    static final int TILE_SIZE = 32;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final @NotNull BoundedCache<Key, int[]> cache;
+
+    /**
+     * @param maximumBytes the maximum number of bytes the cached tiles may occupy.
+     */
+    public TurbulenceTileCache(long maximumBytes) {
+        this.cache = new BoundedCache<>(maximumBytes, (key, noise) -> (long) BYTES_PER_PIXEL * noise.length);
+    }
+
+    static @Nullable TurbulenceTileCache forContext(@NotNull RenderContext context) {
+        return context.renderState().get(TurbulenceTileCache.class, TurbulenceTileCache.class);
+    }
+
+    /**
+     * Let every feTurbulence primitive evaluated during the render pass of the given context pick
+     * up and store its noise here.
+     *
+     * @param context the initial context of a render pass.
+     */
+    public void install(@NotNull RenderContext context) {
+        context.renderState().put(TurbulenceTileCache.class, this);
+    }
+
+    /**
+     * @param key the key of the tile.
+     * @return the noise values of the tile in row major order or null if the tile isn't cached.
+     */
+    int @Nullable [] get(@NotNull Key key) {
+        return cache.get(key);
+    }
+
+    int @NotNull [] putIfAbsent(@NotNull Key key, int @NotNull [] noise) {
+        return cache.putIfAbsent(key, noise);
+    }
+
+    public long maximumBytes() {
+        return cache.maximumWeight();
+    }
+
+    public long currentBytes() {
+        return cache.currentWeight();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    static final class Key {
+        private final float seed;
+        private final int octaves;
+        private final double xFrequency;
+        private final double yFrequency;
+        private final @NotNull FeTurbulence.Type type;
+        private final @NotNull FeTurbulence.PixelGrid grid;
+        private final long column;
+        private final long row;
+
+        /**
+         * @param seed the seed of the noise.
+         * @param octaves the number of octaves.
+         * @param xFrequency the base frequency in x direction.
+         * @param yFrequency the base frequency in y direction.
+         * @param type the type of noise.
+         * @param grid the pixel grid the noise is evaluated on.
+         * @param column the column of the tile on the grid.
+         * @param row the row of the tile on the grid.
+         */
+        Key(float seed, int octaves, double xFrequency, double yFrequency, @NotNull FeTurbulence.Type type,
+                @NotNull FeTurbulence.PixelGrid grid, long column, long row) {
+            this.seed = seed;
+            this.octaves = octaves;
+            this.xFrequency = xFrequency;
+            this.yFrequency = yFrequency;
+            this.type = type;
+            this.grid = grid;
+            this.column = column;
+            this.row = row;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Float.compare(seed, key.seed) == 0
+                    && octaves == key.octaves
+                    && Double.compare(xFrequency, key.xFrequency) == 0
+                    && Double.compare(yFrequency, key.yFrequency) == 0
+                    && column == key.column
+                    && row == key.row
+                    && type == key.type
+                    && grid.equals(key.grid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(seed, octaves, xFrequency, yFrequency, type, grid, column, row);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.mesh;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The subdivided geometry of a mesh gradient for a given device scale. Every leaf patch of the
+ * subdivision is stored as its bounding rectangle in mesh space together with its packed
+ * non-premultiplied ARGB color. Leaves are stored in paint order i.e. later leaves cover earlier
+ * ones.
+ */
+final class MeshGeometry {
+    private final float scaleX;
+    private final float scaleY;
+    private final float @NotNull [] leafBounds;
+    private final int @NotNull [] leafColors;
+    private final int leafCount;
+    private final @NotNull Rectangle2D bounds;
+
+    private MeshGeometry(float scaleX, float scaleY, float @NotNull [] leafBounds, int @NotNull [] leafColors,
+            int leafCount, @NotNull Rectangle2D bounds) {
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+        this.leafBounds = leafBounds;
+        this.leafColors = leafColors;
+        this.leafCount = leafCount;
+        this.bounds = bounds;
+    }
+
+    boolean isFor(float scaleX, float scaleY) {
+        return this.scaleX == scaleX && this.scaleY == scaleY;
+    }
+
+    int leafCount() {
+        return leafCount;
+    }
+
+    /**
+     * The bounds of the leaves as consecutive {@code minX, minY, maxX, maxY} quadruples.
+     *
+     * @return the leaf bounds. Must not be modified.
+     */
+    float @NotNull [] leafBounds() {
+        return leafBounds;
+    }
+
+    /**
+     * The packed non-premultiplied ARGB colors of the leaves.
+     *
+     * @return the leaf colors. Must not be modified.
+     */
+    int @NotNull [] leafColors() {
+        return leafColors;
+    }
+
+    @NotNull
+    Rectangle2D bounds() {
+        return bounds;
+    }
+
+    static final class Builder {
+        private final float scaleX;
+        private final float scaleY;
+        private float[] leafBounds = new float[4 * 64];
+        private int[] leafColors = new int[64];
+        private int leafCount;
+        private float minX = Float.POSITIVE_INFINITY;
+        private float minY = Float.POSITIVE_INFINITY;
+        private float maxX = Float.NEGATIVE_INFINITY;
+        private float maxY = Float.NEGATIVE_INFINITY;
+
+        Builder(float scaleX, float scaleY) {
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+        }
+
+        float scaleX() {
+            return scaleX;
+        }
+
+        float scaleY() {
+            return scaleY;
+        }
+
+        void addLeaf(float leafMinX, float leafMinY, float leafMaxX, float leafMaxY, int argb) {
+            if (leafCount == leafColors.length) {
+                leafColors = Arrays.copyOf(leafColors, 2 * leafCount);
+                leafBounds = Arrays.copyOf(leafBounds, 8 * leafCount);
+            }
+            int offset = 4 * leafCount;
+            leafBounds[offset] = leafMinX;
+            leafBounds[offset + 1] = leafMinY;
+            leafBounds[offset + 2] = leafMaxX;
+            leafBounds[offset + 3] = leafMaxY;
+            leafColors[leafCount] = argb;
+            leafCount++;
+            minX = Math.min(minX, leafMinX);
+            minY = Math.min(minY, leafMinY);
+            maxX = Math.max(maxX, leafMaxX);
+            maxY = Math.max(maxY, leafMaxY);
+        }
+
+        @NotNull
+        MeshGeometry build() {
+            Rectangle2D bounds = leafCount == 0
+                    ? new Rectangle2D.Float()
+                    : new Rectangle2D.Float(minX, minY, maxX - minX, maxY - minY);
+            return new MeshGeometry(scaleX, scaleY,
+                    Arrays.copyOf(leafBounds, 4 * leafCount), Arrays.copyOf(leafColors, leafCount),
+                    leafCount, bounds);
+        }
+    }
+}
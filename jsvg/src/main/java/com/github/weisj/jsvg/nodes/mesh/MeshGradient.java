@@ -22,6 +22,7 @@
 package com.github.weisj.jsvg.nodes.mesh;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 
@@ -33,6 +34,7 @@ import com.github.weisj.jsvg.attributes.paint.SVGPaint;
 import com.github.weisj.jsvg.attributes.value.PercentageDimension;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.geometry.size.MeasureContext;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.SVGNode;
 import com.github.weisj.jsvg.nodes.animation.Animate;
 import com.github.weisj.jsvg.nodes.animation.AnimateTransform;
@@ -56,6 +58,8 @@ public final class MeshGradient extends ContainerNode implements SVGPaint {
 
     private Length x;
     private Length y;
+    // The subdivided mesh for the most recently used device scale.
+    private volatile @Nullable MeshGeometry cachedGeometry;
 
     @SuppressWarnings("UnusedVariable")
     private @NotImplemented UnitType gradientUnits;
@@ -78,39 +82,69 @@ public final class MeshGradient extends ContainerNode implements SVGPaint {
     }
 
     public void renderMesh(@NotNull MeasureContext measure, @NotNull Output output) {
-        Output meshOutput = output.createChild();
         // meshGraphics.translate(x.resolve(measure), y.resolve(measure));
+        if (!output.supportsColors()) {
+            Output meshOutput = output.createChild();
+            for (SVGNode child : children()) {
+                MeshRow row = (MeshRow) child;
+                for (SVGNode node : row.children()) {
+                    ((MeshPatch) node).renderPath(meshOutput);
+                }
+            }
+            meshOutput.dispose();
+            return;
+        }
+        MeshGeometry geometry = meshGeometry(output);
+        Output.SafeState safeState = output.safeState();
+        output.setPaint(new MeshPaint(geometry, 0, 0));
+        output.fillShape(geometry.bounds());
+        safeState.restore();
+    }
 
-        meshOutput.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+    private @NotNull MeshGeometry meshGeometry(@NotNull Output output) {
+        output.markDeviceDependent();
+        AffineTransform at = output.transform();
+        float scaleX = (float) GeometryUtil.scaleXOfTransform(at);
+        float scaleY = (float) GeometryUtil.scaleYOfTransform(at);
+        MeshGeometry geometry = cachedGeometry;
+        if (geometry != null && geometry.isFor(scaleX, scaleY)) return geometry;
+
+        MeshGeometry.Builder builder = new MeshGeometry.Builder(scaleX, scaleY);
         for (SVGNode child : children()) {
             MeshRow row = (MeshRow) child;
             for (SVGNode node : row.children()) {
-                MeshPatch patch = (MeshPatch) node;
-                patch.renderPath(meshOutput);
+                ((MeshPatch) node).appendLeaves(builder);
             }
         }
-        meshOutput.dispose();
+        geometry = builder.build();
+        cachedGeometry = geometry;
+        return geometry;
     }
 
-    @Override
-    public void fillShape(@NotNull Output output, @NotNull RenderContext context, @NotNull Shape shape,
-            @Nullable Rectangle2D bounds) {
+    private void paintMesh(@NotNull Output output, @NotNull Shape shape, @Nullable Rectangle2D bounds,
+            @NotNull Shape paintedShape, @NotNull MeasureContext measure) {
         Output.SafeState safeState = output.safeState();
         Rectangle2D b = bounds != null ? bounds : shape.getBounds2D();
-        output.setClip(shape);
-        output.translate(b.getX(), b.getY());
-        renderMesh(context.measureContext(), output);
+        if (output.supportsColors()) {
+            output.setPaint(new MeshPaint(meshGeometry(output), b.getX(), b.getY()));
+            output.fillShape(paintedShape);
+        } else {
+            output.setClip(paintedShape);
+            output.translate(b.getX(), b.getY());
+            renderMesh(measure, output);
+        }
         safeState.restore();
     }
 
+    @Override
+    public void fillShape(@NotNull Output output, @NotNull RenderContext context, @NotNull Shape shape,
+            @Nullable Rectangle2D bounds) {
+        paintMesh(output, shape, bounds, shape, context.measureContext());
+    }
+
     @Override
     public void drawShape(@NotNull Output output, @NotNull RenderContext context, @NotNull Shape shape,
             @Nullable Rectangle2D bounds) {
-        Output.SafeState safeState = output.safeState();
-        Rectangle2D b = bounds != null ? bounds : shape.getBounds2D();
-        output.setClip(output.stroke().createStrokedShape(shape));
-        output.translate(b.getX(), b.getY());
-        renderMesh(context.measureContext(), output);
-        safeState.restore();
+        paintMesh(output, shape, bounds, output.stroke().createStrokedShape(shape), context.measureContext());
     }
 }
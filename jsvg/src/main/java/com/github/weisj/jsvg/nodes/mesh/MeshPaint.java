@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.mesh;
+
+import java.awt.*;
+import java.awt.PaintContext;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Paint which rasterizes the leaves of a subdivided mesh directly into an integer raster. This
+ * avoids going through the graphics pipeline for each of the (potentially many thousands) leaves.
+ * <p>
+ * Leaves are rasterized using the same rules as non-antialiased rectangle fills i.e. a pixel is
+ * covered if its center lies inside the device space bounds of the leaf. Unless pure strokes are
+ * requested, the bounds are normalized in the same way as the graphics pipeline does.
+ */
+final class MeshPaint implements Paint {
+    private final @NotNull MeshGeometry geometry;
+    private final double offsetX;
+    private final double offsetY;
+
+    MeshPaint(@NotNull MeshGeometry geometry, double offsetX, double offsetY) {
+        this.geometry = geometry;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+    }
+
+    @Override
+    public PaintContext createContext(ColorModel cm, Rectangle deviceBounds, Rectangle2D userBounds,
+            AffineTransform xform, RenderingHints hints) {
+        AffineTransform transform = new AffineTransform(xform);
+        transform.translate(offsetX, offsetY);
+        boolean normalize = hints == null
+                || hints.get(RenderingHints.KEY_STROKE_CONTROL) != RenderingHints.VALUE_STROKE_PURE;
+        return new MeshPaintContext(geometry, deviceBounds, transform, normalize);
+    }
+
+    @Override
+    public int getTransparency() {
+        return Transparency.TRANSLUCENT;
+    }
+
+    private static final class MeshPaintContext implements PaintContext {
+        private static final ColorModel COLOR_MODEL = ColorModel.getRGBdefault();
+
+        private final @NotNull MeshGeometry geometry;
+        private final @NotNull Rectangle deviceBounds;
+        private final @NotNull AffineTransform transform;
+        private final boolean normalize;
+        private @Nullable WritableRaster raster;
+
+        private MeshPaintContext(@NotNull MeshGeometry geometry, @NotNull Rectangle deviceBounds,
+                @NotNull AffineTransform transform, boolean normalize) {
+            this.geometry = geometry;
+            this.deviceBounds = new Rectangle(deviceBounds);
+            this.transform = transform;
+            this.normalize = normalize;
+        }
+
+        @Override
+        public void dispose() {
+            raster = null;
+        }
+
+        @Override
+        public ColorModel getColorModel() {
+            return COLOR_MODEL;
+        }
+
+        @Override
+        public Raster getRaster(int x, int y, int w, int h) {
+            WritableRaster r = raster;
+            if (r == null) {
+                r = rasterize(deviceBounds);
+                raster = r;
+            }
+            int relX = x - deviceBounds.x;
+            int relY = y - deviceBounds.y;
+            if (relX >= 0 && relY >= 0 && relX + w <= deviceBounds.width && relY + h <= deviceBounds.height) {
+                return r.createWritableChild(relX, relY, w, h, 0, 0, null);
+            }
+            // The requested area isn't fully contained in the device bounds. This shouldn't happen,
+            // but in case it does we rasterize the requested area separately.
+            return rasterize(new Rectangle(x, y, w, h));
+        }
+
+        private @NotNull WritableRaster rasterize(@NotNull Rectangle area) {
+            int width = Math.max(1, area.width);
+            int height = Math.max(1, area.height);
+            WritableRaster r = COLOR_MODEL.createCompatibleWritableRaster(width, height);
+            int[] data = ((DataBufferInt) r.getDataBuffer()).getData();
+
+            double m00 = transform.getScaleX();
+            double m01 = transform.getShearX();
+            double m02 = transform.getTranslateX();
+            double m10 = transform.getShearY();
+            double m11 = transform.getScaleY();
+            double m12 = transform.getTranslateY();
+            boolean axisAligned = m01 == 0 && m10 == 0;
+
+            float[] leafBounds = geometry.leafBounds();
+            int[] leafColors = geometry.leafColors();
+            int leafCount = geometry.leafCount();
+            for (int i = 0; i < leafCount; i++) {
+                int offset = 4 * i;
+                double x0 = leafBounds[offset];
+                double y0 = leafBounds[offset + 1];
+                double x1 = leafBounds[offset + 2];
+                double y1 = leafBounds[offset + 3];
+
+                double minX;
+                double minY;
+                double maxX;
+                double maxY;
+                if (axisAligned) {
+                    double tx0 = m00 * x0 + m02;
+                    double tx1 = m00 * x1 + m02;
+                    double ty0 = m11 * y0 + m12;
+                    double ty1 = m11 * y1 + m12;
+                    minX = Math.min(tx0, tx1);
+                    maxX = Math.max(tx0, tx1);
+                    minY = Math.min(ty0, ty1);
+                    maxY = Math.max(ty0, ty1);
+                } else {
+                    double ax = m00 * x0 + m01 * y0 + m02;
+                    double ay = m10 * x0 + m11 * y0 + m12;
+                    double bx = m00 * x1 + m01 * y0 + m02;
+                    double by = m10 * x1 + m11 * y0 + m12;
+                    double cx = m00 * x1 + m01 * y1 + m02;
+                    double cy = m10 * x1 + m11 * y1 + m12;
+                    double dx = m00 * x0 + m01 * y1 + m02;
+                    double dy = m10 * x0 + m11 * y1 + m12;
+                    minX = Math.min(Math.min(ax, bx), Math.min(cx, dx));
+                    maxX = Math.max(Math.max(ax, bx), Math.max(cx, dx));
+                    minY = Math.min(Math.min(ay, by), Math.min(cy, dy));
+                    maxY = Math.max(Math.max(ay, by), Math.max(cy, dy));
+                }
+
+                int startX = Math.max(0, firstCoveredPixel(minX) - area.x);
+                int endX = Math.min(width, firstCoveredPixel(maxX) - area.x);
+                int startY = Math.max(0, firstCoveredPixel(minY) - area.y);
+                int endY = Math.min(height, firstCoveredPixel(maxY) - area.y);
+                if (startX >= endX || startY >= endY) continue;
+
+                int argb = leafColors[i];
+                for (int row = startY; row < endY; row++) {
+                    int rowOffset = row * width;
+                    Arrays.fill(data, rowOffset + startX, rowOffset + endX, argb);
+                }
+            }
+            return r;
+        }
+
+        private int firstCoveredPixel(double coordinate) {
+            // Normalization moves the coordinate to floor(c + 0.25) + 0.25, hence pixel centers are
+            // covered from floor(c + 0.25) onwards.
+            if (normalize) return (int) Math.floor(coordinate + 0.25);
+            return (int) Math.ceil(coordinate - 0.5);
+        }
+    }
+}
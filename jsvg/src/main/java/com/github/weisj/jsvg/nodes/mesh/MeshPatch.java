@@ -28,6 +28,7 @@ import java.awt.geom.AffineTransform;
 
 import org.jetbrains.annotations.NotNull;
 
+import com.github.weisj.jsvg.geometry.mesh.Bezier;
 import com.github.weisj.jsvg.geometry.mesh.CoonPatch;
 import com.github.weisj.jsvg.geometry.mesh.CoonValues;
 import com.github.weisj.jsvg.geometry.mesh.Subdivided;
@@ -65,18 +66,30 @@ public final class MeshPatch extends ContainerNode {
             return;
         }
 
+        output.markDeviceDependent();
         AffineTransform at = output.transform();
-        float scaleX = (float) GeometryUtil.scaleYOfTransform(at);
-        float scaleY = (float) GeometryUtil.scaleYOfTransform(at);
+        MeshGeometry.Builder builder = new MeshGeometry.Builder(
+                (float) GeometryUtil.scaleXOfTransform(at),
+                (float) GeometryUtil.scaleYOfTransform(at));
+        appendLeaves(builder);
+        MeshGeometry geometry = builder.build();
+        output.setPaint(new MeshPaint(geometry, 0, 0));
+        output.fillShape(geometry.bounds());
+    }
+
+    void appendLeaves(@NotNull MeshGeometry.Builder builder) {
+        float scaleX = builder.scaleX();
+        float scaleY = builder.scaleY();
         int depth = Math.max(
                 Math.max(coonPatch.north.estimateStepCount(scaleX, scaleY),
                         coonPatch.east.estimateStepCount(scaleX, scaleY)),
                 Math.max(coonPatch.south.estimateStepCount(scaleX, scaleY),
                         coonPatch.west.estimateStepCount(scaleX, scaleY)));
-        renderPath(output, coonPatch, scaleX, scaleY, Math.min(MAX_DEPTH, depth));
+        appendLeaves(builder, coonPatch, scaleX, scaleY, Math.min(MAX_DEPTH, depth));
     }
 
-    private void renderPath(@NotNull Output output, @NotNull CoonPatch patch, float scaleX, float scaleY, int depth) {
+    private void appendLeaves(@NotNull MeshGeometry.Builder builder, @NotNull CoonPatch patch, float scaleX,
+            float scaleY, int depth) {
         CoonValues weights = patch.coonValues;
         // Check if we have reached the limit of discernible colors. This happens if our color weights
         // spectrum allows for less that approximately (1/255)^3, which is our "relative color-depth".
@@ -84,24 +97,48 @@ public final class MeshPatch extends ContainerNode {
                 * GeometryUtil.distanceSquared(weights.east, weights.west, scaleX, scaleY) < 0.000001) {
             float u = (weights.north.x + weights.east.x + weights.south.x + weights.west.x) / 4;
             float v = (weights.north.y + weights.east.y + weights.south.y + weights.west.y) / 4;
-            output.setPaint(bilinearInterpolation(u, v));
-            Shape s = patch.toShape();
-            output.fillShape(s.getBounds2D());
+            // Note: The bounds include the control points, same as Path2D#getBounds2D of the patch
+            // shape.
+            float minX = Math.min(Math.min(minX(patch.north), minX(patch.east)),
+                    Math.min(minX(patch.south), minX(patch.west)));
+            float minY = Math.min(Math.min(minY(patch.north), minY(patch.east)),
+                    Math.min(minY(patch.south), minY(patch.west)));
+            float maxX = Math.max(Math.max(maxX(patch.north), maxX(patch.east)),
+                    Math.max(maxX(patch.south), maxX(patch.west)));
+            float maxY = Math.max(Math.max(maxY(patch.north), maxY(patch.east)),
+                    Math.max(maxY(patch.south), maxY(patch.west)));
+            builder.addLeaf(minX, minY, maxX, maxY, bilinearInterpolation(u, v));
         } else {
             Subdivided<CoonPatch> patchSubdivided = patch.subdivide();
-            renderPath(output, patchSubdivided.northWest, scaleX, scaleY, depth - 1);
-            renderPath(output, patchSubdivided.northEast, scaleX, scaleY, depth - 1);
-            renderPath(output, patchSubdivided.southEast, scaleX, scaleY, depth - 1);
-            renderPath(output, patchSubdivided.southWest, scaleX, scaleY, depth - 1);
+            appendLeaves(builder, patchSubdivided.northWest, scaleX, scaleY, depth - 1);
+            appendLeaves(builder, patchSubdivided.northEast, scaleX, scaleY, depth - 1);
+            appendLeaves(builder, patchSubdivided.southEast, scaleX, scaleY, depth - 1);
+            appendLeaves(builder, patchSubdivided.southWest, scaleX, scaleY, depth - 1);
         }
     }
 
-    private @NotNull Color bilinearInterpolation(float dx, float dy) {
+    private static float minX(@NotNull Bezier b) {
+        return Math.min(Math.min(b.a.x, b.b.x), Math.min(b.c.x, b.d.x));
+    }
+
+    private static float minY(@NotNull Bezier b) {
+        return Math.min(Math.min(b.a.y, b.b.y), Math.min(b.c.y, b.d.y));
+    }
+
+    private static float maxX(@NotNull Bezier b) {
+        return Math.max(Math.max(b.a.x, b.b.x), Math.max(b.c.x, b.d.x));
+    }
+
+    private static float maxY(@NotNull Bezier b) {
+        return Math.max(Math.max(b.a.y, b.b.y), Math.max(b.c.y, b.d.y));
+    }
+
+    private int bilinearInterpolation(float dx, float dy) {
         float r = lerp(dy, lerp(dx, north.getRed(), east.getRed()), lerp(dx, west.getRed(), south.getRed()));
         float g = lerp(dy, lerp(dx, north.getGreen(), east.getGreen()), lerp(dx, west.getGreen(), south.getGreen()));
         float b = lerp(dy, lerp(dx, north.getBlue(), east.getBlue()), lerp(dx, west.getBlue(), south.getBlue()));
         float a = lerp(dy, lerp(dx, north.getAlpha(), east.getAlpha()), lerp(dx, west.getAlpha(), south.getAlpha()));
-        return new Color(clampColor(r), clampColor(g), clampColor(b), clampColor(a));
+        return (clampColor(a) << 24) | (clampColor(r) << 16) | (clampColor(g) << 8) | clampColor(b);
     }
 
     private int clampColor(float v) {
@@ -54,7 +54,8 @@ public interface ShapedContainer<E> extends Container<E>, HasShape {
             Rectangle2D childBounds = ((HasShape) child).elementBounds(childContext, box);
             if (!GeometryUtil.isValidRect(childBounds) || childBounds.isEmpty()) continue;
             if (bounds == null) {
-                bounds = childBounds;
+                // Copy the bounds, as they may be shared with the child.
+                bounds = childBounds.getBounds2D();
             } else {
                 Rectangle2D.union(bounds, childBounds, bounds);
             }
@@ -71,9 +71,10 @@ public class AbstractGlyphRun<T extends Shape> {
             if (output.transform().getScaleY() * fontSize > maxFontSize) {
                 // Guess where the baseline ought to be for descenders to be fully visible. Very hackish.
                 float baselinePosition = 0.9f;
-                if (glyph.largeBitmap == null) {
+                BufferedImage bitmap = glyph.largeBitmap;
+                if (bitmap == null) {
                     // Size of bitmap is guessed, as there is now reliable way to get the size of the glyph.
-                    BufferedImage bitmap = ImageUtil.createCompatibleTransparentImage(maxFontSize, maxFontSize);
+                    bitmap = ImageUtil.createCompatibleTransparentImage(maxFontSize, maxFontSize);
                     Graphics g = bitmap.getGraphics();
                     g.setFont(g.getFont().deriveFont((float) maxFontSize));
 
@@ -83,7 +84,7 @@ public class AbstractGlyphRun<T extends Shape> {
                 }
                 output.scale((double) fontSize / maxFontSize, (double) fontSize / maxFontSize);
                 output.translate(0, -(int) (baselinePosition * maxFontSize));
-                output.drawImage(glyph.largeBitmap);
+                output.drawImage(bitmap);
             } else {
                 if (output instanceof Graphics2DOutput) {
                     Graphics2D g = ((Graphics2DOutput) output).graphics();
@@ -28,7 +28,7 @@ import org.jetbrains.annotations.NotNull;
 
 public class EmojiGlyph extends Glyph {
     private final @NotNull String codepoint;
-    BufferedImage largeBitmap;
+    volatile BufferedImage largeBitmap;
 
     public EmojiGlyph(@NotNull String codepoint, float advance) {
         super(new Rectangle(), advance, false);
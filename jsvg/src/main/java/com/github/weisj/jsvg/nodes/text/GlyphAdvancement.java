@@ -22,6 +22,7 @@
 package com.github.weisj.jsvg.nodes.text;
 
 import java.awt.geom.AffineTransform;
+import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -103,6 +104,22 @@ final class GlyphAdvancement {
         return glyphTransform;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GlyphAdvancement)) return false;
+        GlyphAdvancement that = (GlyphAdvancement) o;
+        return Float.compare(spacingAdjustment, that.spacingAdjustment) == 0
+                && Float.compare(absoluteSpacingAdjustment, that.absoluteSpacingAdjustment) == 0
+                && Float.compare(glyphAdjustment, that.glyphAdjustment) == 0
+                && needsLastSpacing == that.needsLastSpacing;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(spacingAdjustment, absoluteSpacingAdjustment, glyphAdjustment, needsLastSpacing);
+    }
+
     @Override
     public String toString() {
         return "GlyphAdvancement{" +
@@ -189,6 +189,42 @@ class GlyphCursor {
         return 0;
     }
 
+    /*
+     * Checks whether all remaining glyphs, except for the current one, are placed only by advancing
+     * along the baseline. If so the position overrides of the current glyph are applied to the
+     * cursor, after which the placement of all glyphs solely depends on the current position and
+     * the glyphs themselves. Otherwise, the cursor is left untouched.
+     */
+    boolean resolveForAutoLayout(@NotNull MeasureContext measure) {
+        if (remainingOverrides(xLocations, xOff) > 1
+                || remainingOverrides(xDeltas, dxOff) > 1
+                || remainingOverrides(yLocations, yOff) > 1
+                || remainingOverrides(yDeltas, dyOff) > 1
+                || currentGlyphHasRotationOverride()) {
+            return false;
+        }
+        // Same as the first steps of advance. Afterward, advance will keep the position as is.
+        x = nextX(measure);
+        x += nextDeltaX(measure);
+        y = nextY(measure);
+        y += nextDeltaY(measure);
+        return true;
+    }
+
+    private static int remainingOverrides(Length @Nullable [] overrides, int offset) {
+        return overrides != null ? overrides.length - offset : 0;
+    }
+
+    /*
+     * Moves the cursor to the state it would be in after advancing over a run of auto layout
+     * glyphs.
+     */
+    void skipAutoLayoutGlyphs(int glyphCount, float lastGlyphX, float endX) {
+        if (glyphCount > 0) transform.setToTranslation(lastGlyphX, y);
+        glyphOffset += glyphCount;
+        x = endX;
+    }
+
     public boolean isCurrentGlyphAutoLayout() {
         return !currentGlyphHasXOverride()
                 && !currentGlyphHasDeltaXOverride()
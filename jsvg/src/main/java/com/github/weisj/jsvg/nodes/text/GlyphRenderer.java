@@ -55,18 +55,18 @@ final class GlyphRenderer {
             Rectangle2D.union(cursor.completeGlyphRunBounds, bounds, cursor.completeGlyphRunBounds);
         }
 
-        segment.currentGlyphRun = glyphRun;
-        segment.currentRenderContext = context;
+        context.renderState().put(segment, new PreparedGlyphRun(glyphRun, context));
     }
 
-    static void renderGlyphRun(@NotNull Output output, @NotNull PaintOrder paintOrder,
-            @NotNull Set<VectorEffect> vectorEffects, @NotNull StringTextSegment segment,
-            @NotNull Rectangle2D completeGlyphRunBounds) {
-        RenderContext context = segment.currentRenderContext;
-        assert context != null;
+    static void renderGlyphRun(@NotNull Output output, @NotNull RenderState renderState,
+            @NotNull PaintOrder paintOrder, @NotNull Set<VectorEffect> vectorEffects,
+            @NotNull StringTextSegment segment, @NotNull Rectangle2D completeGlyphRunBounds) {
+        // Remove the prepared glyph run. Avoids holding onto the RenderContext, which may reference a JComponent.
+        PreparedGlyphRun preparedGlyphRun = renderState.remove(segment, PreparedGlyphRun.class);
+        assert preparedGlyphRun != null;
 
-        GlyphRun glyphRun = segment.currentGlyphRun;
-        assert glyphRun != null;
+        RenderContext context = preparedGlyphRun.context;
+        GlyphRun glyphRun = preparedGlyphRun.glyphRun;
 
         // Use pathLengthFactor of 1 as pathLength isn't allowed on text
         // Otherwise we would have to do expensive computations for the length of a text outline.
@@ -85,10 +85,6 @@ final class GlyphRenderer {
             emoji.render(output, font);
             safeState.restore();
         }
-
-        // Invalidate the glyphRun. Avoids holding onto the RenderContext, which may reference a JComponent.
-        segment.currentRenderContext = null;
-        segment.currentGlyphRun = null;
     }
 
     static @NotNull GlyphRun layoutGlyphRun(@NotNull StringTextSegment segment, @NotNull GlyphCursor cursor,
@@ -98,14 +94,45 @@ final class GlyphRenderer {
         FontRenderContext fontRenderContext = context.fontRenderContext();
         float letterSpacing = fontRenderContext.letterSpacing().resolve(measure);
 
-        Path2D glyphPath = new Path2D.Float();
-        List<AbstractGlyphRun.PaintableEmoji> emojis = null;
-
         boolean isLastSegment = segment.isLastSegmentInParent();
         boolean shouldSkipLastSpacing = isLastSegment && cursor.advancement().shouldSkipLastSpacing();
 
         textOutput.glyphRunBreak();
 
+        // The text output has to observe every glyph, hence the layout can only be reused if nobody
+        // is listening.
+        if (!(textOutput instanceof NullTextOutput) || segment.codepoints().isEmpty()
+                || !cursor.resolveForAutoLayout(measure)) {
+            return layoutGlyphs(segment, cursor, font, context, textOutput, letterSpacing, shouldSkipLastSpacing);
+        }
+
+        GlyphRunCache.Key key = new GlyphRunCache.Key(segment.codepoints(), font, letterSpacing,
+                cursor.advancement(), shouldSkipLastSpacing, computeBaselineOffset(font, fontRenderContext),
+                cursor.x, cursor.y);
+        GlyphRunCache cache = GlyphRunCache.shared();
+        GlyphRunCache.Layout layout = cache.get(key);
+        if (layout == null) {
+            int startGlyphOffset = cursor.glyphOffset;
+            GlyphRun glyphRun = layoutGlyphs(segment, cursor, font, context, textOutput, letterSpacing,
+                    shouldSkipLastSpacing);
+            layout = new GlyphRunCache.Layout(glyphRun, cursor.glyphOffset - startGlyphOffset,
+                    (float) cursor.transform.getTranslateX(), cursor.x);
+            cache.put(key, layout);
+        } else {
+            cursor.skipAutoLayoutGlyphs(layout.advancedGlyphCount, layout.lastGlyphX, layout.endX);
+        }
+        return layout.glyphRun;
+    }
+
+    private static @NotNull GlyphRun layoutGlyphs(@NotNull StringTextSegment segment, @NotNull GlyphCursor cursor,
+            @NotNull SVGFont font, @NotNull RenderContext context, @NotNull TextOutput textOutput,
+            float letterSpacing, boolean shouldSkipLastSpacing) {
+        MeasureContext measure = context.measureContext();
+        FontRenderContext fontRenderContext = context.fontRenderContext();
+
+        Path2D glyphPath = new Path2D.Float();
+        List<AbstractGlyphRun.PaintableEmoji> emojis = null;
+
         List<String> codepoints = segment.codepoints();
         for (int i = 0, count = codepoints.size(); i < count; i++) {
             String codepoint = codepoints.get(i);
@@ -153,6 +180,16 @@ final class GlyphRenderer {
         return new GlyphRun(glyphPath, emojis != null ? emojis : Collections.emptyList());
     }
 
+    private static final class PreparedGlyphRun {
+        private final @NotNull GlyphRun glyphRun;
+        private final @NotNull RenderContext context;
+
+        private PreparedGlyphRun(@NotNull GlyphRun glyphRun, @NotNull RenderContext context) {
+            this.glyphRun = glyphRun;
+            this.context = context;
+        }
+    }
+
     private static float computeBaselineOffset(@NotNull SVGFont font, @NotNull FontRenderContext fontRenderContext) {
         switch (fontRenderContext.dominantBaseline()) {
             default:
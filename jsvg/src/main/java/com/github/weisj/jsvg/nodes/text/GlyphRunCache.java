@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.text;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.font.SVGFont;
+import com.github.weisj.jsvg.util.BoundedCache;
+
+/**
+ * Shares laid out glyph runs between render passes and documents. For text whose glyphs are placed
+ * only by advancing along the baseline the layout is fully determined by the codepoints, the font,
+ * the spacing and the position of the cursor at the start of the run. Hence static text only has to
+ * be laid out once and can afterwards be filled directly.
+ * <p>
+ * The cache is bounded by the total number of glyphs in the cached runs and evicts the least
+ * recently used runs first. Cached runs are shared and must not be modified.
+ */
+public final class GlyphRunCache {
+    static final int MAXIMUM_GLYPH_COUNT = 16384;
+
+    private static final GlyphRunCache INSTANCE = new GlyphRunCache(MAXIMUM_GLYPH_COUNT);
+
+    private final @NotNull BoundedCache<Key, Layout> layouts;
+
+    GlyphRunCache(int maximumGlyphCount) {
+        this.layouts = new BoundedCache<>(maximumGlyphCount, (key, layout) -> key.glyphCount());
+    }
+
+    static @NotNull GlyphRunCache shared() {
+        return INSTANCE;
+    }
+
+    /**
+     * Release the runs shared between documents. This is called by
+     * {@link com.github.weisj.jsvg.attributes.font.FontResolver#clearFontCache()}, as the runs hold
+     * on to the cached fonts.
+     */
+    @ApiStatus.Internal
+    public static void clearShared() {
+        INSTANCE.clear();
+    }
+
+    @Nullable
+    Layout get(@NotNull Key key) {
+        return layouts.get(key);
+    }
+
+    void put(@NotNull Key key, @NotNull Layout layout) {
+        layouts.put(key, layout);
+    }
+
+    int size() {
+        return layouts.size();
+    }
+
+    void clear() {
+        layouts.clear();
+    }
+
+    static final class Layout {
+        final @NotNull GlyphRun glyphRun;
+        /**
+         * The number of glyphs the cursor advanced over.
+         */
+        final int advancedGlyphCount;
+        final float lastGlyphX;
+        final float endX;
+
+        Layout(@NotNull GlyphRun glyphRun, int advancedGlyphCount, float lastGlyphX, float endX) {
+            this.glyphRun = glyphRun;
+            this.advancedGlyphCount = advancedGlyphCount;
+            this.lastGlyphX = lastGlyphX;
+            this.endX = endX;
+        }
+    }
+
+    static final class Key {
+        private final @NotNull List<@NotNull String> codepoints;
+        private final @NotNull SVGFont font;
+        private final float letterSpacing;
+        private final @NotNull GlyphAdvancement advancement;
+        private final boolean skipLastSpacing;
+        private final float baselineOffset;
+        private final float x;
+        private final float y;
+
+        Key(@NotNull List<@NotNull String> codepoints, @NotNull SVGFont font, float letterSpacing,
+                @NotNull GlyphAdvancement advancement, boolean skipLastSpacing, float baselineOffset,
+                float x, float y) {
+            this.codepoints = codepoints;
+            this.font = font;
+            this.letterSpacing = letterSpacing;
+            this.advancement = advancement;
+            this.skipLastSpacing = skipLastSpacing;
+            this.baselineOffset = baselineOffset;
+            this.x = x;
+            this.y = y;
+        }
+
+        private int glyphCount() {
+            return Math.max(1, codepoints.size());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Float.compare(letterSpacing, key.letterSpacing) == 0
+                    && skipLastSpacing == key.skipLastSpacing
+                    && Float.compare(baselineOffset, key.baselineOffset) == 0
+                    && Float.compare(x, key.x) == 0
+                    && Float.compare(y, key.y) == 0
+                    && advancement.equals(key.advancement)
+                    && font.equals(key.font)
+                    && codepoints.equals(key.codepoints);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(codepoints, font, letterSpacing, advancement, skipLastSpacing, baselineOffset, x, y);
+        }
+    }
+}
@@ -22,52 +22,37 @@
 package com.github.weisj.jsvg.nodes.text;
 
 import java.awt.geom.AffineTransform;
-import java.awt.geom.PathIterator;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.geometry.size.MeasureContext;
+import com.github.weisj.jsvg.geometry.util.ArcLengthTable;
 import com.github.weisj.jsvg.geometry.util.GeometryUtil;
-import com.github.weisj.jsvg.geometry.util.SegmentIteratorWithLookBehind;
 
 final class PathGlyphCursor extends GlyphCursor {
 
-    private float remainingSegmentLength;
-    private float segmentLength;
-    private SegmentIteratorWithLookBehind.Segment currentSegment;
+    private final @NotNull ArcLengthTable arcLengthTable;
+    private double distance;
+    private int segment;
 
-    private final @NotNull SegmentIteratorWithLookBehind segmentIterator;
-
-    PathGlyphCursor(@NotNull PathIterator pathIterator, float startOffset) {
+    PathGlyphCursor(@NotNull ArcLengthTable arcLengthTable, float startOffset) {
         super(0, 0, new AffineTransform());
-        this.segmentIterator = new SegmentIteratorWithLookBehind(pathIterator, 0);
-        setupInitialData();
-        advance(startOffset);
+        this.arcLengthTable = arcLengthTable;
+        moveTo(startOffset);
     }
 
-    PathGlyphCursor(@NotNull GlyphCursor cursor, float startOffset, @NotNull PathIterator pathIterator) {
+    PathGlyphCursor(@NotNull GlyphCursor cursor, float startOffset, @NotNull ArcLengthTable arcLengthTable) {
         super(cursor);
-        this.segmentIterator = new SegmentIteratorWithLookBehind(pathIterator, 0);
-        setupInitialData();
-        advance(startOffset);
-    }
-
-    private void setupInitialData() {
-        this.currentSegment = segmentIterator.currentSegment();
-        this.segmentLength = this.remainingSegmentLength = (float) currentSegment.length();
-        this.x = currentSegment.xStart;
-        this.y = currentSegment.yStart;
+        this.arcLengthTable = arcLengthTable;
+        moveTo(startOffset);
     }
 
     private PathGlyphCursor(@NotNull PathGlyphCursor pathCursor) {
         super(pathCursor);
-        // We only ever transition one into a PathGlyphCursor (from a linear one)
-        // hence we can share all our state without the problem of overwriting it.
-        this.segmentIterator = pathCursor.segmentIterator;
-        this.remainingSegmentLength = pathCursor.remainingSegmentLength;
-        this.segmentLength = pathCursor.segmentLength;
-        this.currentSegment = pathCursor.currentSegment;
+        this.arcLengthTable = pathCursor.arcLengthTable;
+        this.distance = pathCursor.distance;
+        this.segment = pathCursor.segment;
     }
 
     @Override
@@ -80,45 +65,46 @@ final class PathGlyphCursor extends GlyphCursor {
         super.updateFrom(local);
         assert local instanceof PathGlyphCursor;
         PathGlyphCursor glyphCursor = (PathGlyphCursor) local;
-        remainingSegmentLength = glyphCursor.remainingSegmentLength;
-        segmentLength = glyphCursor.segmentLength;
-        currentSegment = glyphCursor.currentSegment;
+        distance = glyphCursor.distance;
+        segment = glyphCursor.segment;
     }
 
     @Override
-    public void setAdvancement(@NotNull GlyphAdvancement advancement) {
-        super.setAdvancement(advancement);
-        // We don't want to reduce the lookbehind for future segments hence coercion to the bigger value is
-        // needed.
-        segmentIterator.setMaxLookBehindLength(
-                Math.max(advancement.maxLookBehind(), segmentIterator.maxLookBehindLength()));
+    boolean resolveForAutoLayout(@NotNull MeasureContext measure) {
+        // The glyph placement depends on the path.
+        return false;
+    }
+
+    private boolean isPastEnd() {
+        return GeometryUtil.approximatelyNegative(arcLengthTable.length() - distance);
     }
 
     @Override
     @Nullable
     AffineTransform advance(@NotNull MeasureContext measure, @NotNull Glyph glyph) {
-        // Todo: Absolute x positions require arbitrary moves along the path
-        // dx can be done by using the look behind iterator.
-        // Absolute x can use a look up table for the segment/state.
-        if (segmentIterator.isDone() && GeometryUtil.approximatelyNegative(remainingSegmentLength)) return null;
+        if (xLocations != null && xOff < xLocations.length) {
+            // Absolute positions are new offsets along the path, measured from its start.
+            moveTo(xLocations[xOff++].resolve(measure));
+        }
+        if (isPastEnd()) return null;
 
         float deltaX = nextDeltaX(measure);
-        if (deltaX != 0) advance(deltaX);
+        if (deltaX != 0) moveTo(distance + deltaX);
 
         // Move the advance of the glyph
         float advanceDist = advancement.glyphAdvancement(glyph);
         float halfAdvance = advanceDist / 2f;
 
-        advance(halfAdvance);
-        float walkedFraction = halfAdvance / segmentLength;
-        float slopeX = walkedFraction * (currentSegment.xEnd - currentSegment.xStart);
-        float slopeY = walkedFraction * (currentSegment.yEnd - currentSegment.yStart);
+        moveTo(distance + halfAdvance);
+        double tangent = arcLengthTable.tangentAngle(segment);
+        float slopeX = (float) (halfAdvance * Math.cos(tangent));
+        float slopeY = (float) (halfAdvance * Math.sin(tangent));
         float anchorX = x - slopeX;
         float anchorY = y - slopeY;
 
         // The glyph midpoint is outside the path and should not be made visible. Abort
-        if (segmentIterator.isDone() && GeometryUtil.approximatelyNegative(remainingSegmentLength)) return null;
-        advance(halfAdvance);
+        if (isPastEnd()) return null;
+        moveTo(distance + halfAdvance);
 
         transform.setToTranslation(anchorX, anchorY);
         float charRotation = calculateSegmentRotation(anchorX, anchorY, x + slopeX, y + slopeY);
@@ -138,63 +124,14 @@ final class PathGlyphCursor extends GlyphCursor {
 
     @Override
     void advanceSpacing(float letterSpacing) {
-        advance(advancement.spacingAdvancement(letterSpacing));
-    }
-
-    private void advance(float distance) {
-        if (distance >= 0) {
-            advanceInsideSegment(advanceIntoSegment(distance));
-        } else {
-            advanceInsideSegment(-reverseIntoSegment(-distance));
-        }
-    }
-
-    private float travelledSegmentLength() {
-        return segmentLength - remainingSegmentLength;
-    }
-
-
-    private float advanceIntoSegment(float distance) {
-        if (GeometryUtil.approximatelyNegative(distance)) return 0;
-        while (segmentIterator.hasNext() && remainingSegmentLength < distance) {
-            distance -= remainingSegmentLength;
-            segmentIterator.moveToNext();
-            currentSegment = segmentIterator.currentSegment();
-            x = currentSegment.xStart;
-            y = currentSegment.yStart;
-            segmentLength = (float) currentSegment.length();
-            remainingSegmentLength = segmentLength;
-        }
-        return distance;
+        moveTo(distance + advancement.spacingAdvancement(letterSpacing));
     }
 
-    private float reverseIntoSegment(float distance) {
-        if (GeometryUtil.approximatelyNegative(distance)) return 0;
-        while (segmentIterator.hasPrevious() && travelledSegmentLength() < distance) {
-            distance -= travelledSegmentLength();
-            segmentIterator.moveToPrevious();
-            currentSegment = segmentIterator.currentSegment();
-            x = currentSegment.xEnd;
-            y = currentSegment.yEnd;
-            segmentLength = (float) currentSegment.length();
-            remainingSegmentLength = 0;
-        }
-        if (GeometryUtil.notablyGreater(distance, travelledSegmentLength())) {
-            throw new IllegalStateException("Not enough buffer " + distance + " > " + travelledSegmentLength());
-        }
-        return distance;
-    }
-
-    private void advanceInsideSegment(float distance) {
-        if (GeometryUtil.approximatelyZero(distance)) return;
-        if (distance < 0 && -distance > travelledSegmentLength()) {
-            throw new IllegalStateException(
-                    "Distance too large " + distance + " of maximum " + travelledSegmentLength());
-        }
-        float fractionWalked = distance / segmentLength;
-        x += (currentSegment.xEnd - currentSegment.xStart) * fractionWalked;
-        y += (currentSegment.yEnd - currentSegment.yStart) * fractionWalked;
-        remainingSegmentLength -= distance;
+    private void moveTo(double newDistance) {
+        distance = newDistance;
+        segment = arcLengthTable.segmentAt(newDistance);
+        x = arcLengthTable.xAt(segment, newDistance);
+        y = arcLengthTable.yAt(segment, newDistance);
     }
 
     private float calculateSegmentRotation(float x1, float y1, float x2, float y2) {
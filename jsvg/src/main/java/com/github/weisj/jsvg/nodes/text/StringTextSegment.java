@@ -28,20 +28,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-
-import com.github.weisj.jsvg.renderer.RenderContext;
 
 final class StringTextSegment implements TextSegment {
     private final List<String> codepoints;
     private final TextContainer parent;
     private final int index;
 
-    @Nullable
-    GlyphRun currentGlyphRun = null;
-    @Nullable
-    RenderContext currentRenderContext = null;
-
     public StringTextSegment(@NotNull TextContainer parent, int index, char[] codepoints) {
         this.parent = parent;
         this.index = index;
@@ -243,8 +243,8 @@ abstract class TextContainer extends BaseContainerNode<TextSegment>
         forEachSegment(context,
                 (segment, ctx) -> {
                     if (!isVisible(ctx)) return;
-                    GlyphRenderer.renderGlyphRun(output, context.paintOrder(), vectorEffects(), segment,
-                            cursor.completeGlyphRunBounds);
+                    GlyphRenderer.renderGlyphRun(output, context.renderState(), context.paintOrder(),
+                            vectorEffects(), segment, cursor.completeGlyphRunBounds);
                 },
                 (segment, ctx) -> segment.renderSegmentWithoutLayout(cursor, ctx, output));
     }
@@ -26,6 +26,7 @@ import java.awt.geom.Line2D;
 import java.awt.geom.PathIterator;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.FillRule;
 import com.github.weisj.jsvg.attributes.text.GlyphRenderMethod;
@@ -35,6 +36,7 @@ import com.github.weisj.jsvg.attributes.value.PercentageDimension;
 import com.github.weisj.jsvg.geometry.SVGShape;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.geometry.size.MeasureContext;
+import com.github.weisj.jsvg.geometry.util.ArcLengthTable;
 import com.github.weisj.jsvg.geometry.util.ReversePathIterator;
 import com.github.weisj.jsvg.nodes.Anchor;
 import com.github.weisj.jsvg.nodes.ShapeNode;
@@ -70,6 +72,7 @@ public final class TextPath extends TextContainer {
     private Side side;
 
     private Length startOffset;
+    private volatile @Nullable CachedArcLengthTable arcLengthTableCache;
 
     @Override
     public @NotNull String tagName() {
@@ -126,10 +129,22 @@ public final class TextPath extends TextContainer {
 
     private @NotNull PathGlyphCursor createCursor(@NotNull RenderContext context) {
         return new PathGlyphCursor(
-                createPathIterator(context),
+                arcLengthTable(context),
                 startOffset.resolve(context.measureContext()));
     }
 
+    private @NotNull ArcLengthTable arcLengthTable(@NotNull RenderContext context) {
+        Shape path = pathShape.shape(context);
+        float flatness = flatness(context.measureContext());
+        CachedArcLengthTable cached = arcLengthTableCache;
+        if (cached == null || cached.path != path || cached.flatness != flatness) {
+            cached = new CachedArcLengthTable(path, flatness,
+                    ArcLengthTable.create(createPathIterator(path, flatness)));
+            arcLengthTableCache = cached;
+        }
+        return cached.table;
+    }
+
     private void paintDebugPath(@NotNull RenderContext context, @NotNull Graphics2D g) {
         PathIterator pathIterator = createPathIterator(context);
         float startX = 0;
@@ -172,10 +187,15 @@ public final class TextPath extends TextContainer {
     }
 
     private @NotNull PathIterator createPathIterator(@NotNull RenderContext context) {
-        MeasureContext measureContext = context.measureContext();
-        Shape path = pathShape.shape(context);
+        return createPathIterator(pathShape.shape(context), flatness(context.measureContext()));
+    }
+
+    private static float flatness(@NotNull MeasureContext measureContext) {
         // For fonts this is a good enough approximation
-        float flatness = 0.1f * measureContext.ex();
+        return 0.1f * measureContext.ex();
+    }
+
+    private @NotNull PathIterator createPathIterator(@NotNull Shape path, float flatness) {
         switch (side) {
             case Left:
                 return path.getPathIterator(null, flatness);
@@ -190,11 +210,23 @@ public final class TextPath extends TextContainer {
     protected GlyphCursor createLocalCursor(@NotNull RenderContext context, @NotNull GlyphCursor current) {
         return new PathGlyphCursor(current,
                 startOffset.resolve(context.measureContext()),
-                createPathIterator(context));
+                arcLengthTable(context));
     }
 
     @Override
     protected void cleanUpLocalCursor(@NotNull GlyphCursor current, @NotNull GlyphCursor local) {
         current.updateFrom(local);
     }
+
+    private static final class CachedArcLengthTable {
+        private final @NotNull Shape path;
+        private final float flatness;
+        private final @NotNull ArcLengthTable table;
+
+        private CachedArcLengthTable(@NotNull Shape path, float flatness, @NotNull ArcLengthTable table) {
+            this.path = path;
+            this.flatness = flatness;
+            this.table = table;
+        }
+    }
 }
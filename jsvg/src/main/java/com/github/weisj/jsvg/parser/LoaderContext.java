@@ -40,6 +40,10 @@ public interface LoaderContext {
     @NotNull
     DocumentLimits documentLimits();
 
+    @ApiStatus.Experimental
+    @NotNull
+    XMLReaderMode xmlReaderMode();
+
     static @NotNull Builder builder() {
         return MutableLoaderContext.createDefault();
     }
@@ -66,6 +70,10 @@ public interface LoaderContext {
         @NotNull
         Builder documentLimits(@NotNull DocumentLimits documentLimits);
 
+        @ApiStatus.Experimental
+        @NotNull
+        Builder xmlReaderMode(@NotNull XMLReaderMode xmlReaderMode);
+
 
         @NotNull
         LoaderContext build();
@@ -34,6 +34,7 @@ public class MutableLoaderContext implements LoaderContext, LoaderContext.Builde
     private @NotNull ElementLoader elementLoader = DEFAULT_ELEMENT_LOADER;
     private @NotNull ExternalResourcePolicy externalResourcePolicy = ExternalResourcePolicy.DENY;
     private @NotNull DocumentLimits documentLimits = DocumentLimits.DEFAULT;
+    private @NotNull XMLReaderMode xmlReaderMode = XMLReaderMode.EVENT;
 
     static @NotNull MutableLoaderContext createDefault() {
         return new MutableLoaderContext();
@@ -64,6 +65,11 @@ public class MutableLoaderContext implements LoaderContext, LoaderContext.Builde
         return documentLimits;
     }
 
+    @Override
+    public @NotNull XMLReaderMode xmlReaderMode() {
+        return xmlReaderMode;
+    }
+
     @Override
     public @NotNull Builder parserProvider(@NotNull ParserProvider parserProvider) {
         this.parserProvider = parserProvider;
@@ -94,6 +100,12 @@ public class MutableLoaderContext implements LoaderContext, LoaderContext.Builde
         return this;
     }
 
+    @Override
+    public @NotNull Builder xmlReaderMode(@NotNull XMLReaderMode xmlReaderMode) {
+        this.xmlReaderMode = xmlReaderMode;
+        return this;
+    }
+
     @Override
     public @NotNull LoaderContext build() {
         // Check if policy changed. This avoid instantiating the heavier external loader.
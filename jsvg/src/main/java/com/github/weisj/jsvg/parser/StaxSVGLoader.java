@@ -34,6 +34,7 @@ import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
 
@@ -91,6 +92,15 @@ public final class StaxSVGLoader {
                 .build());
     }
 
+    private @Nullable XMLStreamReader createStreamReader(@Nullable InputStream inputStream) {
+        try {
+            return xmlInputFactory.createXMLStreamReader(inputStream);
+        } catch (XMLStreamException e) {
+            LOGGER.log(Level.SEVERE, "Error while creating XMLStreamReader.", e);
+            return null;
+        }
+    }
+
     @ApiStatus.Internal
     @Nullable
     SVGDocumentBuilder parse(
@@ -98,6 +108,16 @@ public final class StaxSVGLoader {
             @Nullable URI xmlBase,
             @NotNull LoaderContext loaderContext) throws IOException, XMLStreamException {
         if (inputStream == null) return null;
+        if (loaderContext.xmlReaderMode() == XMLReaderMode.CURSOR) {
+            return parseWithCursor(inputStream, xmlBase, loaderContext);
+        }
+        return parseWithEvents(inputStream, xmlBase, loaderContext);
+    }
+
+    private @Nullable SVGDocumentBuilder parseWithEvents(
+            @NotNull InputStream inputStream,
+            @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) throws IOException, XMLStreamException {
         XMLEventReader reader = createReader(inputStream);
         if (reader == null) return null;
         try {
@@ -161,6 +181,81 @@ public final class StaxSVGLoader {
         return null;
     }
 
+    private @Nullable SVGDocumentBuilder parseWithCursor(
+            @NotNull InputStream inputStream,
+            @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) throws IOException, XMLStreamException {
+        XMLStreamReader reader = createStreamReader(inputStream);
+        if (reader == null) return null;
+        try {
+            SVGDocumentBuilder builder = new SVGDocumentBuilder(xmlBase, loaderContext, nodeSupplier);
+            // Character data is handed to the builder in a buffer shared by all text nodes of the
+            // document. The builder may modify the passed data, hence the internal buffer of the
+            // reader can't be passed directly.
+            char[] textBuffer = new char[256];
+            int event = reader.getEventType();
+            while (true) {
+                switch (event) {
+                    case XMLStreamConstants.START_DOCUMENT:
+                        builder.startDocument();
+                        break;
+                    case XMLStreamConstants.END_DOCUMENT:
+                        builder.endDocument();
+                        break;
+
+                    case XMLStreamConstants.START_ELEMENT:
+                        String uri = reader.getNamespaceURI();
+                        if (uri != null && !uri.isEmpty() && !SVG_NAMESPACE_URI.equals(uri)) {
+                            skipElement(reader);
+                            break;
+                        }
+                        int attributeCount = reader.getAttributeCount();
+                        // Size the map such that it never has to be rehashed.
+                        Map<String, String> attributes = new HashMap<>(Math.max(4, 1 + attributeCount * 4 / 3));
+                        for (int i = 0; i < attributeCount; i++) {
+                            attributes.put(
+                                    qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i),
+                                            reader.getAttributeNamespace(i)),
+                                    reader.getAttributeValue(i).trim());
+                        }
+                        String tagName = qualifiedName(reader.getPrefix(), reader.getLocalName(), uri);
+                        if (!builder.startElement(tagName, attributes)) {
+                            skipElement(reader);
+                        }
+                        break;
+
+                    case XMLStreamConstants.END_ELEMENT:
+                        builder.endElement(
+                                qualifiedName(reader.getPrefix(), reader.getLocalName(), reader.getNamespaceURI()));
+                        break;
+
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.CHARACTERS:
+                        int length = reader.getTextLength();
+                        if (length > textBuffer.length) {
+                            textBuffer = new char[Math.max(length, 2 * textBuffer.length)];
+                        }
+                        reader.getTextCharacters(0, textBuffer, 0, length);
+                        builder.addTextContent(textBuffer, 0, length);
+                        break;
+
+                    default:
+                        // Whitespace, comments, processing instructions, dtd etc. are ignored.
+                        break;
+                }
+                if (event == XMLStreamConstants.END_DOCUMENT || !reader.hasNext()) break;
+                event = reader.next();
+            }
+            return builder;
+        } catch (XMLStreamException e) {
+            LOGGER.log(Level.SEVERE, "Error while parsing SVG.", e);
+        } finally {
+            reader.close();
+            inputStream.close();
+        }
+        return null;
+    }
+
     public @Nullable SVGDocument load(
             @Nullable InputStream inputStream,
             @Nullable URI xmlBase,
@@ -183,13 +278,29 @@ public final class StaxSVGLoader {
         }
     }
 
+    private static void skipElement(@NotNull XMLStreamReader reader) throws XMLStreamException {
+        int elementCount = 1;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elementCount++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                elementCount--;
+            }
+            if (elementCount == 0) return;
+        }
+    }
+
     private static String qualifiedName(@NotNull QName name) {
-        String prefix = name.getPrefix();
-        String localName = name.getLocalPart();
+        return qualifiedName(name.getPrefix(), name.getLocalPart(), name.getNamespaceURI());
+    }
+
+    private static String qualifiedName(@Nullable String prefix, @NotNull String localName,
+            @Nullable String namespaceURI) {
         if (prefix == null) return localName;
         if (prefix.isEmpty()) return localName;
-        if (SVG_NAMESPACE_URI.equals(name.getNamespaceURI())) return localName;
-        if (XLINK_NAMESPACE_URI.equals(name.getNamespaceURI())) return "xlink:" + localName;
+        if (SVG_NAMESPACE_URI.equals(namespaceURI)) return localName;
+        if (XLINK_NAMESPACE_URI.equals(namespaceURI)) return "xlink:" + localName;
         return prefix + ":" + localName;
     }
 }
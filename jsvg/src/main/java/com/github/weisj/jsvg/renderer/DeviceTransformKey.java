@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.FillRule;
+import com.github.weisj.jsvg.attributes.PaintOrder;
+import com.github.weisj.jsvg.attributes.font.MeasurableFontSpec;
+import com.github.weisj.jsvg.attributes.paint.SVGPaint;
+import com.github.weisj.jsvg.geometry.size.MeasureContext;
+
+/**
+ * Identifies the raster produced by some element of a document for a given device transform and
+ * inherited context. Used as the common part of the keys of the caches holding rasters which
+ * outlive a render pass.
+ * <p>
+ * The element is compared by identity. The inherited paints, opacities, stroke, fill rule, paint
+ * order, font and context element attributes are compared by their resolved values, as the
+ * content of the element may refer to any of them, e.g. through {@code currentColor}.
+ * <p>
+ * Of the root transform only the linear part and the fractional part of the translation
+ * contribute. Moving the document by whole pixels only shifts the raster, hence it can be reused
+ * e.g. while scrolling. Bounds in device space have to be made relative to the integral part of
+ * the translation using {@link #relativeToPixelOffset(Rectangle2D)} before they are used in a key.
+ */
+final class DeviceTransformKey {
+    private final @NotNull Object owner;
+    private final double rootScaleX;
+    private final double rootShearY;
+    private final double rootShearX;
+    private final double rootScaleY;
+    private final double rootFractionX;
+    private final double rootFractionY;
+    private final @NotNull AffineTransform userSpaceTransform;
+    private final @NotNull MeasureContext measureContext;
+    private final @NotNull RenderingHints hints;
+    private final @NotNull SVGPaint color;
+    private final @NotNull SVGPaint fillPaint;
+    private final @NotNull SVGPaint strokePaint;
+    private final float opacity;
+    private final float fillOpacity;
+    private final float strokeOpacity;
+    private final @NotNull Stroke stroke;
+    private final @NotNull FillRule fillRule;
+    private final @NotNull PaintOrder paintOrder;
+    private final @NotNull MeasurableFontSpec fontSpec;
+    private final @Nullable ContextElementAttributes contextElementAttributes;
+    // Not part of the identity of the key.
+    private final double pixelOffsetX;
+    private final double pixelOffsetY;
+    private final int hashCode;
+
+    /**
+     * @param owner the element producing the raster.
+     * @param context the context the raster is rendered in.
+     * @param hints the rendering hints of the output.
+     */
+    DeviceTransformKey(@NotNull Object owner, @NotNull RenderContext context, @NotNull RenderingHints hints) {
+        AffineTransform root = context.rootTransform();
+        this.owner = owner;
+        this.pixelOffsetX = Math.floor(root.getTranslateX());
+        this.pixelOffsetY = Math.floor(root.getTranslateY());
+        this.rootScaleX = root.getScaleX();
+        this.rootShearY = root.getShearY();
+        this.rootShearX = root.getShearX();
+        this.rootScaleY = root.getScaleY();
+        this.rootFractionX = root.getTranslateX() - pixelOffsetX;
+        this.rootFractionY = root.getTranslateY() - pixelOffsetY;
+        this.userSpaceTransform = new AffineTransform(context.userSpaceTransform());
+        this.measureContext = context.measureContext();
+        this.hints = hints;
+        this.color = context.color();
+        this.fillPaint = context.fillPaint();
+        this.strokePaint = context.strokePaint();
+        this.opacity = context.rawOpacity();
+        this.fillOpacity = context.fillOpacity();
+        this.strokeOpacity = context.strokeOpacity();
+        this.stroke = context.stroke(1);
+        this.fillRule = context.fillRule();
+        this.paintOrder = context.paintOrder();
+        this.fontSpec = context.fontSpec();
+        this.contextElementAttributes = context.contextElementAttributes();
+        this.hashCode = Objects.hash(System.identityHashCode(owner), rootScaleX, rootShearY, rootShearX,
+                rootScaleY, rootFractionX, rootFractionY, userSpaceTransform, measureContext, stroke, fontSpec);
+    }
+
+    /**
+     * Translate bounds in device space by the integral part of the translation of the root
+     * transform. For pixel aligned bounds the result only depends on the clip.
+     *
+     * @param deviceBounds the bounds in device space.
+     * @return the translated bounds.
+     */
+    @NotNull
+    Rectangle2D relativeToPixelOffset(@NotNull Rectangle2D deviceBounds) {
+        return new Rectangle2D.Double(deviceBounds.getX() - pixelOffsetX, deviceBounds.getY() - pixelOffsetY,
+                deviceBounds.getWidth(), deviceBounds.getHeight());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeviceTransformKey)) return false;
+        DeviceTransformKey key = (DeviceTransformKey) o;
+        return owner == key.owner
+                && Double.compare(rootScaleX, key.rootScaleX) == 0
+                && Double.compare(rootShearY, key.rootShearY) == 0
+                && Double.compare(rootShearX, key.rootShearX) == 0
+                && Double.compare(rootScaleY, key.rootScaleY) == 0
+                && Double.compare(rootFractionX, key.rootFractionX) == 0
+                && Double.compare(rootFractionY, key.rootFractionY) == 0
+                && Float.compare(opacity, key.opacity) == 0
+                && Float.compare(fillOpacity, key.fillOpacity) == 0
+                && Float.compare(strokeOpacity, key.strokeOpacity) == 0
+                && fillRule == key.fillRule
+                && userSpaceTransform.equals(key.userSpaceTransform)
+                && measureContext.equals(key.measureContext)
+                && color.equals(key.color)
+                && fillPaint.equals(key.fillPaint)
+                && strokePaint.equals(key.strokePaint)
+                && stroke.equals(key.stroke)
+                && paintOrder.equals(key.paintOrder)
+                && fontSpec.equals(key.fontSpec)
+                && Objects.equals(contextElementAttributes, key.contextElementAttributes)
+                && hints.equals(key.hints);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.SVGRenderingHints;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.Provider;
+import com.github.weisj.jsvg.util.ShapeUtil;
+
+/**
+ * An output which records all draw operations together with the resolved transform, clip, paint,
+ * stroke and opacity. The result is a {@link RecordedDrawing}, which can be replayed without
+ * walking the node tree again.
+ */
+public final class DisplayListOutput implements Output {
+    private static final RenderingHints DEFAULT_HINTS;
+
+    static {
+        DEFAULT_HINTS = new RenderingHints(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        DEFAULT_HINTS.put(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        DEFAULT_HINTS.put(SVGRenderingHints.KEY_IMAGE_ANTIALIASING, SVGRenderingHints.VALUE_IMAGE_ANTIALIASING_ON);
+        DEFAULT_HINTS.put(SVGRenderingHints.KEY_MASK_CLIP_RENDERING,
+                SVGRenderingHints.VALUE_MASK_CLIP_RENDERING_DEFAULT);
+        // Offscreen buffers are referenced by the recorded operations and mustn't be reused.
+        DEFAULT_HINTS.put(SVGRenderingHints.KEY_CACHE_OFFSCREEN_IMAGE, SVGRenderingHints.VALUE_NO_CACHE);
+    }
+
+    private final @NotNull Recording recording;
+    private @NotNull AffineTransform transform;
+    private @Nullable Shape clip;
+    private @NotNull Paint paint;
+    private @NotNull List<MaskedPaint> masks;
+    private @NotNull Stroke stroke;
+    private float opacity;
+    private @Nullable RenderingHints hints;
+    private final @Nullable RenderingHints initialHints;
+    private @Nullable RecordedDrawing.State state;
+
+    /**
+     * @param hints rendering hints which are in effect during recording. These are also applied
+     *        when the drawing is replayed.
+     */
+    public DisplayListOutput(@Nullable RenderingHints hints) {
+        this.recording = new Recording();
+        this.transform = new AffineTransform();
+        this.clip = null;
+        this.paint = Color.BLACK;
+        this.masks = Collections.emptyList();
+        this.stroke = new BasicStroke();
+        this.opacity = 1;
+        this.hints = hints != null && !hints.isEmpty() ? (RenderingHints) hints.clone() : null;
+        this.initialHints = this.hints;
+    }
+
+    private DisplayListOutput(@NotNull DisplayListOutput parent) {
+        this.recording = parent.recording;
+        this.transform = new AffineTransform(parent.transform);
+        this.clip = parent.clip;
+        this.paint = parent.paint;
+        this.masks = parent.masks;
+        this.stroke = parent.stroke;
+        this.opacity = parent.opacity;
+        this.hints = parent.hints;
+        this.initialHints = parent.initialHints;
+        this.state = parent.state;
+    }
+
+    public @NotNull RecordedDrawing toRecordedDrawing() {
+        return new RecordedDrawing(recording.operations, recording.deviceDependent, initialHints);
+    }
+
+    private @NotNull RecordedDrawing.State state() {
+        RecordedDrawing.State s = state;
+        if (s == null) {
+            Paint p = paint;
+            for (MaskedPaint mask : masks) {
+                p = mask.withPaint(p);
+            }
+            s = new RecordedDrawing.State(clip, p, stroke, opacity, hints);
+            state = s;
+        }
+        return s;
+    }
+
+    private void invalidateState() {
+        state = null;
+    }
+
+    private @NotNull AffineTransform currentTransform() {
+        return new AffineTransform(transform);
+    }
+
+    @Override
+    public void markDeviceDependent() {
+        recording.deviceDependent = true;
+    }
+
+    private void checkMasks() {
+        if (!masks.isEmpty()) markDeviceDependent();
+    }
+
+    @Override
+    public void fillShape(@NotNull Shape shape) {
+        checkMasks();
+        recording.operations.add(new RecordedDrawing.FillShape(currentTransform(), state(), shape));
+    }
+
+    @Override
+    public void drawShape(@NotNull Shape shape) {
+        checkMasks();
+        recording.operations.add(new RecordedDrawing.DrawShape(currentTransform(), state(), shape));
+    }
+
+    @Override
+    public void drawImage(@NotNull BufferedImage image) {
+        // Images drawn this way are rasterized content e.g. offscreen buffers.
+        markDeviceDependent();
+        recording.operations.add(new RecordedDrawing.DrawBufferedImage(currentTransform(), state(), image));
+    }
+
+    @Override
+    public void drawImage(@NotNull Image image, @Nullable ImageObserver observer) {
+        markDeviceDependent();
+        if (!masks.isEmpty()) {
+            // See GraphicsUtil#safelyDrawImage
+            Rectangle r = new Rectangle(0, 0, image.getWidth(observer), image.getHeight(observer));
+            BufferedImage img = image instanceof BufferedImage
+                    ? (BufferedImage) image
+                    : ImageUtil.toBufferedImage(image);
+            Paint p = new TexturePaint(img, r);
+            for (MaskedPaint mask : masks) {
+                p = mask.withPaint(p);
+            }
+            recording.operations.add(new RecordedDrawing.FillShape(currentTransform(), state().withPaint(p), r));
+        } else {
+            recording.operations.add(
+                    new RecordedDrawing.DrawImage(currentTransform(), state(), image, null, observer));
+        }
+    }
+
+    @Override
+    public void drawImage(@NotNull Image image, @NotNull AffineTransform at, @Nullable ImageObserver observer) {
+        recording.operations.add(new RecordedDrawing.DrawImage(
+                currentTransform(), state(), image, new AffineTransform(at), observer));
+    }
+
+    @Override
+    public void setPaint(@NotNull Paint paint) {
+        // Mirrors the semantics of GraphicsUtil#safelySetPaint: Masks wrap the current paint and
+        // setting a regular paint only replaces the innermost paint.
+        if (paint instanceof MaskedPaint) {
+            List<MaskedPaint> newMasks = new ArrayList<>(masks.size() + 1);
+            newMasks.addAll(masks);
+            newMasks.add((MaskedPaint) paint);
+            masks = newMasks;
+        } else {
+            this.paint = paint;
+        }
+        invalidateState();
+    }
+
+    @Override
+    public void setPaint(@NotNull Provider<Paint> paintProvider) {
+        setPaint(paintProvider.get());
+    }
+
+    @Override
+    public void setStroke(@NotNull Stroke stroke) {
+        this.stroke = stroke;
+        invalidateState();
+    }
+
+    @Override
+    public @NotNull Stroke stroke() {
+        return stroke;
+    }
+
+    @Override
+    public void applyClip(@NotNull Shape clipShape) {
+        Shape transformedShape = ShapeUtil.transformShape(clipShape, transform);
+        clip = clip != null
+                ? ShapeUtil.intersect(clip, transformedShape, true, false)
+                : transformedShape;
+        invalidateState();
+    }
+
+    @Override
+    public void setClip(@Nullable Shape shape) {
+        clip = shape != null
+                ? ShapeUtil.transformShape(shape, transform)
+                : null;
+        invalidateState();
+    }
+
+    @Override
+    public Optional<Float> contextFontSize() {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull Output createChild() {
+        return new DisplayListOutput(this);
+    }
+
+    @Override
+    public void dispose() {
+        // No action needed
+    }
+
+    @Override
+    public void debugPaint(@NotNull Consumer<Graphics2D> painter) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public @NotNull Rectangle2D clipBounds() {
+        if (clip == null) {
+            float veryLargeNumber = Float.MAX_VALUE / 4;
+            return new Rectangle2D.Float(-veryLargeNumber, -veryLargeNumber, 2 * veryLargeNumber,
+                    2 * veryLargeNumber);
+        }
+        try {
+            return transform.createInverse().createTransformedShape(clip).getBounds2D();
+        } catch (NoninvertibleTransformException e) {
+            return new Rectangle2D.Float();
+        }
+    }
+
+    @Override
+    public @NotNull RenderingHints renderingHints() {
+        RenderingHints result = (RenderingHints) DEFAULT_HINTS.clone();
+        if (hints != null) result.putAll(hints);
+        return result;
+    }
+
+    @Override
+    public @Nullable Object renderingHint(RenderingHints.@NotNull Key key) {
+        Object value = hints != null ? hints.get(key) : null;
+        return value != null ? value : DEFAULT_HINTS.get(key);
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.@NotNull Key key, @Nullable Object value) {
+        RenderingHints newHints = hints != null
+                ? (RenderingHints) hints.clone()
+                : new RenderingHints(null);
+        if (value != null) {
+            newHints.put(key, value);
+        } else {
+            newHints.remove(key);
+        }
+        hints = newHints;
+        invalidateState();
+    }
+
+    @Override
+    public @NotNull AffineTransform transform() {
+        return new AffineTransform(transform);
+    }
+
+    @Override
+    public void setTransform(@NotNull AffineTransform affineTransform) {
+        transform = new AffineTransform(affineTransform);
+    }
+
+    @Override
+    public void applyTransform(@NotNull AffineTransform at) {
+        transform.concatenate(at);
+    }
+
+    @Override
+    public void rotate(double angle) {
+        transform.rotate(angle);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        transform.scale(sx, sy);
+    }
+
+    @Override
+    public void translate(double dx, double dy) {
+        transform.translate(dx, dy);
+    }
+
+    @Override
+    public float currentOpacity() {
+        return opacity;
+    }
+
+    @Override
+    public void applyOpacity(float opacity) {
+        if (GeometryUtil.approximatelyEqual(opacity, 1)) return;
+        this.opacity *= opacity;
+        invalidateState();
+    }
+
+    @Override
+    public boolean hasMaskedPaint() {
+        return !masks.isEmpty();
+    }
+
+    @Override
+    public @NotNull SafeState safeState() {
+        return new DisplayListSafeState(this);
+    }
+
+    @Override
+    public boolean supportsFilters() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsColors() {
+        return true;
+    }
+
+    private static final class Recording {
+        private final @NotNull List<RecordedDrawing.Operation> operations = new ArrayList<>();
+        private boolean deviceDependent;
+    }
+
+    private static final class DisplayListSafeState implements SafeState {
+        private final @NotNull DisplayListOutput output;
+        private final @NotNull AffineTransform oldTransform;
+        private final @NotNull Paint oldPaint;
+        private final @NotNull List<MaskedPaint> oldMasks;
+        private final @NotNull Stroke oldStroke;
+        private final float oldOpacity;
+
+        private DisplayListSafeState(@NotNull DisplayListOutput output) {
+            this.output = output;
+            this.oldTransform = output.transform();
+            this.oldPaint = output.paint;
+            this.oldMasks = output.masks;
+            this.oldStroke = output.stroke;
+            this.oldOpacity = output.opacity;
+        }
+
+        @Override
+        public void restore() {
+            output.transform = oldTransform;
+            output.paint = oldPaint;
+            output.masks = oldMasks;
+            output.stroke = oldStroke;
+            output.opacity = oldOpacity;
+            // Note: Clip and rendering hints aren't restored, matching GraphicsResetHelper.
+            output.invalidateState();
+        }
+    }
+}
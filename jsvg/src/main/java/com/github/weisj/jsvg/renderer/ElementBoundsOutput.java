@@ -0,0 +1,270 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.nodes.SVG;
+import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.nodes.prototype.HasShape;
+import com.github.weisj.jsvg.util.Provider;
+import com.github.weisj.jsvg.util.ShapeUtil;
+import com.github.weisj.jsvg.util.SpatialIndex;
+
+/**
+ * An output which doesn't paint anything but collects the bounds of all rendered elements in the
+ * coordinate system of the output. Painting operations are ignored.
+ */
+public final class ElementBoundsOutput implements Output {
+
+    private final @NotNull Collector collector;
+    private @NotNull AffineTransform currentTransform;
+    private @NotNull Stroke currentStroke;
+    private @Nullable Shape currentClip;
+
+    public ElementBoundsOutput() {
+        collector = new Collector();
+        currentStroke = new BasicStroke();
+        currentTransform = new AffineTransform();
+        currentClip = null;
+    }
+
+    private ElementBoundsOutput(@NotNull ElementBoundsOutput parent) {
+        collector = parent.collector;
+        currentStroke = parent.currentStroke;
+        currentTransform = new AffineTransform(parent.currentTransform);
+        currentClip = parent.currentClip;
+    }
+
+    @Override
+    public void elementEntered(@NotNull SVGNode node, @NotNull ElementBounds elementBounds) {
+        if (!(node instanceof HasShape) || (node instanceof SVG && ((SVG) node).isTopLevel())) return;
+        addElement(node, elementBounds.strokeBox());
+    }
+
+    private void addElement(@NotNull SVGNode node, @NotNull Rectangle2D bounds) {
+        if (!GeometryUtil.isValidRect(bounds) || Double.isInfinite(bounds.getWidth())
+                || Double.isInfinite(bounds.getHeight())) {
+            return;
+        }
+        collector.nodes.add(node);
+        collector.bounds.add(currentTransform.createTransformedShape(bounds).getBounds2D());
+    }
+
+    public @NotNull SpatialIndex<SVGNode> createIndex() {
+        return new SpatialIndex<>(collector.nodes, collector.bounds);
+    }
+
+    @Override
+    public void fillShape(@NotNull Shape shape) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void drawShape(@NotNull Shape shape) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void drawImage(@NotNull BufferedImage image) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void drawImage(@NotNull Image image, @Nullable ImageObserver observer) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void drawImage(@NotNull Image image, @NotNull AffineTransform at, @Nullable ImageObserver observer) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void setPaint(@NotNull Paint paint) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void setPaint(@NotNull Provider<Paint> paintProvider) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public void setStroke(@NotNull Stroke stroke) {
+        currentStroke = stroke;
+    }
+
+    @Override
+    public @NotNull Stroke stroke() {
+        return currentStroke;
+    }
+
+    @Override
+    public void applyClip(@NotNull Shape clipShape) {
+        Shape transformedShape = ShapeUtil.transformShape(clipShape, currentTransform);
+        currentClip = currentClip != null
+                ? ShapeUtil.intersect(currentClip, transformedShape, true, false)
+                : transformedShape;
+    }
+
+    @Override
+    public void setClip(@Nullable Shape shape) {
+        currentClip = shape != null
+                ? ShapeUtil.transformShape(shape, currentTransform)
+                : null;
+    }
+
+    @Override
+    public Optional<Float> contextFontSize() {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull Output createChild() {
+        return new ElementBoundsOutput(this);
+    }
+
+    @Override
+    public void dispose() {
+        // No action needed
+    }
+
+    @Override
+    public void debugPaint(@NotNull Consumer<Graphics2D> painter) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public @NotNull Rectangle2D clipBounds() {
+        if (currentClip == null) {
+            float veryLargeNumber = Float.MAX_VALUE / 4;
+            return new Rectangle2D.Float(-veryLargeNumber, -veryLargeNumber, 2 * veryLargeNumber,
+                    2 * veryLargeNumber);
+        }
+        try {
+            return currentTransform.createInverse().createTransformedShape(currentClip).getBounds2D();
+        } catch (NoninvertibleTransformException e) {
+            return new Rectangle2D.Float();
+        }
+    }
+
+    @Override
+    public @Nullable RenderingHints renderingHints() {
+        return null;
+    }
+
+    @Override
+    public @Nullable Object renderingHint(RenderingHints.@NotNull Key key) {
+        return null;
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.@NotNull Key key, @Nullable Object value) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public @NotNull AffineTransform transform() {
+        return new AffineTransform(currentTransform);
+    }
+
+    @Override
+    public void setTransform(@NotNull AffineTransform affineTransform) {
+        currentTransform = new AffineTransform(affineTransform);
+    }
+
+    @Override
+    public void applyTransform(@NotNull AffineTransform transform) {
+        currentTransform.concatenate(transform);
+    }
+
+    @Override
+    public void rotate(double angle) {
+        currentTransform.rotate(angle);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        currentTransform.scale(sx, sy);
+    }
+
+    @Override
+    public void translate(double dx, double dy) {
+        currentTransform.translate(dx, dy);
+    }
+
+    @Override
+    public float currentOpacity() {
+        return 1;
+    }
+
+    @Override
+    public void applyOpacity(float opacity) {
+        // Not supported. Do nothing
+    }
+
+    @Override
+    public @NotNull SafeState safeState() {
+        AffineTransform oldTransform = transform();
+        Stroke oldStroke = currentStroke;
+        Shape oldClip = currentClip;
+        return () -> {
+            currentTransform = oldTransform;
+            currentStroke = oldStroke;
+            currentClip = oldClip;
+        };
+    }
+
+    @Override
+    public boolean supportsFilters() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsColors() {
+        return false;
+    }
+
+    @Override
+    public boolean isSoftClippingEnabled() {
+        return false;
+    }
+
+    private static final class Collector {
+        private final @NotNull List<SVGNode> nodes = new ArrayList<>();
+        private final @NotNull List<Rectangle2D> bounds = new ArrayList<>();
+    }
+}
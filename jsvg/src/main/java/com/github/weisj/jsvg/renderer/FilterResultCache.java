@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.nodes.filter.Filter;
+import com.github.weisj.jsvg.nodes.prototype.Renderable;
+import com.github.weisj.jsvg.util.BoundedImageCache;
+
+/**
+ * Memoises the results of filters across render passes of a document.
+ * <p>
+ * A result is keyed by the filter, the filtered element, its bounds, the context it inherits, the
+ * visible part of the filter region and the transform it is rendered with. Moving the document by
+ * whole pixels keeps the results valid, hence they survive e.g. scrolling. Filters only look up
+ * results if the cache is part of the {@link RenderState}, which
+ * {@link com.github.weisj.jsvg.SVGDocument} arranges if
+ * {@link com.github.weisj.jsvg.SVGRenderingHints#KEY_FILTER_RESULT_CACHE} is enabled.
+ * <p>
+ * The size of the cache is bounded by the number of bytes occupied by the pixels of the cached
+ * images. If the bound is exceeded the least recently used images are evicted. The cache is safe to
+ * use from multiple threads. Cached images are shared and must not be modified.
+ */
+public final class FilterResultCache {
+    public static final long DEFAULT_MAXIMUM_BYTES = 32L * 1024 * 1024;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final @NotNull BoundedImageCache<Key> cache;
+
+    /**
+     * @param maximumBytes the maximum number of bytes the pixels of the cached images may occupy.
+     */
+    public FilterResultCache(long maximumBytes) {
+        this.cache = new BoundedImageCache<>(maximumBytes, BYTES_PER_PIXEL);
+    }
+
+    static @Nullable FilterResultCache forContext(@NotNull RenderContext context) {
+        return context.renderState().get(FilterResultCache.class, FilterResultCache.class);
+    }
+
+    /**
+     * Let filters of the render pass started with the given context store their results in this
+     * cache.
+     *
+     * @param context the initial context of a render pass.
+     */
+    public void install(@NotNull RenderContext context) {
+        context.renderState().put(FilterResultCache.class, this);
+    }
+
+    public long maximumBytes() {
+        return cache.maximumBytes();
+    }
+
+    public long currentBytes() {
+        return cache.currentBytes();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    @Nullable
+    BufferedImage get(@NotNull Key key) {
+        return cache.get(key);
+    }
+
+    void put(@NotNull Key key, @NotNull BufferedImage image) {
+        cache.put(key, image);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    static final class Key {
+        private final @NotNull DeviceTransformKey transform;
+        private final @NotNull Renderable renderable;
+        private final @NotNull Rectangle2D elementBounds;
+        private final @NotNull Rectangle2D relativeDeviceBounds;
+        private final @NotNull Rectangle2D relativeVisibleBounds;
+        private final int hashCode;
+
+        /**
+         * @param filter the filter.
+         * @param renderable the filtered element.
+         * @param elementBounds the bounds of the element.
+         * @param context the context the element is rendered in.
+         * @param imageBoundsInDeviceSpace the pixel aligned bounds of the filter image.
+         * @param visibleBoundsInDeviceSpace the bounds of the visible part of the filter region.
+         *        Only this part of the result is guaranteed to be computed.
+         * @param hints the rendering hints of the output.
+         */
+        Key(@NotNull Filter filter, @NotNull Renderable renderable, @NotNull Rectangle2D elementBounds,
+                @NotNull RenderContext context, @NotNull Rectangle2D imageBoundsInDeviceSpace,
+                @NotNull Rectangle2D visibleBoundsInDeviceSpace, @NotNull RenderingHints hints) {
+            this.transform = new DeviceTransformKey(filter, context, hints);
+            this.renderable = renderable;
+            this.elementBounds = elementBounds.getBounds2D();
+            this.relativeDeviceBounds = transform.relativeToPixelOffset(imageBoundsInDeviceSpace);
+            this.relativeVisibleBounds = transform.relativeToPixelOffset(visibleBoundsInDeviceSpace);
+            this.hashCode = Objects.hash(transform, System.identityHashCode(renderable), this.elementBounds,
+                    relativeDeviceBounds, relativeVisibleBounds);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return renderable == key.renderable
+                    && transform.equals(key.transform)
+                    && elementBounds.equals(key.elementBounds)
+                    && relativeDeviceBounds.equals(key.relativeDeviceBounds)
+                    && relativeVisibleBounds.equals(key.relativeVisibleBounds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -22,6 +22,7 @@
 package com.github.weisj.jsvg.renderer;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 
@@ -29,6 +30,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.UnitType;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.ClipPath;
 import com.github.weisj.jsvg.nodes.Mask;
 import com.github.weisj.jsvg.nodes.filter.Filter;
@@ -59,6 +61,16 @@ class Info implements AutoCloseable {
         return context;
     }
 
+    /**
+     * Whether the content of the renderable has to be painted. If false the output is already
+     * known and painting the content would have no effect.
+     *
+     * @return true if the content should be painted.
+     */
+    public boolean shouldRenderContent() {
+        return true;
+    }
+
     @Override
     public void close() {
         output.dispose();
@@ -71,8 +83,10 @@ class Info implements AutoCloseable {
         private final @NotNull ElementBounds elementBounds;
         private final @NotNull IsolationEffects isolationEffects;
         private final @Nullable Filter.FilterInfo filterInfo;
+        private final @Nullable FilterResultCache filterResultCache;
+        private final @Nullable FilterResultCache.Key filterResultKey;
 
-        static @Nullable InfoWithIsolation create(@NotNull Renderable renderable,
+        static @Nullable Info create(@NotNull Renderable renderable,
                 @NotNull RenderContext context, @NotNull Output output,
                 @NotNull ElementBounds elementBounds, @NotNull IsolationEffects effects) {
 
@@ -100,6 +114,25 @@ class Info implements AutoCloseable {
                 return null;
             }
 
+            FilterResultCache filterResultCache = null;
+            FilterResultCache.Key filterResultKey = null;
+            if (filter != null && filterBounds != null) {
+                filterResultCache = FilterResultCache.forContext(context);
+            }
+            if (filterResultCache != null) {
+                Rectangle2D imageBounds = BlittableImage.imageBoundsInDeviceSpace(context, clipBounds, bounds);
+                if (imageBounds == null) return null;
+                Rectangle2D visibleBounds = GeometryUtil.userBoundsToDeviceBounds(context,
+                        filterBounds.filterRegion().createIntersection(output.clipBounds()));
+                filterResultKey = new FilterResultCache.Key(filter, renderable, elementBounds.boundingBox(),
+                        context, imageBounds, visibleBounds, output.renderingHints());
+                BufferedImage cachedResult = filterResultCache.get(filterResultKey);
+                if (cachedResult != null) {
+                    return new InfoWithCachedFilterResult(renderable, context, output, cachedResult,
+                            imageBounds, filterBounds.filterRegion(), elementBounds, effects);
+                }
+            }
+
             RenderContext imageContext = context.deriveForSurface();
 
             BlittableImage blitImage = BlittableImage.create(
@@ -115,21 +148,24 @@ class Info implements AutoCloseable {
                 filterInfo = new Filter.FilterInfo(blitImage, imageOutput, filterBounds);
             }
 
-            return new InfoWithIsolation(
-                    renderable, context, output, imageOutput, blitImage, elementBounds, effects, filterInfo);
+            return new InfoWithIsolation(renderable, context, output, imageOutput, blitImage, elementBounds,
+                    effects, filterInfo, filterResultCache, filterResultKey);
         }
 
         private InfoWithIsolation(@NotNull Renderable renderable, @NotNull RenderContext context,
                 @NotNull Output output, @NotNull Output imageOutput,
                 @NotNull BlittableImage blittableImage,
                 @NotNull ElementBounds elementBounds,
-                @NotNull IsolationEffects isolationEffects, @Nullable Filter.FilterInfo filterInfo) {
+                @NotNull IsolationEffects isolationEffects, @Nullable Filter.FilterInfo filterInfo,
+                @Nullable FilterResultCache filterResultCache, FilterResultCache.@Nullable Key filterResultKey) {
             super(renderable, context, output);
             this.blittableImage = blittableImage;
             this.imageOutput = imageOutput;
             this.elementBounds = elementBounds;
             this.isolationEffects = isolationEffects;
             this.filterInfo = filterInfo;
+            this.filterResultCache = filterResultCache;
+            this.filterResultKey = filterResultKey;
         }
 
         @Override
@@ -150,19 +186,65 @@ class Info implements AutoCloseable {
             if (isolationEffects.filter != null) {
                 assert filterInfo != null;
                 result = isolationEffects.filter.applyFilter(previousOutput, context, filterInfo);
+                if (filterResultCache != null) {
+                    assert filterResultKey != null;
+                    filterResultCache.put(filterResultKey, result);
+                }
                 previousOutput.applyClip(filterInfo.filterRegion());
             }
+            applyMaskAndClip(previousOutput, context, elementBounds, isolationEffects);
+
+            blittableImage.prepareForBlitting(previousOutput);
+            previousOutput.drawImage(result, context.platformSupport().imageObserver());
+            imageOutput.dispose();
+            super.close();
+        }
+
+        private static void applyMaskAndClip(@NotNull Output output, @NotNull RenderContext context,
+                @NotNull ElementBounds elementBounds, @NotNull IsolationEffects isolationEffects) {
             if (isolationEffects.mask != null) {
-                previousOutput.setPaint(() -> isolationEffects.mask.createMaskPaint(
-                        previousOutput, context, elementBounds));
+                output.setPaint(() -> isolationEffects.mask.createMaskPaint(output, context, elementBounds));
             }
             if (isolationEffects.clipPath != null) {
-                isolationEffects.clipPath.applyClip(previousOutput, context, elementBounds);
+                isolationEffects.clipPath.applyClip(output, context, elementBounds);
             }
+        }
+    }
 
-            blittableImage.prepareForBlitting(previousOutput);
-            previousOutput.drawImage(result, context.platformSupport().imageObserver());
-            imageOutput.dispose();
+    /**
+     * Blits a filter result of a previous render pass instead of painting the content again.
+     */
+    static final class InfoWithCachedFilterResult extends Info {
+        private final @NotNull BufferedImage filterResult;
+        private final @NotNull Rectangle2D imageBoundsInDeviceSpace;
+        private final @NotNull Rectangle2D filterRegion;
+        private final @NotNull ElementBounds elementBounds;
+        private final @NotNull IsolationEffects isolationEffects;
+
+        private InfoWithCachedFilterResult(@NotNull Renderable renderable, @NotNull RenderContext context,
+                @NotNull Output output, @NotNull BufferedImage filterResult,
+                @NotNull Rectangle2D imageBoundsInDeviceSpace, @NotNull Rectangle2D filterRegion,
+                @NotNull ElementBounds elementBounds, @NotNull IsolationEffects isolationEffects) {
+            super(renderable, context, output);
+            this.filterResult = filterResult;
+            this.imageBoundsInDeviceSpace = imageBoundsInDeviceSpace;
+            this.filterRegion = filterRegion;
+            this.elementBounds = elementBounds;
+            this.isolationEffects = isolationEffects;
+        }
+
+        @Override
+        public boolean shouldRenderContent() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            output.applyClip(filterRegion);
+            InfoWithIsolation.applyMaskAndClip(output, context, elementBounds, isolationEffects);
+            output.setTransform(AffineTransform.getTranslateInstance(
+                    imageBoundsInDeviceSpace.getX(), imageBoundsInDeviceSpace.getY()));
+            output.drawImage(filterResult, context.platformSupport().imageObserver());
             super.close();
         }
     }
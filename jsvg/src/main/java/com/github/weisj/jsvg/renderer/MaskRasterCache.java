@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.UnitType;
+import com.github.weisj.jsvg.attributes.paint.PaintParser;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.util.BlittableImage;
+import com.github.weisj.jsvg.util.BoundedImageCache;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+/**
+ * Memoises the rendered luminance buffers of masks and soft clip paths across render passes of a
+ * document, hence a static mask only costs a single blit once it has been rendered.
+ * <p>
+ * A buffer is keyed by the mask or clip path, the bounds of the masked element, the part of the
+ * buffer inside the clip, the context the mask content inherits, the transform it is rendered with
+ * and the animation state. Masks render into a fresh buffer on every pass unless
+ * {@link com.github.weisj.jsvg.SVGRenderingHints#KEY_MASK_RASTER_CACHE} is enabled, in which case
+ * the document hands its cache to the render pass through the {@link RenderState}.
+ * <p>
+ * The size of the cache is bounded by the number of bytes occupied by the cached buffers. If the
+ * bound is exceeded the least recently used buffers are evicted. The cache is safe to use from
+ * multiple threads.
+ */
+public final class MaskRasterCache {
+    public static final long DEFAULT_MAXIMUM_BYTES = 16L * 1024 * 1024;
+    // Luminance buffers are TYPE_BYTE_GRAY images.
+    private static final int BYTES_PER_PIXEL = 1;
+
+    private final @NotNull BoundedImageCache<Key> cache;
+
+    /**
+     * @param maximumBytes the maximum number of bytes the cached buffers may occupy.
+     */
+    public MaskRasterCache(long maximumBytes) {
+        this.cache = new BoundedImageCache<>(maximumBytes, BYTES_PER_PIXEL);
+    }
+
+    public static @Nullable MaskRasterCache forContext(@NotNull RenderContext context) {
+        return context.renderState().get(MaskRasterCache.class, MaskRasterCache.class);
+    }
+
+    /**
+     * Have masks and soft clip paths rendered with the given context or any context derived from it
+     * look up their buffers here.
+     *
+     * @param context the initial context of a render pass.
+     */
+    public void install(@NotNull RenderContext context) {
+        context.renderState().put(MaskRasterCache.class, this);
+    }
+
+    /**
+     * Create a paint masking everything painted with it by the luminance of the given content. The
+     * content is only rendered if no buffer for the same parameters has been cached.
+     *
+     * @param owner the mask or clip path producing the content.
+     * @param output the output the masked element is painted to.
+     * @param context the context of the masked element.
+     * @param elementBounds the bounds of the masked element.
+     * @param bounds the area covered by the mask in user space.
+     * @param contentUnits the units of the content.
+     * @param contentRenderer renders the content into the buffer.
+     * @return the masking paint.
+     */
+    public @NotNull MaskedPaint createMaskedPaint(@NotNull Object owner, @NotNull Output output,
+            @NotNull RenderContext context, @NotNull ElementBounds elementBounds, @NotNull Rectangle2D bounds,
+            @NotNull UnitType contentUnits, @NotNull Consumer<@NotNull BlittableImage> contentRenderer) {
+        Rectangle2D clipBounds = output.clipBounds();
+        Rectangle2D deviceBounds = BlittableImage.imageBoundsInDeviceSpace(context, clipBounds, bounds);
+        // Note: If the mask isn't visible we still have to mask out the content of the element.
+        if (deviceBounds == null) return MaskedPaint.createEmpty(PaintParser.DEFAULT_COLOR);
+
+        Key key = new Key(owner, elementBounds, context, deviceBounds, output.renderingHints());
+        BufferedImage image = cache.get(key);
+        if (image == null) {
+            // Note: The buffer outlives the render pass, hence it can't be taken from a
+            // CachedSurfaceSupplier.
+            BlittableImage blitImage = BlittableImage.create(ImageUtil::createLuminosityBuffer, context,
+                    clipBounds, bounds, elementBounds.boundingBox(), contentUnits);
+            if (blitImage == null) return MaskedPaint.createEmpty(PaintParser.DEFAULT_COLOR);
+            contentRenderer.accept(blitImage);
+            image = blitImage.image();
+            cache.put(key, image);
+        }
+        return new MaskedPaint(PaintParser.DEFAULT_COLOR, image.getRaster(), GeometryUtil.getLocation(deviceBounds),
+                null);
+    }
+
+    public long maximumBytes() {
+        return cache.maximumBytes();
+    }
+
+    public long currentBytes() {
+        return cache.currentBytes();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static final class Key {
+        private final @NotNull DeviceTransformKey transform;
+        private final @NotNull Rectangle2D boundingBox;
+        private final @NotNull Rectangle2D geometryBox;
+        private final @NotNull Rectangle2D relativeDeviceBounds;
+        private final int hashCode;
+
+        private Key(@NotNull Object owner, @NotNull ElementBounds elementBounds, @NotNull RenderContext context,
+                @NotNull Rectangle2D deviceBounds, @NotNull RenderingHints hints) {
+            this.transform = new DeviceTransformKey(owner, context, hints);
+            this.boundingBox = elementBounds.boundingBox().getBounds2D();
+            this.geometryBox = elementBounds.geometryBox().getBounds2D();
+            this.relativeDeviceBounds = transform.relativeToPixelOffset(deviceBounds);
+            this.hashCode = Objects.hash(transform, boundingBox, geometryBox, relativeDeviceBounds);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return transform.equals(key.transform)
+                    && boundingBox.equals(key.boundingBox)
+                    && geometryBox.equals(key.geometryBox)
+                    && relativeDeviceBounds.equals(key.relativeDeviceBounds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -29,13 +29,17 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
+import java.util.Arrays;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.util.CachedSurfaceSupplier;
+import com.github.weisj.jsvg.util.ImageUtil;
 
 public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, GraphicsUtil.DisposablePaint {
+    private static final Raster EMPTY_MASK = Raster.createBandedRaster(DataBuffer.TYPE_BYTE, 1, 1, 1, null);
+
     private @NotNull Paint paint;
     private final @NotNull Raster maskRaster;
     private final @NotNull Point maskOffset;
@@ -49,6 +53,29 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
         this.cleaner = cleaner;
     }
 
+    /**
+     * Create a paint which masks out everything painted with it. This is used if the visible part of
+     * a mask is empty e.g. because it lies outside the current clip.
+     *
+     * @param paint the initial paint.
+     * @return a masked paint with an empty mask.
+     */
+    public static @NotNull MaskedPaint createEmpty(@NotNull Paint paint) {
+        return new MaskedPaint(paint, EMPTY_MASK, new Point(), null);
+    }
+
+    /**
+     * Create a copy of this paint with a different inner paint. The copy doesn't own the mask raster,
+     * hence it won't release it when cleaned up.
+     *
+     * @param paint the inner paint.
+     * @return a new masked paint sharing the mask with this paint.
+     */
+    @NotNull
+    MaskedPaint withPaint(@NotNull Paint paint) {
+        return new MaskedPaint(paint, maskRaster, maskOffset, null);
+    }
+
     @Override
     public void cleanupIfNeeded(@NotNull Output output) {
         if (cleaner != null) cleaner.clean(output);
@@ -84,6 +111,9 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
         private final @NotNull ColorModel parentColorModel;
         private final @NotNull Raster maskRaster;
         private final @NotNull Point offset;
+        private final @Nullable ByteMask byteMask;
+        // Raster handed out by the direct path. A paint context is only used by a single thread.
+        private @Nullable WritableRaster scratchRaster;
 
         MaskPaintContext(@NotNull PaintContext parentContext, @NotNull Raster maskRaster,
                 @NotNull Point offset) {
@@ -98,6 +128,9 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
                         .getColorSpace(), true, false, Transparency.OPAQUE, DataBuffer.TYPE_BYTE);
             }
             numColorComponents = colorModel.getNumColorComponents();
+            byteMask = colorModel == parentColorModel && parentColorModel instanceof DirectColorModel
+                    ? ByteMask.of(maskRaster)
+                    : null;
         }
 
         @Override
@@ -113,6 +146,9 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
         @Override
         public Raster getRaster(int x, int y, int w, int h) {
             Raster parentRaster = parentContext.getRaster(x, y, w, h);
+            if (byteMask != null && ImageUtil.is_INT_PACK_Data(parentRaster.getSampleModel(), true)) {
+                return applyByteMask(byteMask, parentRaster, x, y, w, h);
+            }
 
             int parentMinX = parentRaster.getMinX();
             int parentMinY = parentRaster.getMinY();
@@ -164,5 +200,105 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
 
             return result;
         }
+
+        /**
+         * Masks INT_ARGB(_PRE) pixels of the parent by a byte mask working directly on the backing
+         * arrays. Spans where the mask is fully opaque are copied and spans where it is fully
+         * transparent are cleared without touching the individual channels.
+         */
+        private @NotNull Raster applyByteMask(@NotNull ByteMask mask, @NotNull Raster parentRaster,
+                int x, int y, int w, int h) {
+            WritableRaster result = scratchRaster;
+            if (result == null || result.getWidth() < w || result.getHeight() < h) {
+                result = colorModel.createCompatibleWritableRaster(w, h);
+                scratchRaster = result;
+            }
+            boolean premultiplied = colorModel.isAlphaPremultiplied();
+
+            int[] src = ImageUtil.getINT_RGBA_DataBank(parentRaster);
+            int srcOffset = ImageUtil.getINT_RGBA_DataOffset(parentRaster);
+            int srcStride = ImageUtil.getINT_RGBA_ScanlineStride(parentRaster);
+            int[] dst = ImageUtil.getINT_RGBA_DataBank(result);
+            int dstOffset = ImageUtil.getINT_RGBA_DataOffset(result);
+            int dstStride = ImageUtil.getINT_RGBA_ScanlineStride(result);
+
+            // Columns of the requested area which are covered by the mask.
+            int maskStartX = Math.max(0, Math.min(w, mask.minX + offset.x - x));
+            int maskEndX = Math.max(maskStartX, Math.min(w, mask.maxX + offset.x - x));
+
+            for (int j = 0; j < h; j++) {
+                int sp = srcOffset + j * srcStride;
+                int dp = dstOffset + j * dstStride;
+                int ry = y + j - offset.y;
+                if (ry < mask.minY || ry >= mask.maxY || maskStartX == maskEndX) {
+                    Arrays.fill(dst, dp, dp + w, 0);
+                    continue;
+                }
+                Arrays.fill(dst, dp, dp + maskStartX, 0);
+                Arrays.fill(dst, dp + maskEndX, dp + w, 0);
+
+                int mp = mask.offset(x + maskStartX - offset.x, ry);
+                for (int i = maskStartX; i < maskEndX; i++, mp++) {
+                    int luminance = mask.data[mp] & 0xFF;
+                    int argb = src[sp + i];
+                    if (luminance == 0xFF) {
+                        dst[dp + i] = argb;
+                    } else if (luminance == 0) {
+                        dst[dp + i] = 0;
+                    } else if (premultiplied) {
+                        dst[dp + i] = (div255(((argb >>> 24) & 0xFF) * luminance) << 24)
+                                | (div255(((argb >> 16) & 0xFF) * luminance) << 16)
+                                | (div255(((argb >> 8) & 0xFF) * luminance) << 8)
+                                | div255((argb & 0xFF) * luminance);
+                    } else {
+                        dst[dp + i] = (div255(((argb >>> 24) & 0xFF) * luminance) << 24) | (argb & 0x00FFFFFF);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Direct access to a single banded byte mask e.g. one backed by a {@code TYPE_BYTE_GRAY} image.
+     */
+    private static final class ByteMask {
+        private final byte @NotNull [] data;
+        private final int baseOffset;
+        private final int scanlineStride;
+        private final int minX;
+        private final int minY;
+        private final int maxX;
+        private final int maxY;
+        private final int translateX;
+        private final int translateY;
+
+        private ByteMask(byte @NotNull [] data, int baseOffset, int scanlineStride, @NotNull Raster raster) {
+            this.data = data;
+            this.baseOffset = baseOffset;
+            this.scanlineStride = scanlineStride;
+            this.minX = raster.getMinX();
+            this.minY = raster.getMinY();
+            this.maxX = minX + raster.getWidth();
+            this.maxY = minY + raster.getHeight();
+            this.translateX = raster.getSampleModelTranslateX();
+            this.translateY = raster.getSampleModelTranslateY();
+        }
+
+        static @Nullable ByteMask of(@NotNull Raster raster) {
+            if (raster.getNumBands() != 1) return null;
+            if (!(raster.getDataBuffer() instanceof DataBufferByte)) return null;
+            if (!(raster.getSampleModel() instanceof ComponentSampleModel)) return null;
+            ComponentSampleModel sm = (ComponentSampleModel) raster.getSampleModel();
+            if (sm.getPixelStride() != 1) return null;
+            DataBufferByte buffer = (DataBufferByte) raster.getDataBuffer();
+            int bank = sm.getBankIndices()[0];
+            return new ByteMask(buffer.getData(bank), buffer.getOffsets()[bank] + sm.getBandOffsets()[0],
+                    sm.getScanlineStride(), raster);
+        }
+
+        int offset(int x, int y) {
+            return baseOffset + (y - translateY) * scanlineStride + (x - translateX);
+        }
     }
 }
@@ -34,10 +34,12 @@ import com.github.weisj.jsvg.attributes.font.MeasurableFontSpec;
 import com.github.weisj.jsvg.geometry.size.FloatSize;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.geometry.size.MeasureContext;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.ClipPath;
 import com.github.weisj.jsvg.nodes.Mask;
 import com.github.weisj.jsvg.nodes.SVG;
 import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.nodes.ShapeNode;
 import com.github.weisj.jsvg.nodes.container.BaseInnerViewContainer;
 import com.github.weisj.jsvg.nodes.filter.Filter;
 import com.github.weisj.jsvg.nodes.prototype.*;
@@ -52,7 +54,9 @@ public final class NodeRenderer {
     public static void renderNode(@NotNull SVGNode node, @NotNull RenderContext context, @NotNull Output output,
             @Nullable Instantiator instantiator) {
         try (Info info = createRenderInfo(node, context, output, instantiator)) {
-            if (info != null) info.renderable().render(info.context(), info.output());
+            if (info != null && info.shouldRenderContent()) {
+                info.renderable().render(info.context(), info.output());
+            }
         }
     }
 
@@ -60,7 +64,9 @@ public final class NodeRenderer {
             @NotNull RenderContext context, @NotNull Output output,
             @Nullable Instantiator instantiator) {
         try (Info info = createRenderInfo(node, context, output, instantiator)) {
-            if (info != null) node.renderWithSize(size, node.viewBox(info.context()), info.context(), info.output());
+            if (info != null && info.shouldRenderContent()) {
+                node.renderWithSize(size, node.viewBox(info.context()), info.context(), info.output());
+            }
         }
     }
 
@@ -85,6 +91,13 @@ public final class NodeRenderer {
 
         applyTransform(renderable, childOutput, childContext);
 
+        if (isOutsideClip(renderable, childContext, childOutput, elementBounds)) {
+            childOutput.dispose();
+            return null;
+        }
+
+        childOutput.elementEntered(node, elementBounds);
+
         Mask maskForIsolation = null;
         ClipPath clipPathForIsolation = null;
         if (renderable instanceof HasClip) {
@@ -118,6 +131,23 @@ public final class NodeRenderer {
         }
     }
 
+    private static boolean isOutsideClip(@NotNull Renderable renderable, @NotNull RenderContext childContext,
+            @NotNull Output childOutput, @NotNull ElementBounds elementBounds) {
+        if (!(renderable instanceof ShapeNode)) return false;
+        Rectangle2D bounds = ((ShapeNode) renderable).paintBounds(childContext, elementBounds);
+        if (bounds == null || !GeometryUtil.isValidRect(bounds)) return false;
+        if (renderable instanceof HasFilter && ((HasFilter) renderable).filter() != null) {
+            Rectangle2D geometryBox = elementBounds.geometryBox();
+            if (!GeometryUtil.isValidRect(geometryBox)) return false;
+            bounds = bounds.createUnion(geometryBox);
+        }
+        // Note: Graphics2D#getClipBounds returns null if there is no clip.
+        @SuppressWarnings("ConstantConditions")
+        Rectangle2D clipBounds = childOutput.clipBounds();
+        if (clipBounds == null) return false;
+        return !bounds.intersects(clipBounds);
+    }
+
     private static boolean checkInstantiation(@NotNull SVGNode node, @Nullable Instantiator instantiator,
             @NotNull Renderable renderable) {
         boolean instantiated = renderable.requiresInstantiation();
@@ -198,6 +228,7 @@ public final class NodeRenderer {
                     Length.UNSPECIFIED_RAW, Length.UNSPECIFIED_RAW);
             return new RenderContext(
                     context.platformSupport(),
+                    context.renderState(),
                     new AffineTransform(),
                     new AffineTransform(),
                     PaintContext.createDefault(),
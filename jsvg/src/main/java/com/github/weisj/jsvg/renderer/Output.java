@@ -33,6 +33,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.SVGRenderingHints;
+import com.github.weisj.jsvg.nodes.SVGNode;
 import com.github.weisj.jsvg.nodes.text.NullTextOutput;
 import com.github.weisj.jsvg.nodes.text.TextOutput;
 import com.github.weisj.jsvg.util.Provider;
@@ -124,6 +125,25 @@ public interface Output {
         return false;
     }
 
+    /**
+     * Signals that the content painted next was computed for the current device transform e.g. it
+     * has been rasterized or subdivided with respect to the current scale.
+     */
+    default void markDeviceDependent() {
+        // Only relevant for outputs which record their content.
+    }
+
+    /**
+     * Signals that the given element is rendered to this output. The output has already been
+     * transformed into the coordinate system of the element.
+     *
+     * @param node the element.
+     * @param elementBounds the bounds of the element.
+     */
+    default void elementEntered(@NotNull SVGNode node, @NotNull ElementBounds elementBounds) {
+        // Only relevant for outputs which track the rendered elements.
+    }
+
     interface SafeState {
         void restore();
     }
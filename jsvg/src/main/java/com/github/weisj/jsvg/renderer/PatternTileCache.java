@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.UnitType;
+import com.github.weisj.jsvg.util.BlittableImage;
+import com.github.weisj.jsvg.util.BoundedImageCache;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+/**
+ * Memoises the rendered tiles of patterns, hence a pattern used by many elements is only rasterised
+ * once per render pass and only again if the document is rendered at a different scale.
+ * <p>
+ * A tile is keyed by the pattern, the bounds of the tile, the context the pattern content inherits
+ * from the painted element, the transform it is rendered with and the animation state. The bounds
+ * of the painted element only contribute if the content of the pattern is specified in
+ * {@link UnitType#ObjectBoundingBox} units, hence elements in the same user space and with the same
+ * paint attributes share the tile of a pattern with {@code patternUnits="userSpaceOnUse"}. Patterns
+ * only reuse tiles when {@link com.github.weisj.jsvg.SVGRenderingHints#KEY_PATTERN_TILE_CACHE} is
+ * enabled.
+ * <p>
+ * The size of the cache is bounded by the number of bytes occupied by the cached tiles. If the
+ * bound is exceeded the least recently used tiles are evicted. The cache is safe to use from
+ * multiple threads. Cached tiles are shared and must not be modified.
+ */
+public final class PatternTileCache {
+    public static final long DEFAULT_MAXIMUM_BYTES = 16L * 1024 * 1024;
+    // Tiles are TYPE_INT_ARGB images.
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final @NotNull BoundedImageCache<Key> cache;
+
+    /**
+     * @param maximumBytes the maximum number of bytes the cached tiles may occupy.
+     */
+    public PatternTileCache(long maximumBytes) {
+        this.cache = new BoundedImageCache<>(maximumBytes, BYTES_PER_PIXEL);
+    }
+
+    public static @Nullable PatternTileCache forContext(@NotNull RenderContext context) {
+        return context.renderState().get(PatternTileCache.class, PatternTileCache.class);
+    }
+
+    /**
+     * Share the tiles held by this cache with all patterns painted in the render pass starting at
+     * the given context.
+     *
+     * @param context the initial context of a render pass.
+     */
+    public void install(@NotNull RenderContext context) {
+        context.renderState().put(PatternTileCache.class, this);
+    }
+
+    /**
+     * Get the tile of a pattern. The content is only rendered if no tile for the same parameters
+     * has been cached.
+     *
+     * @param owner the pattern producing the content.
+     * @param output the output the element is painted to.
+     * @param context the context of the painted element.
+     * @param tileBounds the bounds of the tile in user space.
+     * @param objectBounds the bounds of the painted element.
+     * @param contentUnits the units of the content.
+     * @param contentRenderer renders the content into the tile.
+     * @return the tile or null if it is empty.
+     */
+    public @Nullable BufferedImage tile(@NotNull Object owner, @NotNull Output output,
+            @NotNull RenderContext context, @NotNull Rectangle2D tileBounds, @NotNull Rectangle2D objectBounds,
+            @NotNull UnitType contentUnits, @NotNull Consumer<@NotNull BlittableImage> contentRenderer) {
+        Key key = new Key(owner, tileBounds,
+                contentUnits == UnitType.ObjectBoundingBox ? objectBounds : null,
+                context, output.renderingHints());
+        BufferedImage image = cache.get(key);
+        if (image == null) {
+            // Note: The tile outlives the render pass, hence it can't be taken from a
+            // CachedSurfaceSupplier.
+            BlittableImage blitImage = BlittableImage.create(ImageUtil::createCompatibleTransparentImage, context,
+                    null, tileBounds, objectBounds, contentUnits);
+            if (blitImage == null) return null;
+            contentRenderer.accept(blitImage);
+            image = blitImage.image();
+            cache.put(key, image);
+        }
+        return image;
+    }
+
+    public long maximumBytes() {
+        return cache.maximumBytes();
+    }
+
+    public long currentBytes() {
+        return cache.currentBytes();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static final class Key {
+        private final @NotNull DeviceTransformKey transform;
+        private final @NotNull Rectangle2D tileBounds;
+        private final @Nullable Rectangle2D objectBounds;
+        private final int hashCode;
+
+        private Key(@NotNull Object owner, @NotNull Rectangle2D tileBounds, @Nullable Rectangle2D objectBounds,
+                @NotNull RenderContext context, @NotNull RenderingHints hints) {
+            this.transform = new DeviceTransformKey(owner, context, hints);
+            this.tileBounds = tileBounds.getBounds2D();
+            this.objectBounds = objectBounds != null ? objectBounds.getBounds2D() : null;
+            this.hashCode = Objects.hash(transform, this.tileBounds, this.objectBounds);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return transform.equals(key.transform)
+                    && tileBounds.equals(key.tileBounds)
+                    && Objects.equals(objectBounds, key.objectBounds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
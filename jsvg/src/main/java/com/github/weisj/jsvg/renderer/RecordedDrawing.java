@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable list of draw operations recorded by a {@link DisplayListOutput}. Each operation
+ * stores its transform relative to the output it was recorded with, hence the drawing can be
+ * replayed onto a {@link Graphics2D} with an arbitrary base transform.
+ */
+public final class RecordedDrawing {
+    private final @NotNull Operation @NotNull [] operations;
+    private final boolean deviceDependent;
+    private final @Nullable RenderingHints baseHints;
+
+    RecordedDrawing(@NotNull List<Operation> operations, boolean deviceDependent,
+            @Nullable RenderingHints baseHints) {
+        this.operations = operations.toArray(new Operation[0]);
+        this.deviceDependent = deviceDependent;
+        this.baseHints = baseHints;
+    }
+
+    /**
+     * Whether the drawing contains content which was rasterized while recording e.g. masks or
+     * filter results. Such content is only reproduced faithfully if replayed with the same
+     * transform it was recorded with.
+     *
+     * @return true if the drawing depends on the device transform used for recording.
+     */
+    public boolean isDeviceDependent() {
+        return deviceDependent;
+    }
+
+    public int operationCount() {
+        return operations.length;
+    }
+
+    public void paint(@NotNull Graphics2D graphics) {
+        Graphics2D g = (Graphics2D) graphics.create();
+        AffineTransform baseTransform = g.getTransform();
+        Shape baseClip = g.getClip();
+        RenderingHints baseHints = g.getRenderingHints();
+        Composite baseComposite = g.getComposite();
+
+        AffineTransform at = new AffineTransform();
+        State current = null;
+        for (Operation op : operations) {
+            State state = op.state;
+            if (state != current) {
+                if (current == null || current.clip != state.clip) {
+                    g.setTransform(baseTransform);
+                    g.setClip(baseClip);
+                    if (state.clip != null) g.clip(state.clip);
+                }
+                if (current == null || current.hints != state.hints) {
+                    g.setRenderingHints(baseHints);
+                    if (state.hints != null) g.addRenderingHints(state.hints);
+                }
+                g.setPaint(state.paint);
+                g.setStroke(state.stroke);
+                g.setComposite(deriveComposite(baseComposite, state.opacity));
+                current = state;
+            }
+            at.setTransform(baseTransform);
+            at.concatenate(op.transform);
+            g.setTransform(at);
+            op.paint(g);
+        }
+        g.dispose();
+    }
+
+    /**
+     * Replay the drawing onto an output. The recorded transforms and clips are concatenated to the
+     * given transform. Rendering hints are only changed if they were changed while recording.
+     *
+     * @param output the output to paint to.
+     * @param transform the transform mapping the recording space to the device space of the output.
+     */
+    void paint(@NotNull Output output, @NotNull AffineTransform transform) {
+        AffineTransform at = new AffineTransform();
+        Output child = null;
+        State current = null;
+        for (Operation op : operations) {
+            State state = op.state;
+            if (state != current) {
+                if (child == null || current.clip != state.clip || current.hints != state.hints
+                        || current.opacity != state.opacity) {
+                    if (child != null) child.dispose();
+                    child = output.createChild();
+                    if (state.clip != null) {
+                        child.setTransform(transform);
+                        child.applyClip(state.clip);
+                    }
+                    if (state.hints != null && state.hints != baseHints) {
+                        for (Map.Entry<Object, Object> entry : state.hints.entrySet()) {
+                            child.setRenderingHint((RenderingHints.Key) entry.getKey(), entry.getValue());
+                        }
+                    }
+                    child.applyOpacity(state.opacity);
+                }
+                child.setPaint(state.paint);
+                child.setStroke(state.stroke);
+                current = state;
+            }
+            at.setTransform(transform);
+            at.concatenate(op.transform);
+            child.setTransform(at);
+            op.paint(child);
+        }
+        if (child != null) child.dispose();
+    }
+
+    private static @NotNull Composite deriveComposite(@NotNull Composite composite, float opacity) {
+        if (opacity == 1) return composite;
+        if (composite instanceof AlphaComposite) {
+            AlphaComposite ac = (AlphaComposite) composite;
+            return AlphaComposite.getInstance(ac.getRule(), ac.getAlpha() * opacity);
+        }
+        return AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity);
+    }
+
+    static final class State {
+        private final @Nullable Shape clip;
+        private final @NotNull Paint paint;
+        private final @NotNull Stroke stroke;
+        private final float opacity;
+        private final @Nullable RenderingHints hints;
+
+        State(@Nullable Shape clip, @NotNull Paint paint, @NotNull Stroke stroke, float opacity,
+                @Nullable RenderingHints hints) {
+            this.clip = clip;
+            this.paint = paint;
+            this.stroke = stroke;
+            this.opacity = opacity;
+            this.hints = hints;
+        }
+
+        @NotNull
+        State withPaint(@NotNull Paint p) {
+            return new State(clip, p, stroke, opacity, hints);
+        }
+    }
+
+    abstract static class Operation {
+        private final @NotNull AffineTransform transform;
+        private final @NotNull State state;
+
+        Operation(@NotNull AffineTransform transform, @NotNull State state) {
+            this.transform = transform;
+            this.state = state;
+        }
+
+        abstract void paint(@NotNull Graphics2D g);
+
+        abstract void paint(@NotNull Output output);
+    }
+
+    static final class FillShape extends Operation {
+        private final @NotNull Shape shape;
+
+        FillShape(@NotNull AffineTransform transform, @NotNull State state, @NotNull Shape shape) {
+            super(transform, state);
+            this.shape = shape;
+        }
+
+        @Override
+        void paint(@NotNull Graphics2D g) {
+            g.fill(shape);
+        }
+
+        @Override
+        void paint(@NotNull Output output) {
+            output.fillShape(shape);
+        }
+    }
+
+    static final class DrawShape extends Operation {
+        private final @NotNull Shape shape;
+
+        DrawShape(@NotNull AffineTransform transform, @NotNull State state, @NotNull Shape shape) {
+            super(transform, state);
+            this.shape = shape;
+        }
+
+        @Override
+        void paint(@NotNull Graphics2D g) {
+            g.draw(shape);
+        }
+
+        @Override
+        void paint(@NotNull Output output) {
+            output.drawShape(shape);
+        }
+    }
+
+    static final class DrawBufferedImage extends Operation {
+        private final @NotNull BufferedImage image;
+
+        DrawBufferedImage(@NotNull AffineTransform transform, @NotNull State state, @NotNull BufferedImage image) {
+            super(transform, state);
+            this.image = image;
+        }
+
+        @Override
+        void paint(@NotNull Graphics2D g) {
+            g.drawImage(image, 0, 0, image.getWidth(), image.getHeight(), null, null);
+        }
+
+        @Override
+        void paint(@NotNull Output output) {
+            output.drawImage(image);
+        }
+    }
+
+    static final class DrawImage extends Operation {
+        private final @NotNull Image image;
+        private final @Nullable AffineTransform imageTransform;
+        private final @Nullable ImageObserver observer;
+
+        DrawImage(@NotNull AffineTransform transform, @NotNull State state, @NotNull Image image,
+                @Nullable AffineTransform imageTransform, @Nullable ImageObserver observer) {
+            super(transform, state);
+            this.image = image;
+            this.imageTransform = imageTransform;
+            this.observer = observer;
+        }
+
+        @Override
+        void paint(@NotNull Graphics2D g) {
+            if (imageTransform != null) {
+                g.drawImage(image, imageTransform, observer);
+            } else {
+                g.drawImage(image, 0, 0, observer);
+            }
+        }
+
+        @Override
+        void paint(@NotNull Output output) {
+            if (imageTransform != null) {
+                output.drawImage(image, imageTransform, observer);
+            } else {
+                output.drawImage(image, observer);
+            }
+        }
+    }
+}
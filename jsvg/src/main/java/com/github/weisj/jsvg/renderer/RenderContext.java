@@ -43,6 +43,7 @@ import com.github.weisj.jsvg.renderer.awt.PlatformSupport;
 public final class RenderContext {
 
     private final @NotNull PlatformSupport awtSupport;
+    private final @NotNull RenderState renderState;
     private final @NotNull MeasureContext measureContext;
     private final @NotNull PaintContext paintContext;
 
@@ -58,7 +59,12 @@ public final class RenderContext {
 
     public static @NotNull RenderContext createInitial(@NotNull PlatformSupport awtSupport,
             @NotNull MeasureContext measureContext) {
-        return new RenderContext(awtSupport,
+        return createInitial(awtSupport, measureContext, new RenderState());
+    }
+
+    public static @NotNull RenderContext createInitial(@NotNull PlatformSupport awtSupport,
+            @NotNull MeasureContext measureContext, @NotNull RenderState renderState) {
+        return new RenderContext(awtSupport, renderState,
                 new AffineTransform(),
                 new AffineTransform(),
                 PaintContext.createDefault(),
@@ -69,6 +75,7 @@ public final class RenderContext {
     }
 
     RenderContext(@NotNull PlatformSupport platformSupport,
+            @NotNull RenderState renderState,
             @NotNull AffineTransform rootTransform,
             @NotNull AffineTransform userSpaceTransform,
             @NotNull PaintContext paintContext,
@@ -77,6 +84,7 @@ public final class RenderContext {
             @NotNull MeasurableFontSpec fontSpec,
             @Nullable ContextElementAttributes contextElementAttributes) {
         this.awtSupport = platformSupport;
+        this.renderState = renderState;
         this.rootTransform = rootTransform;
         this.userSpaceTransform = userSpaceTransform;
         this.paintContext = paintContext;
@@ -130,7 +138,7 @@ public final class RenderContext {
         FontRenderContext effectiveFrc = fontRenderContext.derive(frc);
         AffineTransform newRootTransform = rootTransform != null ? rootTransform : this.rootTransform;
 
-        return new RenderContext(awtSupport, newRootTransform, new AffineTransform(userSpaceTransform),
+        return new RenderContext(awtSupport, renderState, newRootTransform, new AffineTransform(userSpaceTransform),
                 newPaintContext, newMeasureContext, effectiveFrc, newFontSpec, newContextAttributes);
     }
 
@@ -156,6 +164,11 @@ public final class RenderContext {
         return contextElementAttributes;
     }
 
+    @NotNull
+    MeasurableFontSpec fontSpec() {
+        return fontSpec;
+    }
+
     public @NotNull AffineTransform rootTransform() {
         return rootTransform;
     }
@@ -203,6 +216,10 @@ public final class RenderContext {
         return awtSupport;
     }
 
+    public @NotNull RenderState renderState() {
+        return renderState;
+    }
+
     public @NotNull MeasureContext measureContext() {
         return measureContext;
     }
@@ -216,6 +233,14 @@ public final class RenderContext {
         return fillRule != null ? fillRule : FillRule.Nonzero;
     }
 
+    /**
+     * @return the value of {@code currentColor}.
+     */
+    @NotNull
+    SVGPaint color() {
+        return coerceNonNull(paintContext.color);
+    }
+
     public @NotNull SVGPaint strokePaint() {
         return resolvePaint(paintContext.strokePaint);
     }
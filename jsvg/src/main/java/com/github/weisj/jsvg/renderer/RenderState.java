@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scratch storage which is local to a single render pass of a document.
+ * <p>
+ * Nodes are immutable once the document has been built. Any state which has to be carried between
+ * the different phases of rendering a node (e.g. laying out and painting text) is stored here,
+ * keyed by the object owning it. All {@link RenderContext}s derived during a render pass share the
+ * same instance.
+ * <p>
+ * Instances are not thread-safe and must only be accessed by the thread performing the render pass.
+ */
+public final class RenderState {
+    private final @NotNull Map<Object, Object> entries = new IdentityHashMap<>();
+
+    public <T> @Nullable T get(@NotNull Object owner, @NotNull Class<T> type) {
+        return type.cast(entries.get(owner));
+    }
+
+    public void put(@NotNull Object owner, @NotNull Object value) {
+        entries.put(owner, value);
+    }
+
+    public <T> @Nullable T remove(@NotNull Object owner, @NotNull Class<T> type) {
+        return type.cast(entries.remove(owner));
+    }
+
+    @Override
+    public String toString() {
+        return "RenderState{" +
+                "entries=" + entries.size() +
+                '}';
+    }
+}
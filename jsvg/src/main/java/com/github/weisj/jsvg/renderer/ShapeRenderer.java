@@ -23,6 +23,8 @@ package com.github.weisj.jsvg.renderer;
 
 import java.awt.*;
 import java.awt.geom.*;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
@@ -172,6 +174,12 @@ public final class ShapeRenderer {
     private static void renderMarkersImpl(@NotNull Output output, @NotNull RenderContext context,
             @NotNull PathIterator iterator, @NotNull ShapeMarkerInfo markerInfo) {
         float[] args = new float[6];
+        // Markers are only instanced if we actually paint colors. Shape and bounds computations are
+        // cheap enough to not warrant recording the marker content. Masked outputs influence how
+        // shapes are painted, which can't be captured by the recording.
+        MarkerInstances instances = output.supportsColors() && !output.hasMaskedPaint() && !DEBUG_MARKERS
+                ? new MarkerInstances()
+                : null;
 
         float x = 0;
         float y = 0;
@@ -219,7 +227,8 @@ public final class ShapeRenderer {
                         nextMarkerType = MarkerOrientation.MarkerType.START;
                     }
                     if (markerToPaint != null) {
-                        paintSingleMarker(markerInfo.node, context, output, markerToPaintType, markerToPaint,
+                        paintSingleMarker(markerInfo.node, context, output, instances, markerToPaintType,
+                                markerToPaint,
                                 xPaint, yPaint, 0, 0, dx, dy);
                         if (onlyFirst) return;
                     }
@@ -262,26 +271,44 @@ public final class ShapeRenderer {
                     throw new IllegalStateException();
             }
 
-            paintSingleMarker(markerInfo.node, context, output, markerToPaintType, markerToPaint,
+            paintSingleMarker(markerInfo.node, context, output, instances, markerToPaintType, markerToPaint,
                     xPaint, yPaint, dx, dy, dxOut, dyOut);
             if (onlyFirst) return;
 
             markerToPaint = nextMarker;
             markerToPaintType = nextMarkerType;
         }
-        paintSingleMarker(markerInfo.node, context, output, markerToPaintType, markerToPaint,
+        paintSingleMarker(markerInfo.node, context, output, instances, markerToPaintType, markerToPaint,
                 x, y, dxIn, dyIn, 0, 0);
     }
 
     public static void paintSingleMarker(@NotNull ShapeNode shapeNode, @NotNull RenderContext context,
             @NotNull Output output, @Nullable MarkerOrientation.MarkerType type, @Nullable Marker marker,
             float x, float y, float dxIn, float dyIn, float dxOut, float dyOut) {
+        paintSingleMarker(shapeNode, context, output, null, type, marker, x, y, dxIn, dyIn, dxOut, dyOut);
+    }
+
+    private static void paintSingleMarker(@NotNull ShapeNode shapeNode, @NotNull RenderContext context,
+            @NotNull Output output, @Nullable MarkerInstances instances,
+            @Nullable MarkerOrientation.MarkerType type, @Nullable Marker marker,
+            float x, float y, float dxIn, float dyIn, float dxOut, float dyOut) {
         if (marker == null) return;
         assert type != null;
 
         MarkerOrientation orientation = marker.orientation();
         float rotation = orientation.orientationFor(type, dxIn, dyIn, dxOut, dyOut);
 
+        if (instances != null) {
+            AffineTransform markerTransform = output.transform();
+            markerTransform.translate(x, y);
+            markerTransform.rotate(rotation);
+            if (instances.paint(marker, output, markerTransform)) return;
+            if (!instances.contains(marker)) {
+                instances.record(shapeNode, context, output, marker, x, y, rotation);
+                if (instances.paint(marker, output, markerTransform)) return;
+            }
+        }
+
         Output markerOutput = output.createChild();
         RenderContext markerContext = context.deriveForChildGraphics();
 
@@ -297,6 +324,62 @@ public final class ShapeRenderer {
         markerOutput.dispose();
     }
 
+    /**
+     * Instances of the markers of a single shape. All markers of a shape share the same context
+     * i.e. stroke width, context paints and device scale, hence the content of a marker only
+     * needs to be resolved once. It is recorded into a display list, which is then replayed at
+     * every vertex with only the transform changed.
+     */
+    private static final class MarkerInstances {
+        private final @NotNull Map<Marker, MarkerInstance> instances = new IdentityHashMap<>(3);
+
+        boolean contains(@NotNull Marker marker) {
+            return instances.containsKey(marker);
+        }
+
+        void record(@NotNull ShapeNode shapeNode, @NotNull RenderContext context, @NotNull Output output,
+                @NotNull Marker marker, float x, float y, float rotation) {
+            DisplayListOutput recorder = new DisplayListOutput(output.renderingHints());
+            recorder.setTransform(output.transform());
+            RenderContext markerContext = context.deriveForChildGraphics();
+            markerContext.translate(recorder, x, y);
+            markerContext.rotate(recorder, rotation);
+            AffineTransform recordingTransform = recorder.transform();
+
+            NodeRenderer.renderNode(marker, markerContext, recorder, shapeNode);
+
+            RecordedDrawing drawing = recorder.toRecordedDrawing();
+            MarkerInstance instance = null;
+            // Rasterized content can't be moved around freely. Such markers are rendered as usual.
+            if (!drawing.isDeviceDependent()) {
+                try {
+                    instance = new MarkerInstance(drawing, recordingTransform.createInverse());
+                } catch (NoninvertibleTransformException ignored) {
+                    // Handled below
+                }
+            }
+            instances.put(marker, instance);
+        }
+
+        boolean paint(@NotNull Marker marker, @NotNull Output output, @NotNull AffineTransform markerTransform) {
+            MarkerInstance instance = instances.get(marker);
+            if (instance == null) return false;
+            markerTransform.concatenate(instance.inverseRecordingTransform);
+            instance.drawing.paint(output, markerTransform);
+            return true;
+        }
+    }
+
+    private static final class MarkerInstance {
+        private final @NotNull RecordedDrawing drawing;
+        private final @NotNull AffineTransform inverseRecordingTransform;
+
+        private MarkerInstance(@NotNull RecordedDrawing drawing, @NotNull AffineTransform inverseRecordingTransform) {
+            this.drawing = drawing;
+            this.inverseRecordingTransform = inverseRecordingTransform;
+        }
+    }
+
     private static void paintDebugMarker(@NotNull RenderContext context, @NotNull Graphics2D g,
             @NotNull Marker marker, float rotation) {
         FloatSize size = marker.size(context);
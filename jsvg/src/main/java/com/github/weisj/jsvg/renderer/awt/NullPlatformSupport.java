@@ -21,10 +21,16 @@
  */
 package com.github.weisj.jsvg.renderer.awt;
 
+import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.awt.image.ImageObserver;
+import java.awt.image.ImageProducer;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import com.github.weisj.jsvg.util.ImageUtil;
+
 public final class NullPlatformSupport implements PlatformSupport {
     public static final NullPlatformSupport INSTANCE = new NullPlatformSupport(true);
 
@@ -45,4 +51,12 @@ public final class NullPlatformSupport implements PlatformSupport {
     public @Nullable TargetSurface targetSurface() {
         return null;
     }
+
+    @Override
+    public @NotNull Image createImage(@NotNull ImageProducer imageProducer) {
+        // Avoid initializing the toolkit, which may not be available in headless environments.
+        BufferedImage img = ImageUtil.materialize(imageProducer, ImageUtil.Premultiplied.No);
+        if (img != null) return img;
+        return PlatformSupport.super.createImage(imageProducer);
+    }
 }
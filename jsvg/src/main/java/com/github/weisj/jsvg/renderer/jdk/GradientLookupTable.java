@@ -0,0 +1,449 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.jdk;
+
+import java.awt.*;
+import java.awt.image.ColorModel;
+import java.awt.image.DirectColorModel;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.util.ColorUtil;
+
+/*
+ * Copyright (c) 2006, 2018, Oracle and/or its affiliates. All rights reserved. DO NOT ALTER OR
+ * REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License version 2 only, as published by the Free Software Foundation. Oracle
+ * designates this particular file as subject to the "Classpath" exception as provided by Oracle in
+ * the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version 2 along with this work;
+ * if not, write to the Free Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA or visit www.oracle.com
+ * if you need additional information or have any questions.
+ */
+
+/**
+ * The interpolated colors of a multiple color gradient. The table only depends on the gradient
+ * stops and the color space used for interpolation, hence it can be computed once e.g. per gradient
+ * element and be shared by all paints and paint contexts created for the gradient.
+ * <p>
+ * Instances are immutable and thus may be shared between threads.
+ */
+@ApiStatus.Internal
+public final class GradientLookupTable {
+
+    private static final float MIN_INTERVAL_LENGTH = 0.001f;
+
+    /**
+     * Color model used if gradient colors are all opaque.
+     */
+    private static final ColorModel XRGB_MODEL =
+            new DirectColorModel(24, 0x00ff0000, 0x0000ff00, 0x000000ff);
+
+    /**
+     * Constant number of max colors between any 2 arbitrary colors.
+     * Used for creating and indexing gradients arrays.
+     */
+    static final int GRADIENT_SIZE = 256;
+    static final int GRADIENT_SIZE_INDEX = GRADIENT_SIZE - 1;
+
+    /**
+     * Maximum length of the fast single-array.  If the estimated array size
+     * is greater than this, switch over to the slow lookup method.
+     * No particular reason for choosing this number, but it seems to provide
+     * satisfactory performance for the common case (fast lookup).
+     */
+    private static final int MAX_GRADIENT_ARRAY_SIZE = 5000;
+
+    private final float @NotNull [] fractions;
+    private final @NotNull Color @NotNull [] colors;
+    private final @NotNull MultipleGradientPaint.ColorSpaceType colorSpace;
+
+    /**
+     * The color model of the interpolated colors.  This is ARGB if colors are
+     * not all opaque, otherwise it is RGB.
+     */
+    final @NotNull ColorModel model;
+
+    /**
+     * Normalized intervals array.
+     */
+    final float @NotNull [] normalizedIntervals;
+
+    /**
+     * Whether the table uses the simple lookup mode, where an input value
+     * between 0 and 1 may be used to directly index into {@link #gradient}.
+     * Otherwise, {@link #gradients} has to be used.
+     */
+    final boolean isSimpleLookup;
+
+    /**
+     * Array which contains the interpolated color values for each interval
+     * if {@link #isSimpleLookup} is true.
+     */
+    final int[] gradient;
+
+    /**
+     * Size of gradients array for scaling the 0-1 index when looking up
+     * colors the fast way.
+     */
+    final int fastGradientArraySize;
+
+    /**
+     * Array of gradient arrays, one array for each interval, if
+     * {@link #isSimpleLookup} is false.
+     */
+    final int[][] gradients;
+
+    private GradientLookupTable(float @NotNull [] fractions, @NotNull Color @NotNull [] colors,
+            @NotNull MultipleGradientPaint.ColorSpaceType colorSpace) {
+        this.fractions = fractions;
+        this.colors = colors;
+        this.colorSpace = colorSpace;
+
+        Calculation calculation = new Calculation(fractions, colorSpace);
+        calculation.calculateLookupData(colors);
+
+        this.model = calculation.model;
+        this.normalizedIntervals = calculation.normalizedIntervals;
+        this.isSimpleLookup = calculation.isSimpleLookup;
+        // Only one of the lookup arrays is needed.
+        this.gradient = isSimpleLookup ? calculation.gradient : null;
+        this.gradients = isSimpleLookup ? null : calculation.gradients;
+        this.fastGradientArraySize = calculation.fastGradientArraySize;
+    }
+
+    /**
+     * Computes the lookup table of a gradient. The arrays are referenced by the table and must not
+     * be modified afterward.
+     *
+     * @param fractions numbers ranging from 0.0 to 1.0 specifying the
+     *                  distribution of colors along the gradient
+     * @param colors array of colors corresponding to each fractional value
+     * @param colorSpace which color space to use for interpolation
+     * @return the lookup table.
+     */
+    public static @NotNull GradientLookupTable create(float @NotNull [] fractions,
+            @NotNull Color @NotNull [] colors, @NotNull MultipleGradientPaint.ColorSpaceType colorSpace) {
+        if (fractions.length != colors.length) {
+            throw new IllegalArgumentException("Colors and fractions must have equal size");
+        }
+        if (colors.length < 2) {
+            throw new IllegalArgumentException("User must specify at least 2 colors");
+        }
+        return new GradientLookupTable(fractions, colors, colorSpace);
+    }
+
+    /**
+     * Checks whether this table has been computed for the given gradient.
+     *
+     * @param fractions the fractions of the gradient.
+     * @param colors the colors of the gradient.
+     * @param colorSpace the color space used for interpolation.
+     * @return true if the table can be used to paint the gradient.
+     */
+    public boolean isFor(float @NotNull [] fractions, @NotNull Color @NotNull [] colors,
+            @NotNull MultipleGradientPaint.ColorSpaceType colorSpace) {
+        if (this.colorSpace != colorSpace) return false;
+        if (this.fractions == fractions && this.colors == colors) return true;
+        return Arrays.equals(this.fractions, fractions) && Arrays.equals(this.colors, colors);
+    }
+
+    float @NotNull [] fractions() {
+        return fractions;
+    }
+
+    /**
+     * Computes the interpolated colors. The results are copied to the final fields of the table
+     * once the calculation is complete.
+     */
+    private static final class Calculation {
+        private final float @NotNull [] fractions;
+        private final @NotNull MultipleGradientPaint.ColorSpaceType colorSpace;
+
+        private ColorModel model;
+        private float[] normalizedIntervals;
+        private boolean isSimpleLookup;
+        private int[] gradient;
+        private int[][] gradients;
+        private int fastGradientArraySize;
+
+        /**
+         * Used to determine if gradient colors are all opaque.
+         */
+        private int transparencyTest;
+
+        private Calculation(float @NotNull [] fractions, @NotNull MultipleGradientPaint.ColorSpaceType colorSpace) {
+            this.fractions = fractions;
+            this.colorSpace = colorSpace;
+        }
+
+        /**
+         * This function is the meat of this class.  It calculates an array of
+         * gradient colors based on an array of fractions and color values at
+         * those fractions.
+         */
+        private void calculateLookupData(Color[] colors) {
+            Color[] normalizedColors;
+            if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
+                // create a new colors array
+                normalizedColors = new Color[colors.length];
+                // convert the colors using the lookup table
+                for (int i = 0; i < colors.length; i++) {
+                    int argb = colors[i].getRGB();
+                    normalizedColors[i] = new Color(ColorUtil.sRGBtoLinearRGB(argb), true);
+                }
+            } else {
+                // we can just use this array by reference since we do not
+                // modify its values in the case of SRGB
+                normalizedColors = colors;
+            }
+
+            // this will store the intervals (distances) between gradient stops
+            normalizedIntervals = new float[fractions.length - 1];
+
+            // convert from fractions into intervals
+            for (int i = 0; i < normalizedIntervals.length; i++) {
+                // interval distance is equal to the difference in positions
+                normalizedIntervals[i] = this.fractions[i + 1] - this.fractions[i];
+            }
+
+            // initialize to be fully opaque for ANDing with colors
+            transparencyTest = 0xff000000;
+
+            // array of interpolation arrays
+            gradients = new int[normalizedIntervals.length][];
+
+            // find smallest interval
+            float Imin = 1;
+            for (float interval : normalizedIntervals) {
+                if (interval > MIN_INTERVAL_LENGTH) {
+                    Imin = Math.min(Imin, interval);
+                }
+            }
+
+            // Estimate the size of the entire gradients array.
+            // This is to prevent a tiny interval from causing the size of array
+            // to explode. If the estimated size is too large, break to using
+            // separate arrays for each interval, and using an indexing scheme at
+            // look-up time.
+            int estimatedSize = 0;
+            for (float normalizedInterval : normalizedIntervals) {
+                estimatedSize += (int) ((normalizedInterval / Imin) * GRADIENT_SIZE);
+            }
+
+            if (estimatedSize > MAX_GRADIENT_ARRAY_SIZE) {
+                // slow method
+                calculateMultipleArrayGradient(normalizedColors);
+            } else {
+                // fast method
+                calculateSingleArrayGradient(normalizedColors, Imin);
+            }
+
+            // use the most "economical" model
+            if ((transparencyTest >>> 24) == 0xff) {
+                model = XRGB_MODEL;
+            } else {
+                model = ColorModel.getRGBdefault();
+            }
+        }
+
+        /**
+         * FAST LOOKUP METHOD
+         * <p>
+         * This method calculates the gradient color values and places them in a
+         * single int array, gradient[].  It does this by allocating space for
+         * each interval based on its size relative to the smallest interval in
+         * the array.  The smallest interval is allocated 255 interpolated values
+         * (the maximum number of unique in-between colors in a 24 bit color
+         * system), and all other intervals are allocated
+         * size = (255 * the ratio of their size to the smallest interval).
+         * <p>
+         * This scheme expedites a speedy retrieval because the colors are
+         * distributed along the array according to their user-specified
+         * distribution.  All that is needed is a relative index from 0 to 1.
+         * <p>
+         * The only problem with this method is that the possibility exists for
+         * the array size to balloon in the case where there is a
+         * disproportionately small gradient interval.  In this case the other
+         * intervals will be allocated huge space, but much of that data is
+         * redundant.  We thus need to use the space conserving scheme below.
+         *
+         * @param Imin the size of the smallest interval
+         */
+        private void calculateSingleArrayGradient(Color[] colors, float Imin) {
+            // set the flag, so we know later it is a simple (fast) lookup
+            isSimpleLookup = true;
+
+            // 2 colors to interpolate
+            int rgb1, rgb2;
+
+            // the eventual size of the single array
+            int gradientsTot = 1;
+
+            // for every interval (transition between 2 colors)
+            for (int i = 0; i < gradients.length; i++) {
+                // create an array whose size is based on the ratio to the
+                // smallest interval
+                int nGradients = (int) ((normalizedIntervals[i] / Imin) * 255f);
+                gradientsTot += nGradients;
+                gradients[i] = new int[nGradients];
+
+                // the 2 colors (keyframes) to interpolate between
+                rgb1 = colors[i].getRGB();
+                rgb2 = colors[i + 1].getRGB();
+
+                // fill this array with the colors in between rgb1 and rgb2
+                interpolate(rgb1, rgb2, gradients[i]);
+
+                // if the colors are opaque, transparency should still
+                // be 0xff000000
+                transparencyTest &= rgb1;
+                transparencyTest &= rgb2;
+            }
+
+            // put all gradients in a single array
+            gradient = new int[gradientsTot];
+            int curOffset = 0;
+            for (int[] ints : gradients) {
+                System.arraycopy(ints, 0, gradient, curOffset, ints.length);
+                curOffset += ints.length;
+            }
+            gradient[gradient.length - 1] = colors[colors.length - 1].getRGB();
+
+            // if interpolation occurred in Linear RGB space, convert the
+            // gradients back to sRGB using the lookup table
+            if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
+                for (int i = 0; i < gradient.length; i++) {
+                    gradient[i] = ColorUtil.linearRGBtoSRGB(gradient[i]);
+                }
+            }
+
+            fastGradientArraySize = gradient.length - 1;
+        }
+
+        /**
+         * SLOW LOOKUP METHOD
+         * <p>
+         * This method calculates the gradient color values for each interval and
+         * places each into its own 255 size array.  The arrays are stored in
+         * gradients[][].  (255 is used because this is the maximum number of
+         * unique colors between 2 arbitrary colors in a 24 bit color system.)
+         * <p>
+         * This method uses the minimum amount of space (only 255 * number of
+         * intervals), but it aggravates the lookup procedure, because now we
+         * have to find out which interval to select, then calculate the index
+         * within that interval.  This causes a significant performance hit,
+         * because it requires this calculation be done for every point in
+         * the rendering loop.
+         * <p>
+         * For those of you who are interested, this is a classic example of the
+         * time-space tradeoff.
+         */
+        private void calculateMultipleArrayGradient(Color[] colors) {
+            // set the flag, so we know later it is a non-simple lookup
+            isSimpleLookup = false;
+
+            // 2 colors to interpolate
+            int rgb1, rgb2;
+
+            // for every interval (transition between 2 colors)
+            for (int i = 0; i < gradients.length; i++) {
+                // create an array of the maximum theoretical size for
+                // each interval
+                gradients[i] = new int[GRADIENT_SIZE];
+
+                // get the 2 colors
+                rgb1 = colors[i].getRGB();
+                rgb2 = colors[i + 1].getRGB();
+
+                // fill this array with the colors in between rgb1 and rgb2
+                interpolate(rgb1, rgb2, gradients[i]);
+
+                // if the colors are opaque, transparency should still
+                // be 0xff000000
+                transparencyTest &= rgb1;
+                transparencyTest &= rgb2;
+            }
+
+            // if interpolation occurred in Linear RGB space, convert the
+            // gradients back to SRGB using the lookup table
+            if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
+                for (int j = 0; j < gradients.length; j++) {
+                    for (int i = 0; i < gradients[j].length; i++) {
+                        gradients[j][i] = ColorUtil.linearRGBtoSRGB(gradients[j][i]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Yet another helper function.  This one linearly interpolates between
+         * 2 colors, filling up the output array.
+         *
+         * @param rgb1   the start color
+         * @param rgb2   the end color
+         * @param output the output array of colors; must not be null
+         */
+        private void interpolate(int rgb1, int rgb2, int[] output) {
+            // color components
+            int a1, r1, g1, b1, da, dr, dg, db;
+
+            // step between interpolated values
+            float stepSize = 1.0f / output.length;
+
+            // extract color components from packed integer
+            a1 = (rgb1 >> 24) & 0xff;
+            r1 = (rgb1 >> 16) & 0xff;
+            g1 = (rgb1 >> 8) & 0xff;
+            b1 = rgb1 & 0xff;
+
+            // calculate the total change in alpha, red, green, blue
+            da = ((rgb2 >> 24) & 0xff) - a1;
+            dr = ((rgb2 >> 16) & 0xff) - r1;
+            dg = ((rgb2 >> 8) & 0xff) - g1;
+            db = (rgb2 & 0xff) - b1;
+
+            // for each step in the interval calculate the in-between color by
+            // multiplying the normalized current position by the total color
+            // change (0.5 is added to prevent truncation round-off error)
+            for (int i = 0; i < output.length; i++) {
+                output[i] = ((int) ((a1 + i * da * stepSize) + 0.5) << 24) |
+                        ((int) ((r1 + i * dr * stepSize) + 0.5) << 16) |
+                        ((int) ((g1 + i * dg * stepSize) + 0.5) << 8) |
+                        ((int) ((b1 + i * db * stepSize) + 0.5));
+            }
+        }
+    }
+}
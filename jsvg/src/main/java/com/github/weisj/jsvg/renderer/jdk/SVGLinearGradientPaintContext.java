@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.jdk;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Copyright (c) 2006, 2017, Oracle and/or its affiliates. All rights reserved. DO NOT ALTER OR
+ * REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it under the terms of the GNU
+ * General Public License version 2 only, as published by the Free Software Foundation. Oracle
+ * designates this particular file as subject to the "Classpath" exception as provided by Oracle in
+ * the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version 2 along with this work;
+ * if not, write to the Free Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA or visit www.oracle.com
+ * if you need additional information or have any questions.
+ */
+
+/**
+ * Provides the actual implementation for the LinearGradientPaint.
+ * This is where the pixel processing is done.
+ *
+ * @see java.awt.LinearGradientPaint
+ * @see java.awt.PaintContext
+ * @see java.awt.Paint
+ * @author Nicholas Talian, Vincent Hardy, Jim Graham, Jerry Evans
+ */
+final class SVGLinearGradientPaintContext extends SVGMultipleGradientPaintContext {
+
+    /**
+     * The following invariants are used to process the gradient value from
+     * a device space coordinate, (X, Y):
+     * <pre>
+     *     g(X, Y) = dgdX*X + dgdY*Y + gc
+     * </pre>
+     */
+    private final float dgdX;
+    private final float dgdY;
+    private final float gc;
+
+    /**
+     * Constructor for LinearGradientPaintContext.
+     *
+     * @param paint the {@code LinearGradientPaint} from which this context
+     *              is created
+     * @param t the {@code AffineTransform} from user
+     *          space into device space (gradientTransform should be
+     *          concatenated with this)
+     * @param startx the X coordinate of the gradient axis start point in user space
+     * @param starty the Y coordinate of the gradient axis start point in user space
+     * @param endx the X coordinate of the gradient axis end point in user space
+     * @param endy the Y coordinate of the gradient axis end point in user space
+     * @param cycleMethod either NO_CYCLE, REFLECT, or REPEAT
+     */
+    SVGLinearGradientPaintContext(@NotNull SVGLinearGradientPaint paint, @NotNull AffineTransform t,
+            float startx, float starty, float endx, float endy,
+            MultipleGradientPaint.CycleMethod cycleMethod) {
+        super(paint, t, cycleMethod);
+
+        // A given point in the raster should take on the same color as its
+        // projection onto the gradient vector.
+        // Thus, we want the projection of the current position vector
+        // onto the gradient vector, then normalized with respect to the
+        // length of the gradient vector, giving a value which can be mapped
+        // into the range 0-1.
+        // projection =
+        // currentVector dot gradientVector / length(gradientVector)
+        // normalized = projection / length(gradientVector)
+
+        float dx = endx - startx; // change in x from start to end
+        float dy = endy - starty; // change in y from start to end
+        float dSq = dx * dx + dy * dy; // total distance squared
+
+        // avoid repeated calculations by doing these divides once
+        float constX = dx / dSq;
+        float constY = dy / dSq;
+
+        // incremental change along gradient for +x
+        dgdX = a00 * constX + a10 * constY;
+        // incremental change along gradient for +y
+        dgdY = a01 * constX + a11 * constY;
+
+        // constant, incorporates the translation components from the matrix
+        gc = (a02 - startx) * constX + (a12 - starty) * constY;
+    }
+
+    /**
+     * Return a Raster containing the colors generated for the graphics
+     * operation.  This is where the area is filled with colors distributed
+     * linearly.
+     *
+     * @param x,y,w,h the area in device space for which colors are
+     * generated.
+     */
+    @Override
+    protected void fillRaster(int[] pixels, int off, int adjust, int x, int y, int w, int h) {
+        // current value for row gradients
+        float g;
+
+        // used to end iteration on rows
+        int rowLimit = off + w;
+
+        // constant which can be pulled out of the inner loop
+        float initConst = (dgdX * x) + gc;
+
+        for (int i = 0; i < h; i++) { // for every row
+
+            // initialize current value to be start
+            g = initConst + dgdY * (y + i);
+
+            while (off < rowLimit) { // for every pixel in this row
+                // get the color
+                pixels[off++] = indexIntoGradientsArrays(g);
+
+                // incremental change in g
+                g += dgdX;
+            }
+
+            // change in off from row to row
+            off += adjust;
+
+            // rowlimit is width + offset
+            rowLimit = off + w;
+        }
+    }
+}
@@ -23,10 +23,9 @@ package com.github.weisj.jsvg.renderer.jdk;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
-import java.awt.image.ColorModel;
-import java.lang.ref.SoftReference;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /*
  * Copyright (c) 2006, 2011, Oracle and/or its affiliates. All rights reserved. DO NOT ALTER OR
@@ -80,16 +79,10 @@ public abstract class SVGMultipleGradientPaint implements Paint {
     final @NotNull MultipleGradientPaint.ColorSpaceType colorSpace;
 
     /**
-     * The following fields are used only by MultipleGradientPaintContext
-     * to cache certain values that remain constant and do not need to be
-     * recalculated for each context created from this paint instance.
+     * The interpolated colors shared by all contexts created from this paint instance. Computed
+     * lazily if not provided when the paint is created.
      */
-    ColorModel model;
-    float[] normalizedIntervals;
-    boolean isSimpleLookup;
-    SoftReference<int[][]> gradients;
-    SoftReference<int[]> gradient;
-    int fastGradientArraySize;
+    private volatile @Nullable GradientLookupTable lookupTable;
 
     /**
      * Package-private constructor.
@@ -102,6 +95,8 @@ public abstract class SVGMultipleGradientPaint implements Paint {
      * @param colorSpace which color space to use for interpolation,
      *                   either {@code SRGB} or {@code LINEAR_RGB}
      * @param gradientTransform transform to apply to the gradient
+     * @param lookupTable the precomputed lookup table of the gradient or null
+     *                    if it should be computed when needed
      *
      * @throws NullPointerException
      * if {@code fractions} array is null,
@@ -113,13 +108,15 @@ public abstract class SVGMultipleGradientPaint implements Paint {
      * if {@code fractions.length != colors.length},
      * or {@code colors} is less than 2 in size,
      * or a {@code fractions} value is less than 0.0 or greater than 1.0,
-     * or the {@code fractions} are not provided in strictly increasing order
+     * or the {@code fractions} are not provided in strictly increasing order,
+     * or {@code lookupTable} wasn't computed for the given gradient
      */
     SVGMultipleGradientPaint(float @NotNull [] fractions,
             @NotNull Color @NotNull [] colors,
             @NotNull MultipleGradientPaint.CycleMethod cycleMethod,
             @NotNull MultipleGradientPaint.ColorSpaceType colorSpace,
-            @NotNull AffineTransform gradientTransform) {
+            @NotNull AffineTransform gradientTransform,
+            @Nullable GradientLookupTable lookupTable) {
         if (fractions.length != colors.length) {
             throw new IllegalArgumentException("Colors and fractions must have equal size");
         }
@@ -167,6 +164,22 @@ public abstract class SVGMultipleGradientPaint implements Paint {
             opaque = opaque && (color.getAlpha() == 0xff);
         }
         this.transparency = opaque ? OPAQUE : TRANSLUCENT;
+
+        if (lookupTable != null && !lookupTable.isFor(fractions, colors, colorSpace)) {
+            throw new IllegalArgumentException("Lookup table doesn't match the gradient");
+        }
+        this.lookupTable = lookupTable;
+    }
+
+    @NotNull
+    GradientLookupTable lookupTable() {
+        GradientLookupTable table = lookupTable;
+        if (table == null) {
+            // Computing the table is idempotent, hence it is fine if it is computed more than once.
+            table = GradientLookupTable.create(fractions, colors, colorSpace);
+            lookupTable = table;
+        }
+        return table;
     }
 
     @Override
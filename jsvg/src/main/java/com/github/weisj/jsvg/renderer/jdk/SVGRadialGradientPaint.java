@@ -28,6 +28,7 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.ColorModel;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /*
  * Copyright (c) 2006, 2017, Oracle and/or its affiliates. All rights reserved. DO NOT ALTER OR
@@ -218,7 +219,23 @@ public final class SVGRadialGradientPaint extends SVGMultipleGradientPaint {
             float[] fractions, Color[] colors,
             MultipleGradientPaint.CycleMethod cycleMethod, MultipleGradientPaint.ColorSpaceType colorSpace,
             @NotNull AffineTransform gradientTransform) {
-        super(fractions, colors, cycleMethod, colorSpace, gradientTransform);
+        this(center, radius, focus, focusRadius, fractions, colors, cycleMethod, colorSpace, gradientTransform,
+                null);
+    }
+
+    /**
+     * Constructs a {@code RadialGradientPaint} which uses a precomputed lookup table for the
+     * gradient colors. The other parameters are the same as for the constructor without a
+     * lookup table.
+     *
+     * @param lookupTable the lookup table computed for the {@code fractions}, {@code colors} and
+     *                    {@code colorSpace} or null if it should be computed when needed
+     */
+    public SVGRadialGradientPaint(@NotNull Point2D center, float radius, @NotNull Point2D focus, float focusRadius,
+            float[] fractions, Color[] colors,
+            MultipleGradientPaint.CycleMethod cycleMethod, MultipleGradientPaint.ColorSpaceType colorSpace,
+            @NotNull AffineTransform gradientTransform, @Nullable GradientLookupTable lookupTable) {
+        super(fractions, colors, cycleMethod, colorSpace, gradientTransform, lookupTable);
 
         if (radius <= 0) {
             throw new IllegalArgumentException("Radius must be greater than zero");
@@ -249,6 +266,6 @@ public final class SVGRadialGradientPaint extends SVGMultipleGradientPaint {
         return new SVGRadialGradientPaintContext(this, transform,
                 (float) center.getX(), (float) center.getY(), radius,
                 (float) focus.getX(), (float) focus.getY(), focusRadius,
-                fractions, colors, cycleMethod, colorSpace);
+                cycleMethod);
     }
 }
@@ -112,18 +112,13 @@ final class SVGRadialGradientPaintContext extends SVGMultipleGradientPaintContex
      *           is mapped
      * @param fy the Y coordinate in user space to which the first color
      *           is mapped
-     * @param fractions the fractions specifying the gradient distribution
-     * @param colors the gradient colors
      * @param cycleMethod either NO_CYCLE, REFLECT, or REPEAT
-     * @param colorSpace which colorspace to use for interpolation,
-     *                   either SRGB or LINEAR_RGB
      */
     SVGRadialGradientPaintContext(@NotNull SVGRadialGradientPaint paint, @NotNull AffineTransform t,
             float cx, float cy, float r,
             float fx, float fy, float fr,
-            float @NotNull [] fractions, @NotNull Color @NotNull [] colors,
-            MultipleGradientPaint.CycleMethod cycleMethod, MultipleGradientPaint.ColorSpaceType colorSpace) {
-        super(paint, t, fractions, colors, cycleMethod, colorSpace);
+            MultipleGradientPaint.CycleMethod cycleMethod) {
+        super(paint, t, cycleMethod);
 
         // copy some parameters
         centerX = cx;
@@ -68,7 +68,7 @@ public final class BlittableImage {
             @NotNull RenderContext context, @Nullable Rectangle2D clipBounds,
             @NotNull Rectangle2D bounds, @NotNull Rectangle2D objectBounds, @NotNull UnitType contentUnits) {
         RenderContext imageContext = RenderContext.createInitial(context.platformSupport(),
-                contentUnits.deriveMeasure(context.measureContext()));
+                contentUnits.deriveMeasure(context.measureContext()), context.renderState());
         return create(bufferSurfaceSupplier, context, clipBounds, bounds, objectBounds, contentUnits, imageContext);
     }
 
@@ -76,18 +76,8 @@ public final class BlittableImage {
             @NotNull RenderContext context, @Nullable Rectangle2D clipBounds,
             @NotNull Rectangle2D bounds, @NotNull Rectangle2D objectBounds, @NotNull UnitType contentUnits,
             @NotNull RenderContext imageContext) {
-        Rectangle2D boundsInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, bounds);
-
-        if (clipBounds != null) {
-            Rectangle2D clipBoundsInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, clipBounds);
-            Rectangle2D.intersect(clipBoundsInDeviceSpace, boundsInDeviceSpace, boundsInDeviceSpace);
-        }
-
-        if (ShapeUtil.isInvalidArea(boundsInDeviceSpace)) return null;
-
-        // Convert to integer coordinates to ensure we don't cut off any pixels due to rounding errors.
-        // Increase size by 1 to ensure we don't cut off any pixels used for anti-aliasing.
-        GeometryUtil.adjustForAliasing(boundsInDeviceSpace);
+        Rectangle2D boundsInDeviceSpace = imageBoundsInDeviceSpace(context, clipBounds, bounds);
+        if (boundsInDeviceSpace == null) return null;
 
         Rectangle2D adjustedBoundsInRootSpace = GeometryUtil.convertBounds(context, boundsInDeviceSpace,
                 GeometryUtil.Space.Device, GeometryUtil.Space.Root);
@@ -114,6 +104,31 @@ public final class BlittableImage {
         return new BlittableImage(img, imageContext, boundsInDeviceSpace, adjustedBoundsInRootSpace);
     }
 
+    /**
+     * Computes the pixel aligned device bounds of an image created by {@link #create} without
+     * allocating it.
+     *
+     * @param context the context the image is created for.
+     * @param clipBounds the clip in user space or null if the image isn't clipped.
+     * @param bounds the bounds of the image in user space.
+     * @return the bounds of the image in device space or null if the image would be empty.
+     */
+    public static @Nullable Rectangle2D imageBoundsInDeviceSpace(@NotNull RenderContext context,
+            @Nullable Rectangle2D clipBounds, @NotNull Rectangle2D bounds) {
+        Rectangle2D boundsInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, bounds);
+
+        if (clipBounds != null) {
+            Rectangle2D clipBoundsInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, clipBounds);
+            Rectangle2D.intersect(clipBoundsInDeviceSpace, boundsInDeviceSpace, boundsInDeviceSpace);
+        }
+
+        if (ShapeUtil.isInvalidArea(boundsInDeviceSpace)) return null;
+
+        // Convert to integer coordinates to ensure we don't cut off any pixels due to rounding errors.
+        // Increase size by 1 to ensure we don't cut off any pixels used for anti-aliasing.
+        return GeometryUtil.adjustForAliasing(boundsInDeviceSpace);
+    }
+
     public @NotNull RenderContext context() {
         return context;
     }
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToLongBiFunction;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A thread safe map bounded by the total weight of its values. If the bound is exceeded the least
+ * recently used values are evicted.
+ * <p>
+ * The values are kept in access order, hence lookups, insertions and evictions take constant time.
+ * All of them hold a single lock, which is cheap compared to computing the cached values.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public class BoundedCache<K, V> {
+    private final long maximumWeight;
+    private final @NotNull ToLongBiFunction<? super K, ? super V> weigher;
+    private final @NotNull Map<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final @NotNull Object lock = new Object();
+    private long currentWeight;
+
+    private final @NotNull LongAdder hitCount = new LongAdder();
+    private final @NotNull LongAdder missCount = new LongAdder();
+    private final @NotNull LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maximumWeight the maximum total weight of the cached values.
+     * @param weigher computes the weight of an entry from its key and value.
+     */
+    public BoundedCache(long maximumWeight, @NotNull ToLongBiFunction<? super K, ? super V> weigher) {
+        if (maximumWeight <= 0) throw new IllegalArgumentException("Maximum size must be positive: " + maximumWeight);
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Create a cache which holds at most the given number of values.
+     *
+     * @param maximumSize the maximum number of values.
+     * @param <K> the type of the keys.
+     * @param <V> the type of the values.
+     * @return the cache.
+     */
+    public static <K, V> @NotNull BoundedCache<K, V> countBounded(int maximumSize) {
+        return new BoundedCache<>(maximumSize, (k, v) -> 1);
+    }
+
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    public long currentWeight() {
+        synchronized (lock) {
+            return currentWeight;
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    public @Nullable V get(@NotNull K key) {
+        Entry<V> entry;
+        synchronized (lock) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * Add a value to the cache. Values which are heavier than the maximum weight aren't cached.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(@NotNull K key, @NotNull V value) {
+        long weight = weigher.applyAsLong(key, value);
+        if (weight > maximumWeight) return;
+        synchronized (lock) {
+            Entry<V> previous = entries.put(key, new Entry<>(value, weight));
+            currentWeight += previous != null ? weight - previous.weight : weight;
+            evict();
+        }
+    }
+
+    /**
+     * Add a value to the cache unless a value is already cached for the key.
+     *
+     * @param key the key.
+     * @param value the value.
+     * @return the value cached for the key. This is the given value unless another value has been
+     *         added concurrently.
+     */
+    public @NotNull V putIfAbsent(@NotNull K key, @NotNull V value) {
+        long weight = weigher.applyAsLong(key, value);
+        if (weight > maximumWeight) return value;
+        synchronized (lock) {
+            Entry<V> existing = entries.putIfAbsent(key, new Entry<>(value, weight));
+            if (existing != null) return existing.value;
+            currentWeight += weight;
+            evict();
+        }
+        return value;
+    }
+
+    // Called with the lock held.
+    private void evict() {
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (currentWeight > maximumWeight && eldest.hasNext()) {
+            currentWeight -= eldest.next().weight;
+            eldest.remove();
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * Remove all values whose key matches the given predicate.
+     *
+     * @param predicate the predicate.
+     */
+    public void removeIf(@NotNull Predicate<? super K> predicate) {
+        synchronized (lock) {
+            Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Entry<V>> e = it.next();
+                if (predicate.test(e.getKey())) {
+                    currentWeight -= e.getValue().weight;
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            entries.clear();
+            currentWeight = 0;
+        }
+    }
+
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    private static final class Entry<V> {
+        private final @NotNull V value;
+        private final long weight;
+
+        private Entry(@NotNull V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
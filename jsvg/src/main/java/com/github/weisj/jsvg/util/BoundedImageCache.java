@@ -21,31 +21,29 @@
  */
 package com.github.weisj.jsvg.util;
 
-import java.awt.image.RGBImageFilter;
+import java.awt.image.BufferedImage;
 
-public abstract class ColorSpaceAwareRGBImageFilter extends RGBImageFilter {
-
-    private final int[] tmp = new int[4];
-    private boolean convertToLinear;
+/**
+ * A {@link BoundedCache} of images bounded by the number of bytes occupied by the pixels of the
+ * images. Cached images are shared and must not be modified.
+ *
+ * @param <K> the type of the keys.
+ */
+public final class BoundedImageCache<K> extends BoundedCache<K, BufferedImage> {
 
-    protected int[] getRGB(int rgb) {
-        tmp[3] = (rgb >> 24) & 0xFF;
-        tmp[2] = (rgb >> 16) & 0xFF;
-        tmp[1] = (rgb >> 8) & 0xFF;
-        tmp[0] = rgb & 0xFF;
-        if (convertToLinear) ColorUtil.sRGBtoLinearRGBinPlace(tmp);
-        return tmp;
+    /**
+     * @param maximumBytes the maximum number of bytes the pixels of the cached images may occupy.
+     * @param bytesPerPixel the number of bytes a pixel of a cached image occupies.
+     */
+    public BoundedImageCache(long maximumBytes, int bytesPerPixel) {
+        super(maximumBytes, (key, image) -> (long) image.getWidth() * image.getHeight() * bytesPerPixel);
     }
 
-    protected int pack(int[] argb) {
-        if (convertToLinear) ColorUtil.linearRGBtoSRGBinPlace(argb);
-        return ((argb[3] & 0xFF) << 24) |
-                ((argb[2] & 0xFF) << 16) |
-                ((argb[1] & 0xFF) << 8) |
-                (argb[0] & 0xFF);
+    public long maximumBytes() {
+        return maximumWeight();
     }
 
-    public void setConvertToLinear(boolean convertToLinear) {
-        this.convertToLinear = convertToLinear;
+    public long currentBytes() {
+        return currentWeight();
     }
 }
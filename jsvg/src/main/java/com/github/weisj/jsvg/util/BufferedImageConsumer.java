@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.ImageConsumer;
+import java.awt.image.ImageProducer;
+import java.util.Hashtable;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An {@link ImageConsumer} which writes the delivered pixels directly into a {@link BufferedImage}.
+ * Producers backed by in-memory images (e.g. {@link BufferedImage#getSource()} and
+ * {@link java.awt.image.FilteredImageSource} chains thereof) deliver their pixels synchronously,
+ * hence no {@link java.awt.Toolkit} is needed to materialise them.
+ */
+final class BufferedImageConsumer implements ImageConsumer {
+    private final boolean premultiplied;
+    private @Nullable BufferedImage image;
+    private int @Nullable [] data;
+    private int width;
+    private boolean complete;
+    private boolean failed;
+
+    BufferedImageConsumer(boolean premultiplied) {
+        this.premultiplied = premultiplied;
+    }
+
+    /**
+     * @return the produced image or null if the image wasn't (successfully) delivered yet.
+     */
+    @Nullable
+    BufferedImage image() {
+        return complete && !failed ? image : null;
+    }
+
+    @Override
+    public void setDimensions(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            failed = true;
+            return;
+        }
+        this.width = width;
+        image = new BufferedImage(width, height,
+                premultiplied ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_ARGB);
+        data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    @Override
+    public void setProperties(Hashtable<?, ?> props) {
+        /* Not needed */
+    }
+
+    @Override
+    public void setColorModel(ColorModel model) {
+        /* Each call to setPixels specifies its own color model */
+    }
+
+    @Override
+    public void setHints(int hintFlags) {
+        /* Pixels are written directly hence the delivery order doesn't matter */
+    }
+
+    @Override
+    public void setPixels(int x, int y, int w, int h, ColorModel model, byte[] pixels, int off, int scansize) {
+        int[] dst = data;
+        if (dst == null) return;
+        for (int j = 0; j < h; j++) {
+            int sp = off + j * scansize;
+            int dp = (y + j) * width + x;
+            for (int i = 0; i < w; i++) {
+                dst[dp + i] = convert(model.getRGB(pixels[sp + i] & 0xFF));
+            }
+        }
+    }
+
+    @Override
+    public void setPixels(int x, int y, int w, int h, ColorModel model, int[] pixels, int off, int scansize) {
+        int[] dst = data;
+        if (dst == null) return;
+        DirectColorModel directModel = model instanceof DirectColorModel ? (DirectColorModel) model : null;
+        boolean isArgbLayout = directModel != null && isArgbLayout(directModel);
+        boolean isRawCopy = isArgbLayout && directModel.isAlphaPremultiplied() == premultiplied;
+        for (int j = 0; j < h; j++) {
+            int sp = off + j * scansize;
+            int dp = (y + j) * width + x;
+            if (isRawCopy) {
+                System.arraycopy(pixels, sp, dst, dp, w);
+            } else if (directModel != null) {
+                for (int i = 0; i < w; i++) {
+                    int pixel = pixels[sp + i];
+                    dst[dp + i] = convert(isArgbLayout ? pixel : components(directModel, pixel),
+                            directModel.isAlphaPremultiplied());
+                }
+            } else {
+                for (int i = 0; i < w; i++) {
+                    dst[dp + i] = convert(model.getRGB(pixels[sp + i]));
+                }
+            }
+        }
+    }
+
+    private static boolean isArgbLayout(@NotNull DirectColorModel model) {
+        return model.getRedMask() == 0x00FF0000
+                && model.getGreenMask() == 0x0000FF00
+                && model.getBlueMask() == 0x000000FF
+                && model.getAlphaMask() == 0xFF000000;
+    }
+
+    /*
+     * Like Graphics#drawImage this uses the raw channel values regardless of the color space of
+     * the model. Filters e.g. produce linearRGB images, whose values must not be converted.
+     */
+    private static int components(@NotNull DirectColorModel model, int pixel) {
+        int a = model.getAlphaMask() != 0 ? component(model.getAlphaMask(), pixel) : 0xFF;
+        int r = component(model.getRedMask(), pixel);
+        int g = component(model.getGreenMask(), pixel);
+        int b = component(model.getBlueMask(), pixel);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    private static int component(int mask, int pixel) {
+        int bits = Integer.bitCount(mask);
+        int value = (pixel & mask) >>> Integer.numberOfTrailingZeros(mask);
+        if (bits == 8) return value;
+        if (bits > 8) return value >>> (bits - 8);
+        return value * 0xFF / ((1 << bits) - 1);
+    }
+
+    private int convert(int argb, boolean isPremultiplied) {
+        if (isPremultiplied == premultiplied) return argb;
+        // Note: ColorUtil#unpremultiply clamps components exceeding the alpha value.
+        return isPremultiplied ? ColorUtil.unpremultiply(argb) : ColorUtil.premultiply(argb);
+    }
+
+    private int convert(int argb) {
+        return premultiplied ? ColorUtil.premultiply(argb) : argb;
+    }
+
+    @Override
+    public void imageComplete(int status) {
+        complete = true;
+        if (status == IMAGEERROR || status == IMAGEABORTED) failed = true;
+    }
+
+    static @Nullable BufferedImage produce(@NotNull ImageProducer producer, boolean premultiplied) {
+        BufferedImageConsumer consumer = new BufferedImageConsumer(premultiplied);
+        try {
+            producer.startProduction(consumer);
+        } finally {
+            producer.removeConsumer(consumer);
+        }
+        return consumer.image();
+    }
+}
@@ -35,6 +35,27 @@ public final class ColorUtil {
         return (x + (x >> 8)) >> 8;
     }
 
+    public static int premultiply(int argb) {
+        int a = argb >>> 24;
+        if (a == 0xFF) return argb;
+        if (a == 0) return 0;
+        int r = div255(((argb >> 16) & 0xFF) * a);
+        int g = div255(((argb >> 8) & 0xFF) * a);
+        int b = div255((argb & 0xFF) * a);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    public static int unpremultiply(int argb) {
+        int a = argb >>> 24;
+        if (a == 0xFF) return argb;
+        if (a == 0) return 0;
+        int half = a / 2;
+        int r = Math.min(255, (((argb >> 16) & 0xFF) * 255 + half) / a);
+        int g = Math.min(255, (((argb >> 8) & 0xFF) * 255 + half) / a);
+        int b = Math.min(255, ((argb & 0xFF) * 255 + half) / a);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
     public static int computeLuminance(int r, int g, int b) {
         return toRgbRange(0.2125 * r + 0.7164 * g + 0.0712 * b);
     }
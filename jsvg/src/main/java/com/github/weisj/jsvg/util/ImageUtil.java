@@ -116,9 +116,37 @@ public final class ImageUtil {
 
     public static @NotNull BufferedImage copy(@NotNull RenderContext context, @NotNull ImageProducer producer,
             Premultiplied premultiplied) {
+        BufferedImage img = materialize(producer, premultiplied);
+        if (img != null) return img;
         return toBufferedImage(context.platformSupport().createImage(producer), premultiplied);
     }
 
+    /**
+     * Synchronously collects the pixels of the given producer into a new {@link BufferedImage}
+     * without involving the {@link Toolkit}.
+     *
+     * @param producer the image producer.
+     * @param premultiplied whether the resulting image should be premultiplied.
+     * @return the image or null if the producer doesn't deliver its pixels synchronously.
+     */
+    public static @Nullable BufferedImage materialize(@NotNull ImageProducer producer, Premultiplied premultiplied) {
+        return BufferedImageConsumer.produce(producer, premultiplied == Premultiplied.Yes);
+    }
+
+    /**
+     * Create an image from the given producer. If possible the image is created without involving
+     * the toolkit of the {@link com.github.weisj.jsvg.renderer.awt.PlatformSupport}.
+     *
+     * @param context the render context.
+     * @param producer the image producer.
+     * @return the image.
+     */
+    public static @NotNull Image createImage(@NotNull RenderContext context, @NotNull ImageProducer producer) {
+        BufferedImage img = materialize(producer, Premultiplied.No);
+        if (img != null) return img;
+        return context.platformSupport().createImage(producer);
+    }
+
     public static @NotNull BufferedImage toBufferedImage(@NotNull Image img) {
         return toBufferedImage(img, Premultiplied.No);
     }
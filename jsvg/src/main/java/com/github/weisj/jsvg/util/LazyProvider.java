@@ -24,10 +24,11 @@ package com.github.weisj.jsvg.util;
 import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class LazyProvider<T> implements Provider<T> {
     private final @NotNull Supplier<@NotNull T> supplier;
-    private T t;
+    private volatile T t;
 
     public LazyProvider(@NotNull Supplier<@NotNull T> supplier) {
         this.supplier = supplier;
@@ -35,7 +36,23 @@ public final class LazyProvider<T> implements Provider<T> {
 
     @Override
     public @NotNull T get() {
-        if (t == null) t = supplier.get();
+        T value = t;
+        if (value == null) {
+            synchronized (this) {
+                value = t;
+                if (value == null) {
+                    value = supplier.get();
+                    t = value;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return the value if it has already been created, {@code null} otherwise.
+     */
+    public @Nullable T getIfPresent() {
         return t;
     }
 }
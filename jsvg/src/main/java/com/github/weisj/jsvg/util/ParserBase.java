@@ -26,8 +26,16 @@ import org.jetbrains.annotations.NotNull;
 import com.github.weisj.jsvg.geometry.size.Length;
 
 public class ParserBase {
+    // Largest integer such that all integers up to it are exactly representable as float.
+    private static final long MAX_EXACT_MANTISSA = 1 << 24;
+    // Powers of ten which are exactly representable as float.
+    private static final float[] POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
     protected final @NotNull String input;
     private final int inputLength;
+    private final NumberCharState numberState = new NumberCharState();
     private int index;
 
     public ParserBase(@NotNull String input, int startIndex) {
@@ -58,14 +66,12 @@ public class ParserBase {
         return c == ',' || Character.isWhitespace(c);
     }
 
-    private String nextNumberString() {
-        int start = index;
-        NumberCharState state = new NumberCharState();
-        while (hasNext() && isValidNumberChar(peek(), state)) {
+    private int consumeNumber() {
+        numberState.reset();
+        while (hasNext() && isValidNumberChar(peek(), numberState)) {
             consume();
         }
-        int end = index;
-        return input.substring(start, end);
+        return index;
     }
 
     protected float nextFloatOrUnspecified() {
@@ -75,7 +81,10 @@ public class ParserBase {
 
     public float nextFloat() throws NumberFormatException {
         int start = index;
-        String token = nextNumberString();
+        int end = consumeNumber();
+        float value = parseSimpleFloat(start, end);
+        if (!Float.isNaN(value)) return value;
+        String token = input.substring(start, end);
         try {
             return Float.parseFloat(token);
         } catch (NumberFormatException e) {
@@ -88,7 +97,7 @@ public class ParserBase {
 
     public double nextDouble() throws NumberFormatException {
         int start = index;
-        String token = nextNumberString();
+        String token = input.substring(start, consumeNumber());
         try {
             return Double.parseDouble(token);
         } catch (NumberFormatException e) {
@@ -99,13 +108,74 @@ public class ParserBase {
         }
     }
 
+    /**
+     * Parses the number in the given range of the input without allocating. Only numbers which can
+     * be computed exactly are handled i.e. numbers with at most 24 bits of significant digits and a
+     * small exponent. In this case the result is the same as for {@link Float#parseFloat(String)}.
+     *
+     * @return the parsed value or NaN if the number can't be handled.
+     */
+    private float parseSimpleFloat(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            negative = input.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        for (; i < end; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') break;
+            if (mantissa > MAX_EXACT_MANTISSA) return Float.NaN;
+            mantissa = 10 * mantissa + (c - '0');
+            digits++;
+        }
+        if (i < end && input.charAt(i) == '.') {
+            for (i++; i < end; i++) {
+                char c = input.charAt(i);
+                if (c < '0' || c > '9') break;
+                if (mantissa > MAX_EXACT_MANTISSA) return Float.NaN;
+                mantissa = 10 * mantissa + (c - '0');
+                exponent--;
+                digits++;
+            }
+        }
+        if (digits == 0) return Float.NaN;
+        if (i < end && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                negativeExponent = input.charAt(i) == '-';
+                i++;
+            }
+            if (i == end) return Float.NaN;
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                char c = input.charAt(i);
+                if (c < '0' || c > '9' || explicitExponent > POWERS_OF_TEN.length) return Float.NaN;
+                explicitExponent = 10 * explicitExponent + (c - '0');
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i != end) return Float.NaN;
+        if (mantissa > MAX_EXACT_MANTISSA || Math.abs(exponent) >= POWERS_OF_TEN.length) return Float.NaN;
+        // Both the mantissa and the power of ten are exactly representable, hence the single
+        // rounding step of the multiplication/division yields the correctly rounded result.
+        float value = exponent >= 0
+                ? mantissa * POWERS_OF_TEN[exponent]
+                : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
     protected @NotNull String currentLocation() {
         return "(index=" + index + " in input=" + input + ")";
     }
 
     // This only checks for the rough structure of a number as we need to know
     // when to separate the next token.
-    // Explicit parsing is done by Float#parseFloat.
+    // Explicit parsing is done by #parseSimpleFloat or Float#parseFloat.
     private boolean isValidNumberChar(char c, NumberCharState state) {
         boolean valid = '0' <= c && c <= '9';
         if (valid && state.iteration == 1 && input.charAt(index - 1) == '0') {
@@ -133,9 +203,16 @@ public class ParserBase {
     }
 
     private static final class NumberCharState {
-        int iteration = 0;
-        boolean dotAllowed = true;
-        boolean signAllowed = true;
-        boolean exponentAllowed = true;
+        int iteration;
+        boolean dotAllowed;
+        boolean signAllowed;
+        boolean exponentAllowed;
+
+        void reset() {
+            iteration = 0;
+            dotAllowed = true;
+            signAllowed = true;
+            exponentAllowed = true;
+        }
     }
 }
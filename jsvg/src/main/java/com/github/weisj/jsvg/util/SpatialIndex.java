@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable R-tree over axis aligned bounding boxes, which is bulk loaded using the
+ * sort-tile-recursive algorithm. Query results are reported in the order the values were
+ * inserted.
+ *
+ * @param <T> the type of the indexed values.
+ */
+public final class SpatialIndex<T> {
+    private static final int NODE_CAPACITY = 8;
+
+    private final @NotNull List<T> values;
+    private final @NotNull Node root;
+
+    /**
+     * @param values the values to index.
+     * @param bounds the bounds of the values. The i-th bounds belong to the i-th value.
+     */
+    public SpatialIndex(@NotNull List<T> values, @NotNull List<? extends Rectangle2D> bounds) {
+        if (values.size() != bounds.size()) {
+            throw new IllegalArgumentException("Got " + values.size() + " values but " + bounds.size() + " bounds");
+        }
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        List<Node> leaves = new ArrayList<>(bounds.size());
+        for (int i = 0; i < bounds.size(); i++) {
+            leaves.add(new Node(bounds.get(i), i));
+        }
+        this.root = pack(leaves);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public @NotNull List<T> containing(@NotNull Point2D point) {
+        return intersecting(point.getX(), point.getY(), point.getX(), point.getY());
+    }
+
+    public @NotNull List<T> intersecting(@NotNull Rectangle2D area) {
+        return intersecting(area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY());
+    }
+
+    private @NotNull List<T> intersecting(double minX, double minY, double maxX, double maxY) {
+        if (values.isEmpty()) return Collections.emptyList();
+        IntList hits = new IntList();
+        collect(root, minX, minY, maxX, maxY, hits);
+        int[] indices = hits.toSortedArray();
+        List<T> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(values.get(index));
+        }
+        return result;
+    }
+
+    private static void collect(@NotNull Node node, double minX, double minY, double maxX, double maxY,
+            @NotNull IntList hits) {
+        if (!node.intersects(minX, minY, maxX, maxY)) return;
+        if (node.children == null) {
+            hits.add(node.index);
+            return;
+        }
+        for (Node child : node.children) {
+            collect(child, minX, minY, maxX, maxY, hits);
+        }
+    }
+
+    private static @NotNull Node pack(@NotNull List<Node> nodes) {
+        if (nodes.isEmpty()) return new Node(new Node[0]);
+        List<Node> level = nodes;
+        do {
+            level = packLevel(level);
+        } while (level.size() > 1);
+        return level.get(0);
+    }
+
+    private static @NotNull List<Node> packLevel(@NotNull List<Node> nodes) {
+        int nodeCount = (nodes.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+
+        List<Node> sorted = new ArrayList<>(nodes);
+        sorted.sort(Comparator.comparingDouble(Node::centerX));
+
+        List<Node> parents = new ArrayList<>(nodeCount);
+        for (int sliceStart = 0; sliceStart < sorted.size(); sliceStart += sliceSize) {
+            List<Node> slice = sorted.subList(sliceStart, Math.min(sorted.size(), sliceStart + sliceSize));
+            slice.sort(Comparator.comparingDouble(Node::centerY));
+            for (int start = 0; start < slice.size(); start += NODE_CAPACITY) {
+                List<Node> children = slice.subList(start, Math.min(slice.size(), start + NODE_CAPACITY));
+                parents.add(new Node(children.toArray(new Node[0])));
+            }
+        }
+        return parents;
+    }
+
+    private static final class Node {
+        private final double minX;
+        private final double minY;
+        private final double maxX;
+        private final double maxY;
+        private final Node[] children;
+        private final int index;
+
+        private Node(@NotNull Rectangle2D bounds, int index) {
+            this.minX = bounds.getMinX();
+            this.minY = bounds.getMinY();
+            this.maxX = bounds.getMaxX();
+            this.maxY = bounds.getMaxY();
+            this.children = null;
+            this.index = index;
+        }
+
+        private Node(@NotNull Node @NotNull [] children) {
+            double x0 = Double.POSITIVE_INFINITY;
+            double y0 = Double.POSITIVE_INFINITY;
+            double x1 = Double.NEGATIVE_INFINITY;
+            double y1 = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                x0 = Math.min(x0, child.minX);
+                y0 = Math.min(y0, child.minY);
+                x1 = Math.max(x1, child.maxX);
+                y1 = Math.max(y1, child.maxY);
+            }
+            this.minX = x0;
+            this.minY = y0;
+            this.maxX = x1;
+            this.maxY = y1;
+            this.children = children;
+            this.index = -1;
+        }
+
+        private double centerX() {
+            return (minX + maxX) / 2;
+        }
+
+        private double centerY() {
+            return (minY + maxY) / 2;
+        }
+
+        private boolean intersects(double x0, double y0, double x1, double y1) {
+            return x0 <= maxX && x1 >= minX && y0 <= maxY && y1 >= minY;
+        }
+    }
+
+    private static final class IntList {
+        private int[] data = new int[16];
+        private int size;
+
+        private void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, 2 * size);
+            data[size++] = value;
+        }
+
+        private int @NotNull [] toSortedArray() {
+            int[] result = Arrays.copyOf(data, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
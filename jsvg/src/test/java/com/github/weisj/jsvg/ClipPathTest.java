@@ -26,12 +26,20 @@ import static com.github.weisj.jsvg.ReferenceTest.RenderType;
 import static com.github.weisj.jsvg.ReferenceTest.compareImages;
 import static com.github.weisj.jsvg.SVGRenderingHints.KEY_MASK_CLIP_RENDERING;
 import static com.github.weisj.jsvg.SVGRenderingHints.VALUE_MASK_CLIP_RENDERING_ACCURACY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.awt.NullPlatformSupport;
+
 class ClipPathTest {
 
     @Test
@@ -50,6 +58,27 @@ class ClipPathTest {
         ReferenceTest.SOFT_CLIPPING_VALUE = SVGRenderingHints.VALUE_SOFT_CLIPPING_OFF;
     }
 
+    @Test
+    void softClipOfPixelAlignedRectangleMatchesHardClip() {
+        SVGDocument document = Objects.requireNonNull(new SVGLoader().load(
+                Objects.requireNonNull(ClipPathTest.class.getResource("clipPath/simpleShapes.svg"))));
+        BufferedImage hardClipped = render(document, SVGRenderingHints.VALUE_SOFT_CLIPPING_OFF);
+        BufferedImage softClipped = render(document, SVGRenderingHints.VALUE_SOFT_CLIPPING_ON);
+        // This area is only covered by an element clipped to a rectangle lying on pixel boundaries.
+        assertArrayEquals(hardClipped.getRGB(0, 0, 80, 80, null, 0, 80),
+                softClipped.getRGB(0, 0, 80, 80, null, 0, 80));
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, @NotNull Object softClipping) {
+        BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(SVGRenderingHints.KEY_SOFT_CLIPPING, softClipping);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, null);
+        g.dispose();
+        return image;
+    }
+
     @Test
     void filterAndClipPath() {
         ReferenceTest.SOFT_CLIPPING_VALUE = SVGRenderingHints.VALUE_SOFT_CLIPPING_ON;
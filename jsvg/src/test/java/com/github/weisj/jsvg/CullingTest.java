@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.ViewBox;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.Graphics2DOutput;
+import com.github.weisj.jsvg.renderer.Output;
+import com.github.weisj.jsvg.renderer.awt.NullPlatformSupport;
+
+class CullingTest {
+
+    private static final String GRID;
+
+    static {
+        StringBuilder sb = new StringBuilder(
+                "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"1000\" height=\"1000\">");
+        for (int y = 0; y < 10; y++) {
+            for (int x = 0; x < 10; x++) {
+                sb.append("<rect x=\"").append(x * 100 + 10).append("\" y=\"").append(y * 100 + 10)
+                        .append("\" width=\"80\" height=\"80\" fill=\"red\"/>");
+            }
+        }
+        GRID = sb.append("</svg>").toString();
+    }
+
+    @Test
+    void shapesOutsideClipAreNotPainted() {
+        SVGDocument document = load(GRID);
+        assertEquals(100, countPaintedShapes(document, new Rectangle(0, 0, 1000, 1000)));
+        assertEquals(1, countPaintedShapes(document, new Rectangle(0, 0, 100, 100)));
+        assertEquals(4, countPaintedShapes(document, new Rectangle(150, 150, 100, 100)));
+    }
+
+    @Test
+    void strokeIsConsideredForCulling() {
+        SVGDocument document = load("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"100\" height=\"100\">"
+                + "<rect x=\"50\" y=\"50\" width=\"40\" height=\"40\" fill=\"none\" stroke=\"red\" "
+                + "stroke-width=\"20\"/></svg>");
+        assertEquals(1, countPaintedShapes(document, new Rectangle(0, 0, 42, 42)));
+        // Bounds are grown conservatively to account for miter joins.
+        assertEquals(0, countPaintedShapes(document, new Rectangle(0, 0, 8, 8)));
+    }
+
+    private static int countPaintedShapes(@NotNull SVGDocument document, @NotNull Rectangle clip) {
+        BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.clip(clip);
+        AtomicInteger count = new AtomicInteger();
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, new CountingOutput(g, count),
+                new ViewBox(document.size()));
+        g.dispose();
+        return count.get();
+    }
+
+    private static @NotNull SVGDocument load(@NotNull String svg) {
+        return Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.createDefault()));
+    }
+
+    private static final class CountingOutput extends Graphics2DOutput {
+        private final @NotNull AtomicInteger count;
+
+        private CountingOutput(@NotNull Graphics2D g, @NotNull AtomicInteger count) {
+            super(g);
+            this.count = count;
+        }
+
+        @Override
+        public void fillShape(@NotNull Shape shape) {
+            count.incrementAndGet();
+            super.fillShape(shape);
+        }
+
+        @Override
+        public void drawShape(@NotNull Shape shape) {
+            count.incrementAndGet();
+            super.drawShape(shape);
+        }
+
+        @Override
+        public @NotNull Output createChild() {
+            return new CountingOutput((Graphics2D) graphics().create(), count);
+        }
+    }
+}
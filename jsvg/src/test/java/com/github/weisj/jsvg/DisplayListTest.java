@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.ReferenceTest.ReferenceTestResult.SUCCESS;
+import static com.github.weisj.jsvg.RenderTestUtil.load;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.ViewBox;
+
+class DisplayListTest {
+
+    @Test
+    void replayMatchesRendering() {
+        assertEquals(SUCCESS, compareDisplayList("icons/image.svg", 1));
+        assertEquals(SUCCESS, compareDisplayList("icons/image.svg", 2.5));
+        assertEquals(SUCCESS, compareDisplayList("gradient/linearGradient.svg", 2));
+        assertEquals(SUCCESS, compareDisplayList("mask/mask1.svg", 1));
+        assertEquals(SUCCESS, compareDisplayList("filter/blur.svg", 1));
+        assertEquals(SUCCESS, compareDisplayList("pattern/pattern.svg", 2));
+    }
+
+    @Test
+    void rasterizedContentIsTransformDependent() {
+        assertTrue(load("icons/image.svg").compile(null).isTransformIndependent());
+        assertFalse(load("mask/mask1.svg").compile(null).isTransformIndependent());
+        assertFalse(load("filter/blur.svg").compile(null).isTransformIndependent());
+        assertFalse(load("pattern/pattern.svg").compile(null).isTransformIndependent());
+    }
+
+    private static @NotNull ReferenceTest.ReferenceTestResult compareDisplayList(@NotNull String path,
+            double scale) {
+        SVGDocument document = load(path);
+        ViewBox bounds = new ViewBox(document.size());
+        int width = (int) (bounds.width * scale);
+        int height = (int) (bounds.height * scale);
+        RenderingHints hints = ReferenceTest.referenceHintSet();
+
+        BufferedImage expected = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = expected.createGraphics();
+        g.addRenderingHints(hints);
+        g.scale(scale, scale);
+        document.render((Component) null, g, bounds);
+        g.dispose();
+
+        DisplayList displayList = document.compile(bounds, hints, null);
+        BufferedImage actual = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        g = actual.createGraphics();
+        g.scale(scale, scale);
+        displayList.render(g);
+        g.dispose();
+
+        return ReferenceTest.compareImageRasterization(expected, actual, path, 0.1, 0.1);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+
+class ElementIndexTest {
+
+    private static final String SVG = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"200\" height=\"100\""
+            + " viewBox=\"0 0 100 50\">"
+            + "<g id=\"group\" transform=\"translate(50, 0)\">"
+            + "<rect id=\"right\" x=\"10\" y=\"10\" width=\"20\" height=\"20\"/>"
+            + "</g>"
+            + "<rect id=\"left\" x=\"10\" y=\"10\" width=\"20\" height=\"20\"/>"
+            + "<circle id=\"top\" cx=\"20\" cy=\"20\" r=\"5\" stroke=\"black\" stroke-width=\"2\"/>"
+            + "</svg>";
+
+    @Test
+    void elementsAt() {
+        SVGDocument document = load();
+        // The document is scaled by a factor of two.
+        assertEquals(List.of("top", "left"), ids(document.elementsAt(new Point2D.Double(40, 40))));
+        assertEquals(List.of("left"), ids(document.elementsAt(new Point2D.Double(22, 22))));
+        assertEquals(List.of("right", "group"), ids(document.elementsAt(new Point2D.Double(140, 40))));
+        assertTrue(document.elementsAt(new Point2D.Double(100, 90)).isEmpty());
+    }
+
+    @Test
+    void elementsIntersecting() {
+        SVGDocument document = load();
+        assertEquals(List.of("top", "left", "right", "group"),
+                ids(document.elementsIntersecting(new Rectangle2D.Double(0, 0, 200, 100))));
+        assertEquals(List.of("right", "group"),
+                ids(document.elementsIntersecting(new Rectangle2D.Double(100, 0, 100, 100))));
+    }
+
+    private static @NotNull List<String> ids(@NotNull List<SVGNode> nodes) {
+        return nodes.stream().map(SVGNode::id).collect(Collectors.toList());
+    }
+
+    private static @NotNull SVGDocument load() {
+        return Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(SVG.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.createDefault()));
+    }
+}
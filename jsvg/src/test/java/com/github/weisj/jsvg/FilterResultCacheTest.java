@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.RenderTestUtil.assertPixelsEqual;
+import static com.github.weisj.jsvg.RenderTestUtil.load;
+import static com.github.weisj.jsvg.RenderTestUtil.loadString;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.renderer.FilterResultCache;
+
+class FilterResultCacheTest {
+    private static final int SIZE = 100;
+    private static final int PADDING = 20;
+
+    @Test
+    void disabledByDefault() {
+        SVGDocument document = load("filter/blur.svg");
+        render(document, 0, 0, false);
+        assertEquals(0, document.filterResultCache().size());
+    }
+
+    @Test
+    void reusesResultOfPreviousRender() {
+        for (String path : new String[] {"filter/blur.svg", "filter/dropShadow.svg", "filter/turbulence1.svg"}) {
+            SVGDocument document = load(path);
+            FilterResultCache cache = document.filterResultCache();
+            BufferedImage expected = render(document, 0, 0, false);
+
+            assertPixelsEqual(expected, render(document, 0, 0, true), path);
+            long misses = cache.missCount();
+            assertTrue(cache.size() > 0, path);
+            assertEquals(0, cache.hitCount(), path);
+
+            assertPixelsEqual(expected, render(document, 0, 0, true), path);
+            assertEquals(misses, cache.hitCount(), path);
+            assertEquals(misses, cache.missCount(), path);
+        }
+    }
+
+    @Test
+    void reusesResultForWholePixelTranslation() {
+        SVGDocument document = load("filter/dropShadow.svg");
+        FilterResultCache cache = document.filterResultCache();
+        render(document, 0, 0, true);
+        long misses = cache.missCount();
+
+        BufferedImage expected = render(document, 7, 13, false);
+        BufferedImage actual = render(document, 7, 13, true);
+        assertPixelsEqual(expected, actual, "translated");
+        assertEquals(misses, cache.missCount());
+        assertEquals(misses, cache.hitCount());
+
+        render(document, 0.5, 0, true);
+        assertTrue(cache.missCount() > misses);
+    }
+
+    @Test
+    void separatesResultsOfDifferentCurrentColor() {
+        SVGDocument document = loadString("<svg xmlns='http://www.w3.org/2000/svg' width='120' height='120'>"
+                + "<filter id='blur'><feGaussianBlur stdDeviation='2'/></filter>"
+                + "<rect id='r' x='10' y='10' width='40' height='40' fill='currentColor' filter='url(#blur)'/>"
+                + "<use href='#r' color='red'/>"
+                + "<use href='#r' x='50' color='blue'/>"
+                + "</svg>");
+        BufferedImage expected = render(document, 0, 0, false);
+        assertPixelsEqual(expected, render(document, 0, 0, true), "currentColor");
+        assertEquals(3, document.filterResultCache().size());
+    }
+
+    @Test
+    void clearReleasesResults() {
+        SVGDocument document = load("filter/blur.svg");
+        render(document, 0, 0, true);
+        assertTrue(document.filterResultCache().currentBytes() > 0);
+        document.clearFilterResultCache();
+        assertEquals(0, document.filterResultCache().size());
+        assertEquals(0, document.filterResultCache().currentBytes());
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, double dx, double dy,
+            boolean useCache) {
+        return RenderTestUtil.render(document, SIZE + PADDING, dx, dy,
+                new RenderingHints(SVGRenderingHints.KEY_FILTER_RESULT_CACHE, useCache
+                        ? SVGRenderingHints.VALUE_FILTER_RESULT_CACHE_ON
+                        : SVGRenderingHints.VALUE_FILTER_RESULT_CACHE_OFF));
+    }
+}
@@ -92,6 +92,24 @@ class FilterTest {
         assertEquals(SUCCESS, compareImages("filter/turbulence3.svg"));
     }
 
+    @Test
+    void testTurbulenceThroughMerge() {
+        // The noise is produced in linearRGB and must not be converted again when it is passed to
+        // another primitive.
+        assertEquals(SUCCESS, compareImages(new CompareInfo(
+                new ImageInfo(new PathImageSource("filter/turbulenceMerge_ref.svg"), RenderType.JSVG),
+                new ImageInfo(new PathImageSource("filter/turbulenceMerge.svg"), RenderType.JSVG),
+                0, 0)));
+    }
+
+    @Test
+    void testComponentTransferTranslucent() {
+        assertEquals(SUCCESS, compareImages(new CompareInfo(
+                new ImageInfo(new PathImageSource("filter/componentTransferTranslucent_ref.svg"), RenderType.JSVG),
+                new ImageInfo(new PathImageSource("filter/componentTransferTranslucent.svg"), RenderType.JSVG),
+                0, 0)));
+    }
+
     @Test
     void testFlood() {
         // TODO: Filter region not applied correctly.
@@ -179,6 +197,16 @@ class FilterTest {
         assertEquals(SUCCESS, compareImages("filter/componentTransfer_sRGB.svg", 0.05, 0.05));
     }
 
+    @Test
+    void testColorOperationChain() {
+        // Consecutive colour primitives are applied in a single pass without quantizing the
+        // intermediate results. The reference names every result, which prevents the fusion.
+        assertEquals(SUCCESS, compareImages(new CompareInfo(
+                new ImageInfo(new PathImageSource("filter/colorOperationChain_ref.svg"), RenderType.JSVG),
+                new ImageInfo(new PathImageSource("filter/colorOperationChain.svg"), RenderType.JSVG),
+                0, 0.1)));
+    }
+
     @Test
     void testDropShadow() {
         assertEquals(SUCCESS, compareImages(new CompareInfo(
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.RenderTestUtil.assertPixelsEqual;
+import static com.github.weisj.jsvg.RenderTestUtil.load;
+import static com.github.weisj.jsvg.RenderTestUtil.loadString;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.renderer.MaskRasterCache;
+
+class MaskRasterCacheTest {
+    private static final int SIZE = 200;
+
+    @Test
+    void disabledByDefault() {
+        SVGDocument document = load("mask/mask1.svg");
+        render(document, 0, 0, false);
+        assertEquals(0, document.maskRasterCache().size());
+    }
+
+    @Test
+    void reusesMasksOfPreviousRender() {
+        for (String path : new String[] {"mask/mask1.svg", "mask/nestedMask.svg", "mask/maskContentUnits.svg",
+                "clipPath/clipPathUnits.svg", "clipPath/clipPathTransform.svg"}) {
+            SVGDocument document = load(path);
+            MaskRasterCache cache = document.maskRasterCache();
+            BufferedImage expected = render(document, 0, 0, false);
+
+            assertPixelsEqual(expected, render(document, 0, 0, true), path);
+            long misses = cache.missCount();
+            assertTrue(cache.size() > 0, path);
+            assertEquals(0, cache.hitCount(), path);
+
+            assertPixelsEqual(expected, render(document, 0, 0, true), path);
+            assertEquals(misses, cache.hitCount(), path);
+            assertEquals(misses, cache.missCount(), path);
+        }
+    }
+
+    @Test
+    void reusesMasksForWholePixelTranslation() {
+        SVGDocument document = load("mask/mask1.svg");
+        MaskRasterCache cache = document.maskRasterCache();
+        render(document, 0, 0, true);
+        long misses = cache.missCount();
+
+        BufferedImage expected = render(document, 5, 11, false);
+        assertPixelsEqual(expected, render(document, 5, 11, true), "translated");
+        assertEquals(misses, cache.missCount());
+
+        render(document, 0.25, 0, true);
+        assertTrue(cache.missCount() > misses);
+    }
+
+    @Test
+    void separatesMasksOfDifferentCurrentColor() {
+        SVGDocument document = loadString("<svg xmlns='http://www.w3.org/2000/svg' width='200' height='200'>"
+                + "<mask id='m'><circle cx='50' cy='50' r='40' fill='currentColor'/></mask>"
+                + "<rect id='r' width='100' height='100' mask='url(#m)'/>"
+                + "<use href='#r' color='white'/>"
+                + "<use href='#r' y='100' color='gray'/>"
+                + "</svg>");
+        BufferedImage expected = render(document, 0, 0, false);
+        assertPixelsEqual(expected, render(document, 0, 0, true), "currentColor");
+        assertEquals(3, document.maskRasterCache().size());
+    }
+
+    @Test
+    void clearReleasesMasks() {
+        SVGDocument document = load("mask/mask1.svg");
+        render(document, 0, 0, true);
+        assertTrue(document.maskRasterCache().currentBytes() > 0);
+        document.clearMaskRasterCache();
+        assertEquals(0, document.maskRasterCache().size());
+        assertEquals(0, document.maskRasterCache().currentBytes());
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, double dx, double dy,
+            boolean useCache) {
+        RenderingHints hints = new RenderingHints(SVGRenderingHints.KEY_SOFT_CLIPPING,
+                SVGRenderingHints.VALUE_SOFT_CLIPPING_ON);
+        hints.put(SVGRenderingHints.KEY_MASK_RASTER_CACHE, useCache
+                ? SVGRenderingHints.VALUE_MASK_RASTER_CACHE_ON
+                : SVGRenderingHints.VALUE_MASK_RASTER_CACHE_OFF);
+        return RenderTestUtil.render(document, SIZE, dx, dy, hints);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.RenderTestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.renderer.PatternTileCache;
+
+class PatternTileCacheTest {
+    private static final int SIZE = 200;
+    private static final String HATCHED_SHAPES = "<svg xmlns='http://www.w3.org/2000/svg' width='200' height='200'>"
+            + "<pattern id='hatch' patternUnits='userSpaceOnUse' width='8' height='8'>"
+            + "<path d='M0 8 L8 0' stroke='black'/></pattern>"
+            + "<rect x='10' y='10' width='50' height='50' fill='url(#hatch)'/>"
+            + "<rect x='70' y='10' width='50' height='80' fill='url(#hatch)'/>"
+            + "<circle cx='100' cy='150' r='40' fill='url(#hatch)'/>"
+            + "<path d='M10 100 L60 190' stroke-width='10' stroke='url(#hatch)'/>"
+            + "</svg>";
+
+    @Test
+    void disabledByDefault() {
+        SVGDocument document = load("pattern/pattern.svg");
+        render(document, 0, 0, false);
+        assertEquals(0, document.patternTileCache().size());
+    }
+
+    @Test
+    void sharesTileBetweenElementsInTheSameUserSpace() {
+        SVGDocument document = loadString(HATCHED_SHAPES);
+        PatternTileCache cache = document.patternTileCache();
+        BufferedImage expected = render(document, 0, 0, false);
+
+        assertPixelsEqual(expected, render(document, 0, 0, true), "hatched");
+        // The stroked path inherits different paints than the filled shapes.
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.missCount());
+        assertEquals(2, cache.hitCount());
+    }
+
+    @Test
+    void separatesTilesOfDifferentCurrentColor() {
+        SVGDocument document = loadString("<svg xmlns='http://www.w3.org/2000/svg' width='200' height='200'>"
+                + "<pattern id='hatch' patternUnits='userSpaceOnUse' width='8' height='8'>"
+                + "<path d='M0 8 L8 0' stroke='currentColor'/></pattern>"
+                + "<rect x='10' y='10' width='80' height='80' color='red' fill='url(#hatch)'/>"
+                + "<rect x='110' y='10' width='80' height='80' color='blue' fill='url(#hatch)'/>"
+                + "</svg>");
+        BufferedImage expected = render(document, 0, 0, false);
+        assertPixelsEqual(expected, render(document, 0, 0, true), "currentColor");
+        assertEquals(2, document.patternTileCache().size());
+    }
+
+    @Test
+    void reusesTilesOfPreviousRender() {
+        for (String path : new String[] {"pattern/pattern.svg", "pattern/patternContentUnits.svg",
+                "pattern/patternUnits.svg"}) {
+            SVGDocument document = load(path);
+            PatternTileCache cache = document.patternTileCache();
+            BufferedImage expected = render(document, 0, 0, false);
+
+            assertPixelsEqual(expected, render(document, 0, 0, true), path);
+            long misses = cache.missCount();
+            long hits = cache.hitCount();
+            assertTrue(cache.size() > 0, path);
+
+            assertPixelsEqual(expected, render(document, 0, 0, true), path);
+            assertEquals(misses + hits, cache.hitCount(), path);
+            assertEquals(misses, cache.missCount(), path);
+        }
+    }
+
+    @Test
+    void reusesTilesForWholePixelTranslation() {
+        SVGDocument document = loadString(HATCHED_SHAPES);
+        PatternTileCache cache = document.patternTileCache();
+        render(document, 0, 0, true);
+        long misses = cache.missCount();
+
+        BufferedImage expected = render(document, 5, 11, false);
+        assertPixelsEqual(expected, render(document, 5, 11, true), "translated");
+        assertEquals(misses, cache.missCount());
+
+        render(document, 0.25, 0, true);
+        assertTrue(cache.missCount() > misses);
+    }
+
+    @Test
+    void clearReleasesTiles() {
+        SVGDocument document = load("pattern/pattern.svg");
+        render(document, 0, 0, true);
+        assertTrue(document.patternTileCache().currentBytes() > 0);
+        document.clearPatternTileCache();
+        assertEquals(0, document.patternTileCache().size());
+        assertEquals(0, document.patternTileCache().currentBytes());
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, double dx, double dy,
+            boolean useCache) {
+        return RenderTestUtil.render(document, SIZE, dx, dy,
+                new RenderingHints(SVGRenderingHints.KEY_PATTERN_TILE_CACHE, useCache
+                        ? SVGRenderingHints.VALUE_PATTERN_TILE_CACHE_ON
+                        : SVGRenderingHints.VALUE_PATTERN_TILE_CACHE_OFF));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.RenderTestUtil.load;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.renderer.awt.NullPlatformSupport;
+
+class RegionOfInterestTest {
+    private static final int SIZE = 200;
+
+    @Test
+    void clippedRenderMatchesFullRender() {
+        Rectangle[] clips = {
+                new Rectangle(66, 66, 50, 40),
+                new Rectangle(0, 0, 100, 100),
+                new Rectangle(100, 50, 100, 25),
+                new Rectangle(150, 10, 1, 1)
+        };
+        for (String path : new String[] {"filter/regionOfInterest.svg", "filter/offset.svg",
+                "filter/dropShadow.svg"}) {
+            SVGDocument document = load(path);
+            BufferedImage expected = render(document, null);
+            for (Rectangle clip : clips) {
+                BufferedImage actual = render(document, clip);
+                assertArrayEquals(
+                        expected.getRGB(clip.x, clip.y, clip.width, clip.height, null, 0, clip.width),
+                        actual.getRGB(clip.x, clip.y, clip.width, clip.height, null, 0, clip.width),
+                        path + " clipped to " + clip);
+            }
+        }
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, @Nullable Rectangle clip) {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        if (clip != null) g.clip(clip);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, null);
+        g.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.awt.NullPlatformSupport;
+
+/**
+ * Helpers for tests which compare the pixels of images rendered by JSVG itself.
+ */
+public final class RenderTestUtil {
+    private RenderTestUtil() {}
+
+    /**
+     * @param path the path of the document relative to the test resources of this package.
+     * @return the loaded document.
+     */
+    public static @NotNull SVGDocument load(@NotNull String path) {
+        return Objects.requireNonNull(new SVGLoader().load(
+                Objects.requireNonNull(RenderTestUtil.class.getResource(path), path)));
+    }
+
+    public static @NotNull SVGDocument loadString(@NotNull String svg) {
+        return Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    public static @NotNull BufferedImage render(@NotNull SVGDocument document, int size) {
+        return render(document, size, 0, 0, null);
+    }
+
+    /**
+     * Render the document antialiased into a square image.
+     *
+     * @param document the document.
+     * @param size the width and height of the image.
+     * @param dx the horizontal translation of the document.
+     * @param dy the vertical translation of the document.
+     * @param hints additional rendering hints.
+     * @return the image.
+     */
+    public static @NotNull BufferedImage render(@NotNull SVGDocument document, int size, double dx, double dy,
+            @Nullable RenderingHints hints) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        if (hints != null) g.addRenderingHints(hints);
+        g.translate(dx, dy);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, null);
+        g.dispose();
+        return image;
+    }
+
+    public static void assertPixelsEqual(@NotNull BufferedImage expected, @NotNull BufferedImage actual,
+            @NotNull String message) {
+        int w = expected.getWidth();
+        int h = expected.getHeight();
+        assertArrayEquals(expected.getRGB(0, 0, w, h, null, 0, w), actual.getRGB(0, 0, w, h, null, 0, w), message);
+    }
+}
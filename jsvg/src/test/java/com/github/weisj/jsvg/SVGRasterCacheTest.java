@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.RenderTestUtil.load;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.ViewBox;
+
+class SVGRasterCacheTest {
+
+    @Test
+    void cachesImages() {
+        SVGDocument document = load("icons/image.svg");
+        SVGRasterCache cache = new SVGRasterCache(1 << 20);
+        ViewBox bounds = new ViewBox(16, 16);
+
+        BufferedImage first = cache.getImage(document, bounds, 2);
+        assertEquals(32, first.getWidth());
+        assertEquals(32, first.getHeight());
+        assertSame(first, cache.getImage(document, new ViewBox(16, 16), 2));
+        assertNotSame(first, cache.getImage(document, bounds, 1));
+
+        SVGRasterCache.Statistics statistics = cache.statistics();
+        assertEquals(1, statistics.hitCount());
+        assertEquals(2, statistics.missCount());
+        assertEquals(2, statistics.size());
+        assertEquals((32 * 32 + 16 * 16) * 4, statistics.currentBytes());
+
+        cache.invalidate(document);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.currentBytes());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        SVGDocument document = load("icons/image.svg");
+        // Room for exactly two 16x16 images.
+        SVGRasterCache cache = new SVGRasterCache(2 * 16 * 16 * 4);
+        BufferedImage a = cache.getImage(document, new ViewBox(16, 16), 1);
+        BufferedImage b = cache.getImage(document, new ViewBox(0, 0, 16, 16), 1);
+        assertSame(a, b);
+        BufferedImage c = cache.getImage(document, new ViewBox(8, 8), 2);
+        assertSame(a, cache.getImage(document, new ViewBox(16, 16), 1));
+
+        cache.getImage(document, new ViewBox(4, 4), 4);
+        assertEquals(1, cache.statistics().evictionCount());
+        assertEquals(2, cache.size());
+        assertSame(a, cache.getImage(document, new ViewBox(16, 16), 1));
+        assertNotSame(c, cache.getImage(document, new ViewBox(8, 8), 2));
+    }
+
+    @Test
+    void doesNotCacheOversizedImages() {
+        SVGDocument document = load("icons/image.svg");
+        SVGRasterCache cache = new SVGRasterCache(16);
+        cache.getImage(document, new ViewBox(16, 16), 1);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.currentBytes());
+    }
+}
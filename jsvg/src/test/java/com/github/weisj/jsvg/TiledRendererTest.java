@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.ReferenceTest.ReferenceTestResult.SUCCESS;
+import static com.github.weisj.jsvg.RenderTestUtil.load;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.ViewBox;
+
+class TiledRendererTest {
+
+    @Test
+    void tiledRenderingMatchesFullRendering() {
+        assertEquals(SUCCESS, compareTiled("icons/image.svg"));
+        assertEquals(SUCCESS, compareTiled("mask/mask1.svg"));
+        assertEquals(SUCCESS, compareTiled("filter/blur.svg"));
+        assertEquals(SUCCESS, compareTiled("filter/dropShadow.svg"));
+    }
+
+    @Test
+    void invalidArguments() {
+        SVGDocument document = load("icons/image.svg");
+        assertThrows(IllegalArgumentException.class, () -> new TiledRenderer(document, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new TiledRenderer(document, 16, -1, null));
+        assertThrows(IllegalArgumentException.class, () -> document.renderTiled(0, 10));
+    }
+
+    private static @NotNull ReferenceTest.ReferenceTestResult compareTiled(@NotNull String path) {
+        SVGDocument document = load(path);
+        int width = (int) document.size().width * 2;
+        int height = (int) document.size().height * 2;
+
+        BufferedImage expected = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = expected.createGraphics();
+        g.addRenderingHints(ReferenceTest.referenceHintSet());
+        document.render((Component) null, g, new ViewBox(width, height));
+        g.dispose();
+
+        BufferedImage actual = new TiledRenderer(document, 48, null)
+                .render(width, height, ReferenceTest.referenceHintSet(), null);
+        // Anti-aliasing of shapes may differ slightly along the tile boundaries.
+        return ReferenceTest.compareImageRasterization(expected, actual, path, 0.5, 0.5);
+    }
+}
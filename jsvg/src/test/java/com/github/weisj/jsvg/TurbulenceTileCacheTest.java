@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static com.github.weisj.jsvg.RenderTestUtil.assertPixelsEqual;
+import static com.github.weisj.jsvg.RenderTestUtil.load;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.nodes.filter.TurbulenceTileCache;
+
+class TurbulenceTileCacheTest {
+    private static final int SIZE = 200;
+
+    @Test
+    void disabledByDefault() {
+        SVGDocument document = load("filter/turbulence2.svg");
+        render(document, 0, 0, false);
+        assertEquals(0, document.turbulenceTileCache().size());
+    }
+
+    @Test
+    void reusesTilesOfPreviousRender() {
+        for (String path : new String[] {"filter/turbulence1.svg", "filter/turbulence2.svg",
+                "filter/turbulence3.svg"}) {
+            SVGDocument document = load(path);
+            TurbulenceTileCache cache = document.turbulenceTileCache();
+            BufferedImage expected = render(document, 0, 0, false);
+
+            assertPixelsEqual(expected, render(document, 0, 0, true), path);
+            long misses = cache.missCount();
+            long hits = cache.hitCount();
+            assertTrue(cache.size() > 0, path);
+
+            assertPixelsEqual(expected, render(document, 0, 0, true), path);
+            assertEquals(misses + hits, cache.hitCount(), path);
+            assertEquals(misses, cache.missCount(), path);
+        }
+    }
+
+    @Test
+    void reusesTilesForWholePixelTranslation() {
+        SVGDocument document = load("filter/turbulence2.svg");
+        TurbulenceTileCache cache = document.turbulenceTileCache();
+        render(document, 0, 0, true);
+        long misses = cache.missCount();
+
+        for (int[] offset : new int[][] {{5, 11}, {-37, -23}}) {
+            BufferedImage expected = render(document, offset[0], offset[1], false);
+            assertPixelsEqual(expected, render(document, offset[0], offset[1], true), "translated");
+            assertEquals(misses, cache.missCount());
+        }
+
+        render(document, 0.25, 0, true);
+        assertTrue(cache.missCount() > misses);
+    }
+
+    @Test
+    void clearReleasesTiles() {
+        SVGDocument document = load("filter/turbulence2.svg");
+        render(document, 0, 0, true);
+        assertTrue(document.turbulenceTileCache().currentBytes() > 0);
+        document.clearTurbulenceTileCache();
+        assertEquals(0, document.turbulenceTileCache().size());
+        assertEquals(0, document.turbulenceTileCache().currentBytes());
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, double dx, double dy,
+            boolean useCache) {
+        return RenderTestUtil.render(document, SIZE, dx, dy,
+                new RenderingHints(SVGRenderingHints.KEY_TURBULENCE_TILE_CACHE, useCache
+                        ? SVGRenderingHints.VALUE_TURBULENCE_TILE_CACHE_ON
+                        : SVGRenderingHints.VALUE_TURBULENCE_TILE_CACHE_OFF));
+    }
+}
@@ -58,6 +58,34 @@ class FontTest {
         Assertions.assertSame(font1, font2);
     }
 
+    @Test
+    void cachedFontShouldBeUsedForUnrelatedMeasureContexts() {
+        MeasurableFontSpec fontSpec = createFontSpec(
+                entry("font-family", "sans-serif"),
+                entry("font-size", "2em"));
+        SVGFont font1 = FontResolver.resolve(fontSpec, MEASURE_CONTEXT);
+        SVGFont font2 = FontResolver.resolve(fontSpec, MEASURE_CONTEXT.derive(300, 50));
+        Assertions.assertSame(font1, font2);
+        Assertions.assertEquals(1, FontResolver.fontCacheSize());
+        Assertions.assertEquals(1, FontResolver.fontCacheHitCount());
+        Assertions.assertEquals(1, FontResolver.fontCacheMissCount());
+
+        SVGFont font3 = FontResolver.resolve(fontSpec, MEASURE_CONTEXT.derive(null, 10, 5));
+        Assertions.assertNotSame(font1, font3);
+        Assertions.assertEquals(2 * 10, font3.size());
+        Assertions.assertEquals(2, FontResolver.fontCacheSize());
+    }
+
+    @Test
+    void fontCacheShouldBeBounded() {
+        int maximumSize = FontResolver.maximumFontCacheSize();
+        for (int i = 1; i <= maximumSize + 10; i++) {
+            FontResolver.resolve(createFontSpec(entry("font-size", String.valueOf(i))), MEASURE_CONTEXT);
+        }
+        Assertions.assertEquals(maximumSize, FontResolver.fontCacheSize());
+        Assertions.assertEquals(maximumSize + 10, FontResolver.fontCacheMissCount());
+    }
+
     @Test
     void checkFontParsing() {
         String fontName = FontResolver.supportedFonts().get(0);
@@ -21,6 +21,12 @@
  */
 package com.github.weisj.jsvg.geometry.path;
 
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +59,46 @@ class PathParserTest {
         Assertions.assertEquals(5, cmds.length);
         Assertions.assertEquals(6, cmds[1].nodeCount());
     }
+
+    @Test
+    void testDirectPathMatchesCommands() {
+        String[] paths = {
+                "M0 0 L 1e5.5",
+                "M10 10 20 20 l5 5 H 3 h-2 V 7 v1.5 Z",
+                "m1.5.5 q1 2 3 4 t5 6 T 1 1 Q 0 0 2 2 z m 3 3 c1 2 3 4 5 6 s 1 2 3 4 S 8 8 9 9 C 0 0 1 1 2 2",
+                "M0 0 a1 2 3 10 6 7 1 2 3 10 6 7 A 5 5 0 0 0 20 20 a 0 5 0 0 1 3 3 z l 1 1",
+                "M 10 10 L 20",
+                "L 5 5",
+                "M 1 1 L 2 2 X 3 3",
+                "M-1-2-3-4.5.5 00 1e-3 2E+2 -.25 +.75",
+                "none",
+                ""
+        };
+        for (String data : paths) {
+            Path2D commandPath = new Path2D.Float();
+            BuildHistory hist = new BuildHistory();
+            for (PathCommand command : new PathParser(data).parsePathCommand()) {
+                command.appendPath(commandPath, hist);
+            }
+            Path2D directPath = new Path2D.Float();
+            new PathParser(data).appendPath(directPath);
+            Assertions.assertEquals(segments(commandPath), segments(directPath), data);
+        }
+    }
+
+    private static @NotNull List<Float> segments(@NotNull Path2D path) {
+        List<Float> result = new ArrayList<>();
+        float[] coords = new float[6];
+        for (PathIterator it = path.getPathIterator(null); !it.isDone(); it.next()) {
+            int type = it.currentSegment(coords);
+            result.add((float) type);
+            int count = type == PathIterator.SEG_CUBICTO ? 6
+                    : type == PathIterator.SEG_QUADTO ? 4
+                            : type == PathIterator.SEG_CLOSE ? 0 : 2;
+            for (int i = 0; i < count; i++) {
+                result.add(coords[i]);
+            }
+        }
+        return result;
+    }
 }
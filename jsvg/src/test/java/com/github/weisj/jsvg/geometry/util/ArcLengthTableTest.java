@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.geometry.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.QuadCurve2D;
+
+import org.junit.jupiter.api.Test;
+
+class ArcLengthTableTest {
+    private static final double EPS = 1e-6;
+
+    @Test
+    void lookupMatchesSequentialWalk() {
+        Path2D path = new Path2D.Float();
+        path.moveTo(0, 0);
+        path.lineTo(10, 0);
+        path.lineTo(10, 20);
+        // Moves don't contribute to the length.
+        path.moveTo(50, 50);
+        path.lineTo(50, 40);
+
+        ArcLengthTable table = ArcLengthTable.create(path.getPathIterator(null));
+        assertEquals(3, table.segmentCount());
+        assertEquals(40, table.length(), EPS);
+
+        assertPoint(table, 5, 5, 0);
+        assertPoint(table, 20, 10, 10);
+        assertPoint(table, 35, 50, 45);
+
+        // Boundaries belong to the earlier segment.
+        assertEquals(0, table.segmentAt(10));
+        assertEquals(1, table.segmentAt(30));
+        assertEquals(Math.PI / 2, table.tangentAngle(table.segmentAt(20)), EPS);
+
+        // Positions outside the path are extrapolated along the first and last segment.
+        assertPoint(table, -5, -5, 0);
+        assertPoint(table, 45, 50, 35);
+    }
+
+    @Test
+    void lengthAgreesWithFlattenedCurve() {
+        QuadCurve2D curve = new QuadCurve2D.Double(0, 0, 50, 100, 100, 0);
+        ArcLengthTable table = ArcLengthTable.create(curve.getPathIterator(null, 0.01));
+        assertEquals(GeometryUtil.pathLength(curve), table.length(), 0.1);
+
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < table.segmentCount(); i++) {
+            assertTrue(table.segmentStart(i) >= previous);
+            previous = table.segmentStart(i);
+            assertEquals(i, table.segmentAt(table.segmentStart(i) + table.segmentLength(i) / 2));
+        }
+    }
+
+    @Test
+    void emptyPathHasSingleEmptySegment() {
+        Path2D path = new Path2D.Float();
+        path.moveTo(3, 4);
+        ArcLengthTable table = ArcLengthTable.create(path.getPathIterator(null));
+        assertEquals(1, table.segmentCount());
+        assertEquals(0, table.length());
+        assertPoint(table, 0, 3, 4);
+        assertPoint(table, 10, 3, 4);
+    }
+
+    private static void assertPoint(ArcLengthTable table, double distance, double x, double y) {
+        int segment = table.segmentAt(distance);
+        assertEquals(x, table.xAt(segment, distance), EPS, "x at " + distance);
+        assertEquals(y, table.yAt(segment, distance), EPS, "y at " + distance);
+    }
+}
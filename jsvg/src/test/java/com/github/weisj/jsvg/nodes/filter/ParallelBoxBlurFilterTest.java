@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.WritableRaster;
+import java.util.Random;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+class ParallelBoxBlurFilterTest {
+
+    @Test
+    void matchesSerialBoxBlur() {
+        Random random = new Random(0);
+        // Includes images large enough to be split across multiple tasks.
+        int[][] sizes = {{1, 1}, {7, 300}, {300, 7}, {129, 257}, {512, 384}};
+        for (int[] size : sizes) {
+            for (int diameter : new int[] {1, 4, 5, 30, 57}) {
+                BufferedImage expected = createImage(size[0], size[1], random.nextLong());
+                BufferedImage actual = new BufferedImage(expected.getColorModel(), expected.copyData(null),
+                        true, null);
+
+                serialBlur(expected.getRaster(), diameter, true);
+                serialBlur(expected.getRaster(), diameter, false);
+                ParallelBoxBlurFilter.horizontalBlur(actual.getRaster(), diameter);
+                ParallelBoxBlurFilter.verticalBlur(actual.getRaster(), diameter);
+
+                assertArrayEquals(data(expected), data(actual),
+                        size[0] + "x" + size[1] + " diameter=" + diameter);
+            }
+        }
+    }
+
+    @Test
+    void blursSubRaster() {
+        BufferedImage expected = createImage(300, 200, 1);
+        BufferedImage actual = new BufferedImage(expected.getColorModel(), expected.copyData(null), true, null);
+
+        WritableRaster expectedChild = expected.getRaster().createWritableChild(10, 20, 250, 150, 0, 0, null);
+        serialBlur(expectedChild, 12, true);
+        serialBlur(expectedChild, 12, false);
+        WritableRaster actualChild = actual.getRaster().createWritableChild(10, 20, 250, 150, 0, 0, null);
+        ParallelBoxBlurFilter.horizontalBlur(actualChild, 12);
+        ParallelBoxBlurFilter.verticalBlur(actualChild, 12);
+
+        assertArrayEquals(data(expected), data(actual));
+    }
+
+    private static void serialBlur(@NotNull WritableRaster raster, int d, boolean horizontal) {
+        int[] boxSizes = (d & 0x01) == 0 ? new int[] {d, d, d + 1} : new int[] {d, d, d};
+        int[] locations = (d & 0x01) == 0 ? new int[] {d / 2, d / 2 - 1, d / 2} : new int[] {d / 2, d / 2, d / 2};
+        for (int i = 0; i < boxSizes.length; i++) {
+            if (horizontal) {
+                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, boxSizes[i], locations[i]);
+            } else {
+                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, boxSizes[i], locations[i]);
+            }
+        }
+    }
+
+    private static @NotNull BufferedImage createImage(int width, int height, long seed) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Random random = new Random(seed);
+        int[] data = data(image);
+        for (int i = 0; i < data.length; i++) {
+            int a = random.nextInt(256);
+            // Runs of equal pixels exercise the shortcut for unchanged sums.
+            data[i] = i > 0 && random.nextInt(3) == 0
+                    ? data[i - 1]
+                    : (a << 24) | (random.nextInt(a + 1) << 16) | (random.nextInt(a + 1) << 8) | random.nextInt(a + 1);
+        }
+        return image;
+    }
+
+    private static int @NotNull [] data(@NotNull BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static com.github.weisj.jsvg.RenderTestUtil.assertPixelsEqual;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+
+import org.junit.jupiter.api.Test;
+
+class TurbulenceChannelTest {
+    private static final int WIDTH = 300;
+    private static final int HEIGHT = 200;
+    private static final Rectangle2D TILE = new Rectangle2D.Double(10, 20, 150, 100);
+
+    @Test
+    void generatedNoiseMatchesPointwiseEvaluation() {
+        for (FeTurbulence.Type type : FeTurbulence.Type.values()) {
+            // Large enough to be generated by multiple tasks.
+            Rectangle region = new Rectangle(20, 30, 250, 150);
+            BufferedImage image = new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT, region,
+                    3, 4, 0.05, 0.08, type, null).ensureImageBackingStore();
+            // Without a region every point is evaluated directly.
+            FeTurbulence.TurbulenceChannel pointwise = new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT,
+                    new Rectangle(), 3, 4, 0.05, 0.08, type, null);
+            ColorModel cm = image.getColorModel();
+            double scaleX = TILE.getWidth() / WIDTH;
+            double scaleY = TILE.getHeight() / HEIGHT;
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    int actual = image.getRaster().getDataBuffer().getElem(y * WIDTH + x);
+                    int expected = region.contains(x, y)
+                            ? cm.getRGB(pointwise.pixelAt(TILE.getX() + x * scaleX, TILE.getY() + y * scaleY))
+                            : 0;
+                    assertEquals(expected, actual, type + " at " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void pixelAtReusesGeneratedNoise() {
+        Rectangle region = new Rectangle(0, 0, WIDTH, HEIGHT);
+        FeTurbulence.TurbulenceChannel generated = new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT,
+                region, 5, 3, 0.04, 0.04, FeTurbulence.Type.fractalNoise, null);
+        FeTurbulence.TurbulenceChannel pointwise = new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT,
+                new Rectangle(), 5, 3, 0.04, 0.04, FeTurbulence.Type.fractalNoise, null);
+        double scaleX = TILE.getWidth() / WIDTH;
+        double scaleY = TILE.getHeight() / HEIGHT;
+        for (int y = 0; y < HEIGHT; y += 7) {
+            for (int x = 0; x < WIDTH; x += 3) {
+                double pointX = TILE.getX() + x * scaleX;
+                double pointY = TILE.getY() + y * scaleY;
+                assertEquals(pointwise.pixelAt(pointX, pointY), generated.pixelAt(pointX, pointY));
+                // Points off the pixel grid are evaluated directly.
+                assertEquals(pointwise.pixelAt(pointX + scaleX / 3, pointY),
+                        generated.pixelAt(pointX + scaleX / 3, pointY));
+            }
+        }
+    }
+
+    @Test
+    void reusesGeneratedTiles() {
+        TurbulenceTileCache cache = new TurbulenceTileCache(TurbulenceTileCache.DEFAULT_MAXIMUM_BYTES);
+        Rectangle region = new Rectangle(0, 0, WIDTH, HEIGHT);
+        BufferedImage expected = new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT,
+                region, 7, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence, null).ensureImageBackingStore();
+        FeTurbulence.TurbulenceChannel first = new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT,
+                region, 7, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence, cache);
+        assertPixelsEqual(expected, first.ensureImageBackingStore(), "first");
+        int tiles = cache.size();
+        assertEquals(tiles, cache.missCount());
+
+        FeTurbulence.TurbulenceChannel second = new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT,
+                region, 7, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence, cache);
+        assertPixelsEqual(expected, second.ensureImageBackingStore(), "second");
+        assertEquals(tiles, cache.hitCount());
+
+        FeTurbulence.TurbulenceChannel otherSeed = new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT,
+                region, 8, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence, cache);
+        otherSeed.ensureImageBackingStore();
+        assertEquals(2 * tiles, cache.size());
+    }
+
+    @Test
+    void reusesTilesOnTheSamePixelGrid() {
+        TurbulenceTileCache cache = new TurbulenceTileCache(TurbulenceTileCache.DEFAULT_MAXIMUM_BYTES);
+        new FeTurbulence.TurbulenceChannel(TILE, WIDTH, HEIGHT, new Rectangle(0, 0, WIDTH, HEIGHT),
+                7, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence, cache).ensureImageBackingStore();
+        long misses = cache.missCount();
+
+        // The image moved by a whole number of pixels with only a part of it being visible.
+        double scaleX = TILE.getWidth() / WIDTH;
+        double scaleY = TILE.getHeight() / HEIGHT;
+        Rectangle2D moved = new Rectangle2D.Double(TILE.getX() + 13 * scaleX, TILE.getY() - 5 * scaleY,
+                TILE.getWidth(), TILE.getHeight());
+        Rectangle visible = new Rectangle(0, 10, WIDTH / 2, HEIGHT / 3);
+        BufferedImage expected = new FeTurbulence.TurbulenceChannel(moved, WIDTH, HEIGHT, visible,
+                7, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence, null).ensureImageBackingStore();
+        BufferedImage actual = new FeTurbulence.TurbulenceChannel(moved, WIDTH, HEIGHT, visible,
+                7, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence, cache).ensureImageBackingStore();
+        assertPixelsEqual(expected, actual, "moved");
+        assertEquals(misses, cache.missCount());
+
+        Rectangle2D shifted = new Rectangle2D.Double(TILE.getX() + scaleX / 2, TILE.getY(),
+                TILE.getWidth(), TILE.getHeight());
+        new FeTurbulence.TurbulenceChannel(shifted, WIDTH, HEIGHT, visible,
+                7, 2, 0.1, 0.1, FeTurbulence.Type.Turbulence, cache).ensureImageBackingStore();
+        assertTrue(cache.missCount() > misses);
+    }
+
+    @Test
+    void cacheIsBounded() {
+        TurbulenceTileCache cache = new TurbulenceTileCache(4 * 100);
+        for (int i = 0; i < 3; i++) {
+            cache.putIfAbsent(key(i), new int[50]);
+        }
+        assertEquals(2, cache.size());
+        assertNull(cache.get(key(0)));
+        assertNotNull(cache.get(key(1)));
+
+        cache.putIfAbsent(key(3), new int[101]);
+        assertNull(cache.get(key(3)));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    private static TurbulenceTileCache.Key key(int column) {
+        return new TurbulenceTileCache.Key(1, 1, 0.1, 0.1, FeTurbulence.Type.fractalNoise,
+                new FeTurbulence.PixelGrid(0.5, 0.5, 0, 0), column, 0);
+    }
+}
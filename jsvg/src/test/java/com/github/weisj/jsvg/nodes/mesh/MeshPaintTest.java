@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.mesh;
+
+import static com.github.weisj.jsvg.RenderTestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.SVGDocument;
+
+class MeshPaintTest {
+    private static final int SIZE = 64;
+
+    @Test
+    void leavesAreRasterizedLikeRectangleFills() {
+        Random random = new Random(42);
+        for (Object strokeControl : new Object[] {RenderingHints.VALUE_STROKE_NORMALIZE,
+                RenderingHints.VALUE_STROKE_PURE}) {
+            for (int i = 0; i < 100; i++) {
+                AffineTransform transform = AffineTransform.getScaleInstance(
+                        0.5 + 3 * random.nextDouble(), 0.5 + 3 * random.nextDouble());
+                transform.translate(random.nextDouble() * 4, random.nextDouble() * 4);
+                double offsetX = random.nextDouble() * 3;
+                double offsetY = random.nextDouble() * 3;
+
+                MeshGeometry.Builder builder = new MeshGeometry.Builder(1, 1);
+                BufferedImage expected = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g = createGraphics(expected, strokeControl, transform);
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+                g.translate(offsetX, offsetY);
+                for (int j = 0; j < 10; j++) {
+                    float x = 10 * random.nextFloat();
+                    float y = 10 * random.nextFloat();
+                    float w = 3 * random.nextFloat();
+                    float h = 3 * random.nextFloat();
+                    // Note: Overlapping translucent leaves are not blended with each other.
+                    int argb = random.nextInt() | 0xFF000000;
+                    builder.addLeaf(x, y, x + w, y + h, argb);
+                    g.setColor(new Color(argb, true));
+                    g.fill(new Rectangle2D.Float(x, y, w, h));
+                }
+                g.dispose();
+
+                BufferedImage actual = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+                g = createGraphics(actual, strokeControl, transform);
+                g.setPaint(new MeshPaint(builder.build(), offsetX, offsetY));
+                g.fillRect(-SIZE, -SIZE, 3 * SIZE, 3 * SIZE);
+                g.dispose();
+
+                assertPixelsEqual(expected, actual, strokeControl + " " + transform);
+            }
+        }
+    }
+
+    @Test
+    void geometryBoundsContainAllLeaves() {
+        MeshGeometry.Builder builder = new MeshGeometry.Builder(2, 3);
+        builder.addLeaf(1, 2, 3, 4, 0);
+        builder.addLeaf(-1, 3, 2, 7, 0);
+        MeshGeometry geometry = builder.build();
+        assertEquals(2, geometry.leafCount());
+        assertEquals(new Rectangle2D.Float(-1, 2, 4, 5), geometry.bounds());
+        assertTrue(geometry.isFor(2, 3));
+        assertFalse(geometry.isFor(3, 2));
+    }
+
+    @Test
+    void cachedMeshRendersIdentically() {
+        for (String path : new String[] {"mesh.svg", "mesh2.svg", "mesh3.svg", "mesh4.svg"}) {
+            SVGDocument document = load("mesh/" + path);
+            BufferedImage first = render(document, 4 * SIZE);
+            assertPixelsEqual(first, render(document, 4 * SIZE), path);
+        }
+    }
+
+    private static @NotNull Graphics2D createGraphics(@NotNull BufferedImage image, @NotNull Object strokeControl,
+            @NotNull AffineTransform transform) {
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, strokeControl);
+        g.transform(transform);
+        return g;
+    }
+}
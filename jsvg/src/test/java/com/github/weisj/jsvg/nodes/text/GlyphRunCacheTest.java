@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.text;
+
+import static com.github.weisj.jsvg.RenderTestUtil.assertPixelsEqual;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.RenderTestUtil;
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.attributes.font.AWTSVGFont;
+import com.github.weisj.jsvg.attributes.font.FontResolver;
+
+class GlyphRunCacheTest {
+    private static final int SIZE = 200;
+
+    @Test
+    void cachedLayoutMatchesFreshLayout() {
+        for (String path : new String[] {"text0.svg", "text1.svg", "text2.svg", "text3.svg", "textAnchor.svg",
+                "letterSpacing.svg", "lengthAdjust.svg", "textLength.svg", "textLengthPath.svg",
+                "dominantBaseline.svg"}) {
+            SVGDocument document = load(path);
+            GlyphRunCache.shared().clear();
+            BufferedImage expected = render(document);
+            assertPixelsEqual(expected, render(document), path);
+            // Documents loaded separately share their layouts.
+            assertPixelsEqual(expected, render(load(path)), path);
+        }
+    }
+
+    @Test
+    void reusesLayoutOfStaticText() {
+        GlyphRunCache cache = GlyphRunCache.shared();
+        cache.clear();
+        SVGDocument document = load("text0.svg");
+        render(document);
+        int size = cache.size();
+        assertTrue(size > 0);
+        render(document);
+        assertEquals(size, cache.size());
+    }
+
+    @Test
+    void clearFontCacheReleasesLayouts() {
+        render(load("text0.svg"));
+        assertTrue(GlyphRunCache.shared().size() > 0);
+        FontResolver.clearFontCache();
+        assertEquals(0, GlyphRunCache.shared().size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedLayouts() {
+        GlyphRunCache cache = new GlyphRunCache(4);
+        GlyphRunCache.Key first = key("ab", 0);
+        GlyphRunCache.Key second = key("cd", 0);
+        GlyphRunCache.Key third = key("ef", 0);
+        cache.put(first, layout());
+        cache.put(second, layout());
+        assertNotNull(cache.get(first));
+        cache.put(third, layout());
+        assertNotNull(cache.get(first));
+        assertNull(cache.get(second));
+        assertNotNull(cache.get(third));
+        // Runs exceeding the whole cache are not cached.
+        cache.put(key("abcde", 0), layout());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void fontsShareGlyphs() {
+        Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+        AWTSVGFont first = new AWTSVGFont(font);
+        AWTSVGFont second = new AWTSVGFont(font.deriveFont(12f));
+        assertEquals(first, second);
+        assertSame(first.codepointGlyph("a"), second.codepointGlyph("a"));
+        assertNotSame(first.codepointGlyph("a"),
+                new AWTSVGFont(font.deriveFont(13f)).codepointGlyph("a"));
+    }
+
+    private static @NotNull GlyphRunCache.Key key(@NotNull String text, float x) {
+        List<String> codepoints = new ArrayList<>();
+        for (char c : text.toCharArray()) {
+            codepoints.add(String.valueOf(c));
+        }
+        return new GlyphRunCache.Key(codepoints, new AWTSVGFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12)), 0,
+                GlyphAdvancement.defaultAdvancement(), false, 0, x, 0);
+    }
+
+    private static @NotNull GlyphRunCache.Layout layout() {
+        return new GlyphRunCache.Layout(new GlyphRun(new Rectangle(), Collections.emptyList()), 0, 0, 0);
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document) {
+        return RenderTestUtil.render(document, SIZE);
+    }
+
+    private static @NotNull SVGDocument load(@NotNull String path) {
+        return RenderTestUtil.load("text/" + path);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.attributes.ViewBox;
+import com.github.weisj.jsvg.geometry.size.FloatSize;
+
+class XMLReaderModeTest {
+
+    private static final String[] DOCUMENTS = {
+            "../test.svg",
+            "../svg_logo.svg",
+            "../text/text0.svg",
+            "../text/letterSpacing.svg",
+            "../css/brokenUpCharContent.svg",
+            "../css/multipleStyleSheets.svg",
+            "../css/selectorTypes.svg",
+            "../href/gradientForwardReference.svg",
+            "../filter/blur.svg",
+            "../mask/mask1.svg",
+            "../pattern/pattern.svg"
+    };
+
+    @Test
+    void cursorReaderMatchesEventReader() throws Exception {
+        for (String path : DOCUMENTS) {
+            URL url = Objects.requireNonNull(XMLReaderModeTest.class.getResource(path), path);
+            SVGDocument eventDocument = load(url, XMLReaderMode.EVENT);
+            SVGDocument cursorDocument = load(url, XMLReaderMode.CURSOR);
+            assertNotNull(eventDocument, path);
+            assertNotNull(cursorDocument, path);
+            assertArrayEquals(render(eventDocument), render(cursorDocument), path);
+        }
+    }
+
+    @Test
+    void foreignElementsAreSkipped() throws Exception {
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:x=\"http://example.com\""
+                + " width=\"10\" height=\"20\">"
+                + "<x:foo><rect width=\"5\" height=\"5\"/></x:foo>"
+                + "<![CDATA[text]]>"
+                + "</svg>";
+        SVGDocument document = new StaxSVGLoader(new NodeSupplier()).load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.builder().xmlReaderMode(XMLReaderMode.CURSOR).build());
+        assertNotNull(document);
+        assertEquals(new FloatSize(10, 20), document.size());
+    }
+
+    private static SVGDocument load(@NotNull URL url, @NotNull XMLReaderMode mode) throws Exception {
+        try (InputStream stream = url.openStream()) {
+            return new StaxSVGLoader(new NodeSupplier()).load(stream, url.toURI(),
+                    LoaderContext.builder().xmlReaderMode(mode).build());
+        }
+    }
+
+    private static int @NotNull [] render(@NotNull SVGDocument document) {
+        int width = 100;
+        int height = 100;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        document.render(null, g, new ViewBox(0, 0, width, height));
+        g.dispose();
+        return image.getRGB(0, 0, width, height, null, 0, width);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import static com.github.weisj.jsvg.RenderTestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.SVGDocument;
+
+class MarkerInstancingTest {
+    private static final int SIZE = 100;
+
+    @Test
+    void replayedDrawingMatchesDirectRendering() {
+        DisplayListOutput recorder = new DisplayListOutput(null);
+        record(recorder);
+        RecordedDrawing drawing = recorder.toRecordedDrawing();
+        assertFalse(drawing.isDeviceDependent());
+
+        for (AffineTransform transform : new AffineTransform[] {
+                AffineTransform.getTranslateInstance(20, 30),
+                AffineTransform.getRotateInstance(0.7, 50, 50),
+                new AffineTransform(1.5, 0.2, -0.3, 0.8, 12.5, 7.25)}) {
+            BufferedImage expected = createImage();
+            Graphics2D g = expected.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.transform(transform);
+            record(new Graphics2DOutput(g));
+            g.dispose();
+
+            BufferedImage actual = createImage();
+            g = actual.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            Output output = new Graphics2DOutput(g);
+            drawing.paint(output, transform);
+            output.dispose();
+
+            assertPixelsEqual(expected, actual, transform.toString());
+        }
+    }
+
+    @Test
+    void markersArePaintedAtEveryVertex() {
+        SVGDocument document = loadString("<svg xmlns='http://www.w3.org/2000/svg' width='100' height='100'>"
+                + "<defs><marker id='m' viewBox='0 0 10 10' refX='5' refY='5' markerWidth='2' markerHeight='2'>"
+                + "<circle cx='5' cy='5' r='5' fill='context-stroke'/></marker></defs>"
+                + "<polyline points='10,10 30,10 50,10 70,10 90,10' stroke='red' stroke-width='4'"
+                + " marker-start='url(#m)' marker-mid='url(#m)' marker-end='url(#m)'/>"
+                + "<polyline points='10,60 30,60 50,60 70,60 90,60' stroke='blue' stroke-width='4'"
+                + " marker-start='url(#m)' marker-mid='url(#m)' marker-end='url(#m)'/>"
+                + "</svg>");
+        BufferedImage image = createImage();
+        Graphics2D g = image.createGraphics();
+        document.render(null, g);
+        g.dispose();
+        for (int x = 10; x <= 90; x += 20) {
+            // The marker extends beyond the stroke.
+            assertEquals(Color.RED.getRGB(), image.getRGB(x, 12), "x = " + x);
+            assertEquals(Color.BLUE.getRGB(), image.getRGB(x, 62), "x = " + x);
+        }
+        assertEquals(0, image.getRGB(20, 12));
+        assertEquals(0, image.getRGB(20, 62));
+    }
+
+    private static void record(@NotNull Output output) {
+        Output.SafeState safeState = output.safeState();
+        output.setPaint(new Color(200, 50, 30));
+        output.fillShape(new Ellipse2D.Float(5, 5, 20, 15));
+        output.setStroke(new BasicStroke(2));
+        output.setPaint(new Color(0, 0, 255, 128));
+        output.drawShape(new Rectangle2D.Float(10, 8, 12, 9));
+        Output child = output.createChild();
+        child.applyClip(new Rectangle2D.Float(0, 0, 15, 30));
+        child.applyOpacity(0.5f);
+        child.translate(3, 4);
+        child.setPaint(Color.GREEN);
+        child.fillShape(new Rectangle2D.Float(0, 0, 30, 20));
+        child.dispose();
+        safeState.restore();
+    }
+
+    private static @NotNull BufferedImage createImage() {
+        return new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.PaintContext;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.Raster;
+import java.util.Random;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.util.ColorUtil;
+
+class MaskedPaintTest {
+    private static final Rectangle DEVICE_BOUNDS = new Rectangle(0, 0, 200, 150);
+
+    @Test
+    void masksStraightAlphaPaint() {
+        Paint paint = new GradientPaint(0, 0, new Color(255, 0, 0, 200), 150, 100, new Color(0, 0, 255, 50));
+        assertMasked(paint);
+    }
+
+    @Test
+    void masksPremultipliedPaint() {
+        BufferedImage texture = new BufferedImage(17, 13, BufferedImage.TYPE_INT_ARGB_PRE);
+        Random random = new Random(0);
+        for (int y = 0; y < texture.getHeight(); y++) {
+            for (int x = 0; x < texture.getWidth(); x++) {
+                texture.setRGB(x, y, random.nextInt());
+            }
+        }
+        assertMasked(new TexturePaint(texture, new Rectangle(0, 0, 17, 13)));
+    }
+
+    private static void assertMasked(@NotNull Paint paint) {
+        BufferedImage mask = new BufferedImage(120, 90, BufferedImage.TYPE_BYTE_GRAY);
+        Random random = new Random(1);
+        for (int y = 0; y < mask.getHeight(); y++) {
+            for (int x = 0; x < mask.getWidth(); x++) {
+                // Include fully transparent and fully opaque spans.
+                int value = x < 20 ? 0 : x < 40 ? 255 : random.nextInt(256);
+                mask.getRaster().setSample(x, y, 0, value);
+            }
+        }
+        Point offset = new Point(30, 25);
+        MaskedPaint maskedPaint = new MaskedPaint(paint, mask.getRaster(), offset, null);
+
+        Rectangle[] areas = {
+                new Rectangle(0, 0, 64, 64),
+                new Rectangle(40, 30, 64, 64),
+                new Rectangle(100, 80, 64, 64),
+                new Rectangle(140, 100, 60, 50)
+        };
+        RenderingHints hints = new RenderingHints(null);
+        PaintContext parentContext = paint.createContext(null, DEVICE_BOUNDS, DEVICE_BOUNDS,
+                new AffineTransform(), hints);
+        PaintContext context = maskedPaint.createContext(null, DEVICE_BOUNDS, DEVICE_BOUNDS,
+                new AffineTransform(), hints);
+        ColorModel cm = context.getColorModel();
+        assertEquals(parentContext.getColorModel(), cm);
+        for (Rectangle area : areas) {
+            Raster parent = parentContext.getRaster(area.x, area.y, area.width, area.height);
+            int[] parentPixels = new int[area.width * area.height];
+            for (int j = 0; j < area.height; j++) {
+                for (int i = 0; i < area.width; i++) {
+                    parentPixels[j * area.width + i] = ((int[]) parent.getDataElements(
+                            parent.getMinX() + i, parent.getMinY() + j, null))[0];
+                }
+            }
+            Raster raster = context.getRaster(area.x, area.y, area.width, area.height);
+            assertTrue(raster.getWidth() >= area.width && raster.getHeight() >= area.height);
+            for (int j = 0; j < area.height; j++) {
+                for (int i = 0; i < area.width; i++) {
+                    int mx = area.x + i - offset.x;
+                    int my = area.y + j - offset.y;
+                    int luminance = mask.getRaster().getBounds().contains(mx, my)
+                            ? mask.getRaster().getSample(mx, my, 0)
+                            : 0;
+                    int expected = maskPixel(parentPixels[j * area.width + i], luminance,
+                            cm.isAlphaPremultiplied());
+                    int actual = ((int[]) raster.getDataElements(raster.getMinX() + i, raster.getMinY() + j,
+                            null))[0];
+                    String message = "Pixel at " + (area.x + i) + "," + (area.y + j);
+                    if ((expected >>> 24) == 0) {
+                        // The colour of fully transparent pixels is irrelevant.
+                        assertEquals(0, actual >>> 24, message);
+                    } else {
+                        assertEquals(expected, actual, message);
+                    }
+                }
+            }
+        }
+        context.dispose();
+        parentContext.dispose();
+    }
+
+    private static int maskPixel(int argb, int luminance, boolean premultiplied) {
+        int a = ColorUtil.div255(((argb >>> 24) & 0xFF) * luminance);
+        if (!premultiplied) return (a << 24) | (argb & 0x00FFFFFF);
+        int r = ColorUtil.div255(((argb >> 16) & 0xFF) * luminance);
+        int g = ColorUtil.div255(((argb >> 8) & 0xFF) * luminance);
+        int b = ColorUtil.div255((argb & 0xFF) * luminance);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.jdk;
+
+import static com.github.weisj.jsvg.RenderTestUtil.assertPixelsEqual;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+class GradientLookupTableTest {
+    private static final int SIZE = 100;
+    private static final Point2D START = new Point2D.Float(10, 20);
+    private static final Point2D END = new Point2D.Float(60, 45);
+
+    @Test
+    void linearGradientMatchesJdkImplementation() {
+        float[][] fractions = {{0, 1}, {0, 0.3f, 1}, {0, 0.25f, 0.5f, 1}};
+        Color[][] colors = {
+                {Color.RED, Color.BLUE},
+                {Color.RED, new Color(0, 255, 0, 128), Color.BLUE},
+                {Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE}};
+        AffineTransform transform = AffineTransform.getRotateInstance(0.3, 50, 50);
+        for (int i = 0; i < fractions.length; i++) {
+            for (MultipleGradientPaint.CycleMethod cycleMethod : MultipleGradientPaint.CycleMethod.values()) {
+                for (MultipleGradientPaint.ColorSpaceType colorSpace : MultipleGradientPaint.ColorSpaceType
+                        .values()) {
+                    Paint expected = new LinearGradientPaint(START, END, fractions[i], colors[i], cycleMethod,
+                            colorSpace, transform);
+                    Paint actual = new SVGLinearGradientPaint(START, END, fractions[i], colors[i], cycleMethod,
+                            colorSpace, transform, null);
+                    assertPixelsEqual(fill(expected), fill(actual), i + " " + cycleMethod + " " + colorSpace);
+                }
+            }
+        }
+    }
+
+    @Test
+    void paintsShareLookupTable() {
+        float[] fractions = {0, 0.4f, 1};
+        Color[] colors = {Color.RED, Color.GREEN, Color.BLUE};
+        GradientLookupTable table = GradientLookupTable.create(fractions, colors,
+                MultipleGradientPaint.ColorSpaceType.SRGB);
+        assertTrue(table.isFor(fractions, colors, MultipleGradientPaint.ColorSpaceType.SRGB));
+        assertTrue(table.isFor(fractions.clone(), colors.clone(), MultipleGradientPaint.ColorSpaceType.SRGB));
+        assertFalse(table.isFor(fractions, colors, MultipleGradientPaint.ColorSpaceType.LINEAR_RGB));
+
+        SVGLinearGradientPaint linear = new SVGLinearGradientPaint(START, END, fractions, colors,
+                MultipleGradientPaint.CycleMethod.REFLECT, MultipleGradientPaint.ColorSpaceType.SRGB,
+                new AffineTransform(), table);
+        SVGRadialGradientPaint radial = new SVGRadialGradientPaint(START, 30, START, 0, fractions, colors,
+                MultipleGradientPaint.CycleMethod.NO_CYCLE, MultipleGradientPaint.ColorSpaceType.SRGB,
+                new AffineTransform(), table);
+        assertSame(table, linear.lookupTable());
+        assertSame(table, radial.lookupTable());
+
+        SVGMultipleGradientPaintContext first = context(linear);
+        SVGMultipleGradientPaintContext second = context(radial);
+        assertSame(table.gradient, first.gradient);
+        assertSame(table.gradient, second.gradient);
+    }
+
+    @Test
+    void lookupTableIsComputedOncePerPaint() {
+        SVGRadialGradientPaint paint = new SVGRadialGradientPaint(START, 30, START, 0,
+                new float[] {0, 1}, new Color[] {Color.RED, Color.BLUE},
+                MultipleGradientPaint.CycleMethod.NO_CYCLE, MultipleGradientPaint.ColorSpaceType.SRGB,
+                new AffineTransform());
+        assertSame(context(paint).gradient, context(paint).gradient);
+    }
+
+    @Test
+    void mismatchingLookupTableIsRejected() {
+        GradientLookupTable table = GradientLookupTable.create(new float[] {0, 1},
+                new Color[] {Color.RED, Color.BLUE}, MultipleGradientPaint.ColorSpaceType.SRGB);
+        assertThrows(IllegalArgumentException.class, () -> new SVGLinearGradientPaint(START, END,
+                new float[] {0, 1}, new Color[] {Color.RED, Color.GREEN},
+                MultipleGradientPaint.CycleMethod.NO_CYCLE, MultipleGradientPaint.ColorSpaceType.SRGB,
+                new AffineTransform(), table));
+    }
+
+    private static @NotNull SVGMultipleGradientPaintContext context(@NotNull Paint paint) {
+        return (SVGMultipleGradientPaintContext) paint.createContext(null, new Rectangle(0, 0, SIZE, SIZE), null,
+                new AffineTransform(), null);
+    }
+
+    private static @NotNull BufferedImage fill(@NotNull Paint paint) {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(paint);
+        g.fillRect(0, 0, SIZE, SIZE);
+        g.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SpatialIndexTest {
+
+    @Test
+    void matchesLinearSearch() {
+        Random random = new Random(42);
+        List<Integer> values = new ArrayList<>();
+        List<Rectangle2D> bounds = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(i);
+            bounds.add(new Rectangle2D.Double(random.nextDouble() * 1000, random.nextDouble() * 1000,
+                    random.nextDouble() * 50, random.nextDouble() * 50));
+        }
+        SpatialIndex<Integer> index = new SpatialIndex<>(values, bounds);
+        assertEquals(2000, index.size());
+
+        for (int i = 0; i < 200; i++) {
+            Rectangle2D area = new Rectangle2D.Double(random.nextDouble() * 1000, random.nextDouble() * 1000,
+                    random.nextDouble() * 100, random.nextDouble() * 100);
+            List<Integer> expected = new ArrayList<>();
+            for (int j = 0; j < bounds.size(); j++) {
+                Rectangle2D b = bounds.get(j);
+                if (b.getMinX() <= area.getMaxX() && b.getMaxX() >= area.getMinX()
+                        && b.getMinY() <= area.getMaxY() && b.getMaxY() >= area.getMinY()) {
+                    expected.add(j);
+                }
+            }
+            assertEquals(expected, index.intersecting(area));
+
+            Point2D p = new Point2D.Double(area.getX(), area.getY());
+            List<Integer> expectedAtPoint = new ArrayList<>();
+            for (int j = 0; j < bounds.size(); j++) {
+                Rectangle2D b = bounds.get(j);
+                if (b.getMinX() <= p.getX() && b.getMaxX() >= p.getX()
+                        && b.getMinY() <= p.getY() && b.getMaxY() >= p.getY()) {
+                    expectedAtPoint.add(j);
+                }
+            }
+            assertEquals(expectedAtPoint, index.containing(p));
+        }
+    }
+
+    @Test
+    void emptyIndex() {
+        SpatialIndex<Object> index = new SpatialIndex<>(Collections.emptyList(), Collections.emptyList());
+        assertTrue(index.intersecting(new Rectangle2D.Double(0, 0, 10, 10)).isEmpty());
+    }
+}